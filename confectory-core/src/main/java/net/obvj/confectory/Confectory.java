@@ -55,6 +55,9 @@ public final class Confectory
      * <p>
      * <strong>Note:</strong> {@code Configuration} data stored in the global container may be
      * shared by other applications loaded in the same classpath.
+     * <p>
+     * The global container is thread-safe, so {@code Configuration} objects may be added
+     * from background threads while other threads read data from it.
      *
      * @return the global {@link ConfigurationContainer} instance
      */
@@ -16,14 +16,26 @@
 
 package net.obvj.confectory;
 
+import java.lang.ref.WeakReference;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import net.obvj.confectory.internal.helper.ConfigurationHelper;
 import net.obvj.confectory.mapper.Mapper;
 import net.obvj.confectory.merger.ConfigurationMerger;
+import net.obvj.confectory.settings.ConfectorySettings;
+import net.obvj.confectory.source.ReloadableSource;
 import net.obvj.confectory.source.Source;
 import net.obvj.jsonmerge.JsonMergeOption;
 
@@ -49,6 +61,12 @@ import net.obvj.jsonmerge.JsonMergeOption;
  * configuration shall be loaded quietly, that is, an "empty" {@code Configuration} object
  * will be instantiated even if the resource cannot be loaded (not default behavior).
  * <p>
+ * A {@code Configuration} may be reloaded from its source with {@link #reload()}. If the
+ * source is a {@link ReloadableSource} (e.g., a {@code WatchingFileSource}), the
+ * {@code Configuration} is reloaded automatically whenever the source changes. The new
+ * data is published atomically, once fully loaded, so readers never see a partially
+ * loaded state and are never blocked by a reload.
+ * <p>
  * <strong>IMPORTANT:</strong> Use a {@link ConfigurationBuilder} to create a
  * {@code Configuration} object. A builder instance can be retrieved by calling the static
  * method {@link Configuration#builder()}. For example:
@@ -78,6 +96,8 @@ import net.obvj.jsonmerge.JsonMergeOption;
 public final class Configuration<T>
         implements ConfigurationDataRetriever<T>, ConfigurationMetadataRetriever<T>
 {
+    private static final Logger LOGGER = LoggerFactory.getLogger(Configuration.class);
+
     private static final JsonMergeOption[] NO_MERGE_OPTION = new JsonMergeOption[0];
 
     private final String namespace;
@@ -87,7 +107,14 @@ public final class Configuration<T>
     private final boolean optional;
     private final boolean lazy;
 
-    private ConfigurationService<T> service;
+    /*
+     * A ReentrantLock rather than a monitor: loads may block on I/O, and a virtual thread
+     * blocked in a monitor pins its carrier thread on some JDK versions
+     */
+    private final Lock serviceLock = new ReentrantLock();
+    private volatile ConfigurationService<T> service;
+    private final Set<Runnable> reloadListeners = new CopyOnWriteArraySet<>();
+    private final Runnable sourceChangeListener;
 
     /**
      * Builds a new {@code Configuration} from the specified {@link ConfigurationBuilder}.
@@ -95,6 +122,20 @@ public final class Configuration<T>
      * @param builder the {@link ConfigurationBuilder} to be built
      */
     protected Configuration(ConfigurationBuilder<T> builder)
+    {
+        this(builder, true);
+    }
+
+    /**
+     * Builds a new {@code Configuration} from the specified {@link ConfigurationBuilder},
+     * optionally deferring the load of an eager source.
+     *
+     * @param builder   the {@link ConfigurationBuilder} to be built
+     * @param loadEager {@code true} to load an eager source immediately; {@code false} to
+     *                  defer it to the caller
+     * @since 2.7.0
+     */
+    Configuration(ConfigurationBuilder<T> builder, boolean loadEager)
     {
         namespace = builder.getNamespace();
         precedence = builder.getPrecedence();
@@ -102,13 +143,14 @@ public final class Configuration<T>
         mapper = builder.getMapper();
         optional = builder.isOptional();
         lazy = builder.isLazy();
+        sourceChangeListener = new SourceChangeListener<>(this);
 
         T bean = builder.getBean();
         if (bean != null)
         {
             service = new ConfigurationService<>(bean, mapper);
         }
-        else if (!lazy)
+        else if (!lazy && loadEager)
         {
             getService();
         }
@@ -341,16 +383,222 @@ public final class Configuration<T>
     }
 
     /**
+     * Loads the configuration source asynchronously, on the loader executor defined in
+     * {@link ConfectorySettings#getLoaderExecutor()}, if not yet loaded.
+     *
+     * @return a {@link CompletableFuture} that completes with this {@code Configuration} once
+     *         the source is loaded, or exceptionally with a
+     *         {@link ConfigurationSourceException} in the event of a failure loading a
+     *         required source
+     * @see #loadAsync(Executor)
+     * @since 2.7.0
+     */
+    public CompletableFuture<Configuration<T>> loadAsync()
+    {
+        return loadAsync(Confectory.settings().getLoaderExecutor());
+    }
+
+    /**
+     * Loads the configuration source asynchronously, on the specified executor, if not yet
+     * loaded.
+     * <p>
+     * This is useful to warm up a lazy {@code Configuration} in the background. The source
+     * is loaded at most once, even if {@code getBean()} or other data retrieval methods are
+     * called before the returned future completes. If the source is already loaded, the
+     * returned future is already completed.
+     *
+     * @param executor the executor to run the load operation; not null
+     * @return a {@link CompletableFuture} that completes with this {@code Configuration} once
+     *         the source is loaded, or exceptionally with a
+     *         {@link ConfigurationSourceException} in the event of a failure loading a
+     *         required source
+     * @throws NullPointerException if the executor is null
+     * @since 2.7.0
+     */
+    public CompletableFuture<Configuration<T>> loadAsync(Executor executor)
+    {
+        Objects.requireNonNull(executor, "the executor must not be null");
+        if (service != null)
+        {
+            return CompletableFuture.completedFuture(this);
+        }
+        return CompletableFuture.supplyAsync(() ->
+        {
+            getService();
+            return this;
+        }, executor);
+    }
+
+    /**
+     * Reloads this {@code Configuration} from its source.
+     * <p>
+     * The source is loaded and mapped in the calling thread. The new data is published
+     * atomically once fully loaded, so concurrent readers keep seeing the previous data
+     * until then, without blocking. If the source cannot be loaded, the current data is
+     * kept, even if the {@code Configuration} is optional.
+     *
+     * @throws ConfigurationSourceException in the event of a failure loading the
+     *                                      configuration source
+     * @since 2.7.0
+     */
+    public void reload()
+    {
+        serviceLock.lock();
+        try
+        {
+            service = new ConfigurationService<>(source.load(mapper), mapper);
+        }
+        finally
+        {
+            serviceLock.unlock();
+        }
+        LOGGER.debug("Configuration reloaded: {}", source);
+        reloadListeners.forEach(Runnable::run);
+    }
+
+    /**
+     * Reloads this {@code Configuration}, logging any failure instead of throwing it.
+     */
+    private void reloadQuietly()
+    {
+        try
+        {
+            reload();
+        }
+        catch (RuntimeException exception)
+        {
+            LOGGER.warn("Unable to reload configuration: {} ({})", source,
+                    ExceptionUtils.getRootCauseMessage(exception));
+            LOGGER.debug("Suppressed exception:", exception);
+        }
+    }
+
+    /**
+     * Registers a listener to be notified after each successful reload of this
+     * {@code Configuration} (e.g., to discard values cached from the previous data).
+     *
+     * @param listener the listener to be registered
+     * @since 2.7.0
+     */
+    void addReloadListener(Runnable listener)
+    {
+        reloadListeners.add(listener);
+    }
+
+    /**
+     * Removes a listener previously registered with {@link #addReloadListener(Runnable)}.
+     *
+     * @param listener the listener to be removed
+     * @since 2.7.0
+     */
+    void removeReloadListener(Runnable listener)
+    {
+        reloadListeners.remove(listener);
+    }
+
+    /**
+     * Starts reloading this {@code Configuration} automatically when its source changes, if
+     * the source is reloadable.
+     * <p>
+     * This method is called by the {@link ConfigurationBuilder} once the object is fully
+     * constructed, so that a change notification never reaches a partially initialized
+     * {@code Configuration}.
+     *
+     * @since 2.7.0
+     */
+    void attach()
+    {
+        if (source instanceof ReloadableSource)
+        {
+            ((ReloadableSource<T>) source).addChangeListener(sourceChangeListener);
+        }
+    }
+
+    /**
+     * Stops reloading this {@code Configuration} automatically when its source changes.
+     * <p>
+     * The current data is kept, and {@link #reload()} may still be called explicitly. This
+     * method has no effect if the source is not reloadable.
+     * <p>
+     * <strong>Note:</strong> A {@link ReloadableSource} holds the {@code Configuration}
+     * objects built from it only weakly, so detaching is not required for a
+     * {@code Configuration} to be garbage-collected.
+     *
+     * @since 2.7.0
+     */
+    public void detach()
+    {
+        if (source instanceof ReloadableSource)
+        {
+            ((ReloadableSource<T>) source).removeChangeListener(sourceChangeListener);
+        }
+    }
+
+    /**
+     * Returns the actual configuration, loading it on first access.
+     * <p>
+     * The source is loaded at most once, even under concurrent first access to a lazy
+     * {@code Configuration}: other threads wait for the load in progress and reuse its
+     * result. Once loaded, the service is returned without locking.
+     *
      * @return the actual configuration
      * @since 0.4.0
      */
     private ConfigurationService<T> getService()
     {
-        if (service == null)
+        ConfigurationService<T> result = service;
+        if (result == null)
+        {
+            serviceLock.lock();
+            try
+            {
+                result = service;
+                if (result == null)
+                {
+                    result = new ConfigurationService<>(source, mapper, optional);
+                    service = result;
+                }
+            }
+            finally
+            {
+                serviceLock.unlock();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * A change listener registered with a {@link ReloadableSource}, which reloads the
+     * {@code Configuration}.
+     * <p>
+     * The {@code Configuration} is held by a weak reference, so that the source does not
+     * prevent it from being garbage-collected. Once it is collected, the listener
+     * unregisters itself from the source on the next change notification.
+     */
+    private static final class SourceChangeListener<T> implements Runnable
+    {
+        private final WeakReference<Configuration<T>> configuration;
+        private final Source<T> source;
+
+        private SourceChangeListener(Configuration<T> configuration)
+        {
+            this.configuration = new WeakReference<>(configuration);
+            this.source = configuration.source;
+        }
+
+        @Override
+        public void run()
         {
-            service = new ConfigurationService<>(source, mapper, optional);
+            Configuration<T> target = configuration.get();
+            if (target != null)
+            {
+                target.reloadQuietly();
+            }
+            else
+            {
+                ((ReloadableSource<T>) source).removeChangeListener(this);
+            }
         }
-        return service;
     }
 
 }
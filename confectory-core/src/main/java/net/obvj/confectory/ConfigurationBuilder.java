@@ -19,8 +19,13 @@ package net.obvj.confectory;
 
 import static org.apache.commons.lang3.StringUtils.*;
 
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 import net.obvj.confectory.mapper.DynamicMapper;
 import net.obvj.confectory.mapper.Mapper;
+import net.obvj.confectory.settings.ConfectorySettings;
 import net.obvj.confectory.source.DynamicSource;
 import net.obvj.confectory.source.Source;
 import net.obvj.confectory.source.SourceFactory;
@@ -261,13 +266,74 @@ public class ConfigurationBuilder<T> implements ConfigurationMetadataRetriever<T
      *                                      configuration source
      */
     public Configuration<T> build()
+    {
+        prepareBuild();
+        Configuration<T> configuration = new Configuration<>(this);
+        configuration.attach();
+        return configuration;
+    }
+
+    /**
+     * Builds the target {@code Configuration} asynchronously, loading the source of an eager
+     * {@code Configuration} on the loader executor defined in
+     * {@link ConfectorySettings#getLoaderExecutor()}.
+     *
+     * @return a {@link CompletableFuture} that completes with the new {@link Configuration}
+     *         once its source is loaded, or exceptionally with a
+     *         {@link ConfigurationSourceException} in the event of a failure loading a
+     *         required source
+     * @throws IllegalStateException if the {@code Source} parameter is missing; or the
+     *                               {@code Mapper} is missing; or the {@code Mapper} could
+     *                               not be inferred
+     * @see #buildAsync(Executor)
+     * @since 2.7.0
+     */
+    public CompletableFuture<Configuration<T>> buildAsync()
+    {
+        return buildAsync(Confectory.settings().getLoaderExecutor());
+    }
+
+    /**
+     * Builds the target {@code Configuration} asynchronously.
+     * <p>
+     * The builder parameters are validated immediately, in the calling thread. The
+     * configuration source of an eager {@code Configuration} is then loaded on the specified
+     * executor. A lazy {@code Configuration} does not require loading, so the returned
+     * future is already completed.
+     *
+     * @param executor the executor to load the configuration source; not null
+     * @return a {@link CompletableFuture} that completes with the new {@link Configuration}
+     *         once its source is loaded, or exceptionally with a
+     *         {@link ConfigurationSourceException} in the event of a failure loading a
+     *         required source
+     * @throws NullPointerException  if the executor is null
+     * @throws IllegalStateException if the {@code Source} parameter is missing; or the
+     *                               {@code Mapper} is missing; or the {@code Mapper} could
+     *                               not be inferred
+     * @since 2.7.0
+     */
+    public CompletableFuture<Configuration<T>> buildAsync(Executor executor)
+    {
+        Objects.requireNonNull(executor, "the executor must not be null");
+        prepareBuild();
+        Configuration<T> configuration = new Configuration<>(this, false);
+        configuration.attach();
+        return lazy ? CompletableFuture.completedFuture(configuration) : configuration.loadAsync(executor);
+    }
+
+    /**
+     * Validates the builder parameters and fills default values before build.
+     *
+     * @throws IllegalStateException if the {@code Source} parameter is missing; or the
+     *                               {@code Mapper} is missing; or the {@code Mapper} could
+     *                               not be inferred
+     */
+    private void prepareBuild()
     {
         requireNonNullForBuild(source, "The configuration source must not be null");
         evaluateMapper();
 
         namespace = defaultString(namespace);
-
-        return new Configuration<>(this);
     }
 
     /**
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 obvj.net
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.obvj.confectory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Builds multiple {@code Configuration} objects in parallel, so that the sources of eager
+ * configurations are loaded and mapped concurrently.
+ *
+ * @author oswaldo.bapvic.jr (Oswaldo Junior)
+ * @since 2.7.0
+ *
+ * @see ConfigurationContainer#load(Collection, Executor)
+ */
+final class ConfigurationBulkLoader
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConfigurationBulkLoader.class);
+
+    private ConfigurationBulkLoader()
+    {
+        throw new IllegalStateException("Instantiation not allowed");
+    }
+
+    /**
+     * Builds all of the specified {@code ConfigurationBuilder} objects on the specified
+     * executor and waits until all of them are complete.
+     * <p>
+     * Failures of required configurations are collected and reported together, after all
+     * builders have completed. Any unexpected failure of an optional configuration is
+     * logged, and the corresponding object is skipped.
+     *
+     * @param builders the {@link ConfigurationBuilder} objects to be built; not null
+     * @param executor the executor to run the builders; not null
+     * @return a list containing the {@code Configuration} objects built successfully
+     * @throws ConfigurationException if at least one required configuration failed; the
+     *                                first failure is set as the cause and the remaining
+     *                                ones are added as suppressed exceptions
+     */
+    static List<Configuration<?>> buildAll(Collection<? extends ConfigurationBuilder<?>> builders,
+            Executor executor)
+    {
+        Objects.requireNonNull(builders, "the builders must not be null");
+        Objects.requireNonNull(executor, "the executor must not be null");
+
+        List<ConfigurationBuilder<?>> builderList = new ArrayList<>(builders);
+        List<CompletableFuture<Configuration<?>>> futures = new ArrayList<>(builderList.size());
+        for (ConfigurationBuilder<?> builder : builderList)
+        {
+            futures.add(submit(builder, executor));
+        }
+
+        List<Configuration<?>> configurations = new ArrayList<>(futures.size());
+        List<Throwable> failures = new ArrayList<>();
+        for (int i = 0; i < futures.size(); i++)
+        {
+            try
+            {
+                configurations.add(futures.get(i).join());
+            }
+            catch (CompletionException exception)
+            {
+                handleFailure(builderList.get(i), exception.getCause(), failures);
+            }
+            catch (RuntimeException exception)
+            {
+                handleFailure(builderList.get(i), exception, failures);
+            }
+        }
+
+        if (!failures.isEmpty())
+        {
+            ConfigurationException exception = new ConfigurationException(failures.get(0),
+                    "Unable to load %s of %s configuration(s)", failures.size(), builderList.size());
+            failures.stream().skip(1).forEach(exception::addSuppressed);
+            throw exception;
+        }
+        return configurations;
+    }
+
+    /**
+     * Submits the specified builder to the executor. If the executor rejects the task, a
+     * failed future is returned instead, so that the failure is handled along with the
+     * others, and the tasks already submitted are still waited for.
+     */
+    private static CompletableFuture<Configuration<?>> submit(ConfigurationBuilder<?> builder, Executor executor)
+    {
+        try
+        {
+            return CompletableFuture.supplyAsync(builder::build, executor);
+        }
+        catch (RuntimeException exception)
+        {
+            return CompletableFuture.failedFuture(exception);
+        }
+    }
+
+    private static void handleFailure(ConfigurationBuilder<?> builder, Throwable failure, List<Throwable> failures)
+    {
+        if (builder.isOptional())
+        {
+            LOGGER.warn("Unable to load optional configuration: {} ({})", builder.getSource(),
+                    ExceptionUtils.getRootCauseMessage(failure));
+            LOGGER.debug("Suppressed exception:", failure);
+        }
+        else
+        {
+            failures.add(failure);
+        }
+    }
+
+}
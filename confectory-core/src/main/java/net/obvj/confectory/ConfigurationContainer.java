@@ -16,9 +16,12 @@
 
 package net.obvj.confectory;
 
+import java.lang.ref.WeakReference;
 import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
 import java.util.function.Function;
-import java.util.stream.Stream;
 
 import org.apache.commons.lang3.ObjectUtils;
 
@@ -38,7 +41,8 @@ import net.obvj.confectory.settings.ConfectorySettings;
  * {@code Configuration} objects, pass them as "var-args".
  * <p>
  * Use the {@code add(Configuration)} method at any time to register new objects inside
- * the container.
+ * the container. To load many {@code Configuration} objects in parallel, use
+ * {@link #load(Collection, Executor)}.
  * <p>
  * To retrieve {@code Configuration} data, use any of the getter methods, specifying a
  * namespace and key.
@@ -58,6 +62,12 @@ import net.obvj.confectory.settings.ConfectorySettings;
  * other words, only "container" objects which values can be accessed using either a key
  * or path expression (e.g. {@code JSONPath}). POJO-based {@code Configuration} objects
  * are <strong>not</strong> supported inside a the {@link ConfigurationContainer}.
+ * <p>
+ * This class is thread-safe. The container state is kept in immutable snapshots,
+ * replaced atomically on every change (copy-on-write). So, readers never lock and always
+ * see a consistent state, and adding {@code Configuration} objects never blocks readers.
+ * Note, however, that each change copies the container state, so this class is best
+ * suited for workloads with many more reads than writes.
  *
  * @author oswaldo.bapvic.jr (Oswaldo Junior)
  * @since 0.1.0
@@ -69,8 +79,8 @@ public class ConfigurationContainer
 {
     protected static final String DEFAULT_NAMESPACE = "";
 
-    private Map<String, Set<Configuration<?>>> configMap = new HashMap<>();
-    private DataFetchStrategy dataFetchStrategy;
+    private final AtomicReference<State> state = new AtomicReference<>();
+    private final Runnable cacheInvalidator = new CacheInvalidator(this);
 
     /**
      * Builds a new {@code ConfigurationContainer} with an arbitrary number of preset
@@ -99,9 +109,62 @@ public class ConfigurationContainer
     public ConfigurationContainer(DataFetchStrategy dataFetchStrategy, Configuration<?>... configs)
     {
         ConfectorySettings settings = Confectory.settings();
-        setDataFetchStrategy(ObjectUtils.defaultIfNull(dataFetchStrategy, settings.getDataFetchStrategy()));
+        List<Configuration<?>> configurations = Arrays.asList(configs);
+        state.set(new State(ConfigurationIndex.EMPTY.with(configurations),
+                ObjectUtils.defaultIfNull(dataFetchStrategy, settings.getDataFetchStrategy()), false));
+        listenToReloads(configurations);
+    }
+
+    /**
+     * Builds a new {@code ConfigurationContainer} with the {@code Configuration} objects
+     * produced by the specified builders, which are built in parallel.
+     * <p>
+     * The sources of eager configurations are loaded and mapped concurrently, on the loader
+     * executor defined in {@link ConfectorySettings#getLoaderExecutor()}. The method returns
+     * once all builders have completed.
+     * <p>
+     * Optional configurations whose sources cannot be loaded are added empty, as with
+     * {@link #add(Configuration)}. Failures of required configurations are collected and
+     * reported together, after all builders have completed.
+     *
+     * @param builders the {@link ConfigurationBuilder} objects to be built; not null
+     * @return a new {@code ConfigurationContainer} with the loaded {@code Configuration}
+     *         objects
+     * @throws NullPointerException   if the collection of builders is null
+     * @throws ConfigurationException if at least one required configuration could not be
+     *                                built; the first failure is set as the cause and the
+     *                                remaining ones are added as suppressed exceptions
+     * @since 2.7.0
+     */
+    public static ConfigurationContainer load(Collection<? extends ConfigurationBuilder<?>> builders)
+    {
+        return load(builders, Confectory.settings().getLoaderExecutor());
+    }
 
-        Arrays.stream(configs).forEach(this::add);
+    /**
+     * Builds a new {@code ConfigurationContainer} with the {@code Configuration} objects
+     * produced by the specified builders, which are built in parallel on the specified
+     * executor.
+     * <p>
+     * The method returns once all builders have completed. Optional configurations whose
+     * sources cannot be loaded are added empty, as with {@link #add(Configuration)}.
+     * Failures of required configurations are collected and reported together.
+     *
+     * @param builders the {@link ConfigurationBuilder} objects to be built; not null
+     * @param executor the executor to run the builders; not null
+     * @return a new {@code ConfigurationContainer} with the loaded {@code Configuration}
+     *         objects
+     * @throws NullPointerException   if either parameter is null
+     * @throws ConfigurationException if at least one required configuration could not be
+     *                                built; the first failure is set as the cause and the
+     *                                remaining ones are added as suppressed exceptions
+     * @since 2.7.0
+     */
+    public static ConfigurationContainer load(Collection<? extends ConfigurationBuilder<?>> builders,
+            Executor executor)
+    {
+        List<Configuration<?>> configurations = ConfigurationBulkLoader.buildAll(builders, executor);
+        return new ConfigurationContainer(configurations.toArray(new Configuration<?>[0]));
     }
 
     /**
@@ -111,7 +174,7 @@ public class ConfigurationContainer
      */
     public DataFetchStrategy getDataFetchStrategy()
     {
-        return dataFetchStrategy;
+        return state.get().dataFetchStrategy;
     }
 
     /**
@@ -122,7 +185,40 @@ public class ConfigurationContainer
      */
     public void setDataFetchStrategy(DataFetchStrategy strategy)
     {
-        dataFetchStrategy = Objects.requireNonNull(strategy, "the DataFetchStrategy must not be null");
+        Objects.requireNonNull(strategy, "the DataFetchStrategy must not be null");
+        state.updateAndGet(current -> new State(current.index, strategy, current.isCacheEnabled()));
+    }
+
+    /**
+     * Returns {@code true} if this container caches the values it resolves.
+     *
+     * @return {@code true} if the resolution cache is enabled; {@code false} otherwise
+     * @since 2.7.0
+     * @see #setCacheEnabled(boolean)
+     */
+    public boolean isCacheEnabled()
+    {
+        return state.get().isCacheEnabled();
+    }
+
+    /**
+     * Enables or disables the resolution cache of this container (disabled by default).
+     * <p>
+     * When enabled, the container remembers the value resolved for each combination of
+     * namespace, key and target type (including "not found" results), so that subsequent
+     * reads of the same key skip the evaluation of the {@code Configuration} objects.
+     * <p>
+     * The cache is discarded whenever the container changes (i.e., when a
+     * {@code Configuration} is added or reloaded, the container is cleared, or the
+     * {@link DataFetchStrategy} is modified).
+     *
+     * @param enabled {@code true} to enable the resolution cache; {@code false} to disable
+     *                it and discard any cached values
+     * @since 2.7.0
+     */
+    public void setCacheEnabled(boolean enabled)
+    {
+        state.updateAndGet(current -> new State(current.index, current.dataFetchStrategy, enabled));
     }
 
     /**
@@ -132,9 +228,7 @@ public class ConfigurationContainer
      */
     public void add(Configuration<?> configuration)
     {
-        String namespace = parseNamespace(configuration.getNamespace());
-        Set<Configuration<?>> configSet = configMap.computeIfAbsent(namespace, k -> new HashSet<>());
-        configSet.add(configuration);
+        add(Collections.singleton(configuration));
     }
 
     /**
@@ -148,16 +242,58 @@ public class ConfigurationContainer
     {
         if (source != null)
         {
-            source.configMap.values().stream().flatMap(Collection::stream).forEach(this::add);
+            add(Arrays.asList(source.state.get().index.allUnsorted()));
         }
     }
 
+    /**
+     * Publishes a new state containing the specified {@code Configuration} objects, unless
+     * all of them are already present in this container.
+     *
+     * @param configurations the {@link Configuration} objects to be added
+     */
+    private void add(Collection<? extends Configuration<?>> configurations)
+    {
+        listenToReloads(configurations);
+        state.updateAndGet(current ->
+        {
+            ConfigurationIndex newIndex = current.index.with(configurations);
+            return newIndex == current.index ? current
+                    : new State(newIndex, current.dataFetchStrategy, current.isCacheEnabled());
+        });
+    }
+
+    /**
+     * Registers this container to be notified when any of the specified
+     * {@code Configuration} objects is reloaded.
+     *
+     * @param configurations the {@link Configuration} objects to be observed
+     */
+    private void listenToReloads(Collection<? extends Configuration<?>> configurations)
+    {
+        configurations.stream().filter(Objects::nonNull)
+                .forEach(configuration -> configuration.addReloadListener(cacheInvalidator));
+    }
+
+    /**
+     * Discards the resolution cache, if enabled, after a {@code Configuration} is reloaded.
+     */
+    private void invalidateCache()
+    {
+        state.updateAndGet(current -> current.isCacheEnabled()
+                ? new State(current.index, current.dataFetchStrategy, true)
+                : current);
+    }
+
     /**
      * Removes all of the {@code Configuration} objects from this container.
      */
     public void clear()
     {
-        configMap.clear();
+        State previous = state.getAndUpdate(current -> new State(ConfigurationIndex.EMPTY,
+                current.dataFetchStrategy, current.isCacheEnabled()));
+        Arrays.stream(previous.index.allUnsorted())
+                .forEach(configuration -> configuration.removeReloadListener(cacheInvalidator));
     }
 
     /**
@@ -187,7 +323,7 @@ public class ConfigurationContainer
      */
     public Boolean getBoolean(String namespace, String key)
     {
-        return getValue(namespace, config -> config.getBoolean(key));
+        return getValue(namespace, key, Boolean.class, Configuration::getBoolean);
     }
 
     /**
@@ -217,7 +353,7 @@ public class ConfigurationContainer
      */
     public Integer getInteger(String namespace, String key)
     {
-        return getValue(namespace, config -> config.getInteger(key));
+        return getValue(namespace, key, Integer.class, Configuration::getInteger);
     }
 
     /**
@@ -247,7 +383,7 @@ public class ConfigurationContainer
      */
     public Long getLong(String namespace, String key)
     {
-        return getValue(namespace, config -> config.getLong(key));
+        return getValue(namespace, key, Long.class, Configuration::getLong);
     }
 
     /**
@@ -277,7 +413,7 @@ public class ConfigurationContainer
      */
     public Double getDouble(String namespace, String key)
     {
-        return getValue(namespace, config -> config.getDouble(key));
+        return getValue(namespace, key, Double.class, Configuration::getDouble);
     }
 
     /**
@@ -307,45 +443,58 @@ public class ConfigurationContainer
      */
     public String getString(String namespace, String key)
     {
-        return getValue(namespace, config -> config.getString(key));
+        return getValue(namespace, key, String.class, Configuration::getString);
     }
 
     /**
-     * Template method for retrieving properties from the {@code configMap}.
+     * Template method for retrieving properties by key, using the resolution cache if
+     * enabled.
      *
      * @param <T>          the value return type
      * @param namespace    the namespace which property is to be fetched
+     * @param key          the object key (or path)
+     * @param type         the value return type, used for caching
      * @param mainFunction the main data fetch function; applies a particular method to the
-     *                     {@code Configuration} objects in process
+     *                     {@code Configuration} objects in process with the specified key
      *
      * @return the value evaluated by the {@code mainFunction}, or {@code null} if not found
+     * @since 2.7.0
      */
-    protected <T> T getValue(String namespace, Function<Configuration<?>, T> mainFunction)
+    protected <T> T getValue(String namespace, String key, Class<T> type,
+            BiFunction<Configuration<?>, String, T> mainFunction)
     {
-        Iterator<Configuration<?>> iterator = getConfigurationStream(namespace).iterator();
-        while (iterator.hasNext())
+        State current = state.get();
+        ConfigurationValueCache cache = current.cache;
+        if (cache == null || key == null)
         {
-            Configuration<?> config = iterator.next();
-            T value = mainFunction.apply(config);
+            return current.getValue(namespace, config -> mainFunction.apply(config, key));
+        }
 
-            if (value != null)
-            {
-                return value;
-            }
+        String cacheNamespace = parseNamespace(namespace);
+        Object cached = cache.get(cacheNamespace, key, type);
+        if (cached != null)
+        {
+            return ConfigurationValueCache.isNotFound(cached) ? null : type.cast(cached);
         }
-        return null;
+
+        T value = current.getValue(namespace, config -> mainFunction.apply(config, key));
+        cache.put(cacheNamespace, key, type, value);
+        return value;
     }
 
     /**
-     * Retrieves a stream of {@link Configuration} objects on a given namespace.
+     * Template method for retrieving properties from the {@code configMap}.
      *
-     * @param namespace the namespace to be searched
-     * @return a stream of {@link Configuration} objects or an empty stream, never
-     *         {@code null}
+     * @param <T>          the value return type
+     * @param namespace    the namespace which property is to be fetched
+     * @param mainFunction the main data fetch function; applies a particular method to the
+     *                     {@code Configuration} objects in process
+     *
+     * @return the value evaluated by the {@code mainFunction}, or {@code null} if not found
      */
-    private Stream<Configuration<?>> getConfigurationStream(String namespace)
+    protected <T> T getValue(String namespace, Function<Configuration<?>, T> mainFunction)
     {
-        return dataFetchStrategy.getConfigurationStream(namespace, configMap);
+        return state.get().getValue(namespace, mainFunction);
     }
 
     /**
@@ -356,7 +505,7 @@ public class ConfigurationContainer
      * @return the passed namespace, or the value of {@code DEFAULT_NAMESPACE}, never
      *         {@code null}
      */
-    private String parseNamespace(String namespace)
+    private static String parseNamespace(String namespace)
     {
         return Objects.toString(namespace, DEFAULT_NAMESPACE);
     }
@@ -369,7 +518,7 @@ public class ConfigurationContainer
      */
     public long size()
     {
-        return configMap.values().stream().mapToInt(Set::size).sum();
+        return state.get().index.allUnsorted().length;
     }
 
     /**
@@ -382,7 +531,7 @@ public class ConfigurationContainer
      */
     public long size(String namespace)
     {
-        return configMap.getOrDefault(parseNamespace(namespace), Collections.emptySet()).size();
+        return state.get().index.size(parseNamespace(namespace));
     }
 
     /**
@@ -393,17 +542,102 @@ public class ConfigurationContainer
      */
     public boolean isEmpty()
     {
-        return configMap.isEmpty();
+        return state.get().index.namespaces().isEmpty();
     }
 
     /**
      * Returns all of the namespaces defined inside this container.
      *
-     * @return a set of namespaces
+     * @return an unmodifiable set of namespaces, as of the time of the call
      */
     public Collection<String> getNamespaces()
     {
-        return configMap.keySet();
+        return state.get().index.namespaces();
+    }
+
+    /**
+     * An immutable snapshot of the container state, which is replaced as a whole whenever
+     * the container changes.
+     *
+     * @since 2.7.0
+     */
+    private static final class State
+    {
+        private final ConfigurationIndex index;
+        private final DataFetchStrategy dataFetchStrategy;
+        private final ConfigurationValueCache cache;
+
+        /**
+         * Builds a new state. If the resolution cache is enabled, a new, empty cache is
+         * assigned, so that values resolved in previous states are discarded.
+         *
+         * @param index             the {@link ConfigurationIndex} to set
+         * @param dataFetchStrategy the {@link DataFetchStrategy} to set
+         * @param cacheEnabled      whether or not the resolution cache is enabled
+         */
+        private State(ConfigurationIndex index, DataFetchStrategy dataFetchStrategy, boolean cacheEnabled)
+        {
+            this.index = index;
+            this.dataFetchStrategy = dataFetchStrategy;
+            this.cache = cacheEnabled ? new ConfigurationValueCache() : null;
+        }
+
+        private boolean isCacheEnabled()
+        {
+            return cache != null;
+        }
+
+        /**
+         * Applies the specified function to the {@code Configuration} objects of this state,
+         * in the order determined by the {@link DataFetchStrategy}, until a non-null value is
+         * found.
+         *
+         * @param <T>          the value return type
+         * @param namespace    the namespace which property is to be fetched
+         * @param mainFunction the main data fetch function
+         * @return the value evaluated by the {@code mainFunction}, or {@code null} if not
+         *         found
+         */
+        private <T> T getValue(String namespace, Function<Configuration<?>, T> mainFunction)
+        {
+            for (Configuration<?> config : dataFetchStrategy.getConfigurations(namespace, index))
+            {
+                T value = mainFunction.apply(config);
+
+                if (value != null)
+                {
+                    return value;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * A reload listener that discards the resolution cache of a container.
+     * <p>
+     * The container is referenced weakly, so that a {@code Configuration} that outlives the
+     * container (e.g., because it is still referenced by a {@code ReloadableSource}) does
+     * not prevent the container from being garbage-collected.
+     */
+    private static final class CacheInvalidator implements Runnable
+    {
+        private final WeakReference<ConfigurationContainer> container;
+
+        private CacheInvalidator(ConfigurationContainer container)
+        {
+            this.container = new WeakReference<>(container);
+        }
+
+        @Override
+        public void run()
+        {
+            ConfigurationContainer target = container.get();
+            if (target != null)
+            {
+                target.invalidateCache();
+            }
+        }
     }
 
 }
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2026 obvj.net
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.obvj.confectory;
+
+import java.util.*;
+
+import net.obvj.confectory.util.ConfigurationComparator;
+
+/**
+ * An immutable snapshot of the {@code Configuration} objects stored in a
+ * {@link ConfigurationContainer}, indexed by namespace and pre-sorted by precedence.
+ * <p>
+ * The index is rebuilt by the container whenever its contents change, so that the
+ * {@link DataFetchStrategy} in scope can select the candidate {@code Configuration}
+ * objects for a key without allocating streams or sorting them on every read.
+ * <p>
+ * Since instances are never modified after construction, they can be safely shared
+ * between threads once published.
+ * <p>
+ * <strong>Note:</strong> The arrays returned by this class are shared and must
+ * <b>not</b> be modified by the caller.
+ *
+ * @author oswaldo.bapvic.jr (Oswaldo Junior)
+ * @since 2.7.0
+ *
+ * @see ConfigurationContainer
+ * @see DataFetchStrategy
+ */
+final class ConfigurationIndex
+{
+    private static final Configuration<?>[] NO_CONFIGURATION = new Configuration<?>[0];
+    private static final Comparator<Configuration<?>> COMPARATOR = new ConfigurationComparator();
+
+    /**
+     * An index with no {@code Configuration} objects.
+     */
+    static final ConfigurationIndex EMPTY = new ConfigurationIndex(Collections.emptyMap());
+
+    private final Map<String, Set<Configuration<?>>> configMap;
+    private final Map<String, Configuration<?>[]> unsortedByNamespace;
+    private final Map<String, Configuration<?>[]> sortedByNamespace;
+    private final Configuration<?>[] allUnsorted;
+    private final Configuration<?>[] allSorted;
+
+    /**
+     * Builds a new index from the specified map of {@code Configuration} objects grouped by
+     * namespace.
+     *
+     * @param configMap the source map; not null
+     */
+    ConfigurationIndex(Map<String, ? extends Collection<Configuration<?>>> configMap)
+    {
+        Map<String, Set<Configuration<?>>> copy = new HashMap<>();
+        Map<String, Configuration<?>[]> unsorted = new HashMap<>();
+        Map<String, Configuration<?>[]> sorted = new HashMap<>();
+        List<Configuration<?>> all = new ArrayList<>();
+
+        configMap.forEach((namespace, configs) ->
+                copy.put(namespace, Collections.unmodifiableSet(new HashSet<>(configs))));
+
+        copy.forEach((namespace, configs) ->
+        {
+            Configuration<?>[] array = configs.toArray(NO_CONFIGURATION);
+            unsorted.put(namespace, array);
+            sorted.put(namespace, sort(array));
+            all.addAll(configs);
+        });
+
+        this.configMap = Collections.unmodifiableMap(copy);
+        unsortedByNamespace = unsorted;
+        sortedByNamespace = sorted;
+        allUnsorted = all.toArray(NO_CONFIGURATION);
+        allSorted = sort(allUnsorted);
+    }
+
+    /**
+     * Returns a new index containing all {@code Configuration} objects of this index plus the
+     * specified ones. This index is not modified.
+     *
+     * @param configurations the {@code Configuration} objects to be added; not null
+     * @return a new index, or this same instance if all of the specified objects are already
+     *         present
+     */
+    ConfigurationIndex with(Collection<? extends Configuration<?>> configurations)
+    {
+        Map<String, Set<Configuration<?>>> newConfigMap = new HashMap<>(configMap);
+        boolean changed = false;
+        for (Configuration<?> configuration : configurations)
+        {
+            String namespace = Objects.toString(configuration.getNamespace(),
+                    ConfigurationContainer.DEFAULT_NAMESPACE);
+            Set<Configuration<?>> configs = newConfigMap.computeIfAbsent(namespace, k -> new HashSet<>());
+            if (!configs.contains(configuration))
+            {
+                configs = new HashSet<>(configs);
+                configs.add(configuration);
+                newConfigMap.put(namespace, configs);
+                changed = true;
+            }
+        }
+        return changed ? new ConfigurationIndex(newConfigMap) : this;
+    }
+
+    /**
+     * Returns a sorted copy of the specified array. The sort is stable, so objects with the
+     * same precedence keep their relative order.
+     *
+     * @param configs the array to be sorted
+     * @return a new array sorted from the highest to the lowest precedence
+     */
+    private static Configuration<?>[] sort(Configuration<?>[] configs)
+    {
+        Configuration<?>[] copy = configs.clone();
+        Arrays.sort(copy, COMPARATOR);
+        return copy;
+    }
+
+    /**
+     * Returns the {@code Configuration} objects associated with the specified namespace, in
+     * no particular order.
+     *
+     * @param namespace the namespace to be searched; not null
+     * @return an array of {@code Configuration} objects, or an empty array; never
+     *         {@code null}
+     */
+    Configuration<?>[] unsorted(String namespace)
+    {
+        return unsortedByNamespace.getOrDefault(namespace, NO_CONFIGURATION);
+    }
+
+    /**
+     * Returns the {@code Configuration} objects associated with the specified namespace,
+     * sorted from the highest to the lowest precedence.
+     *
+     * @param namespace the namespace to be searched; not null
+     * @return an array of {@code Configuration} objects, or an empty array; never
+     *         {@code null}
+     */
+    Configuration<?>[] sorted(String namespace)
+    {
+        return sortedByNamespace.getOrDefault(namespace, NO_CONFIGURATION);
+    }
+
+    /**
+     * Returns all {@code Configuration} objects in this index, regardless of their
+     * namespaces, in no particular order.
+     *
+     * @return an array of {@code Configuration} objects, or an empty array; never
+     *         {@code null}
+     */
+    Configuration<?>[] allUnsorted()
+    {
+        return allUnsorted;
+    }
+
+    /**
+     * Returns all {@code Configuration} objects in this index, regardless of their
+     * namespaces, sorted from the highest to the lowest precedence.
+     *
+     * @return an array of {@code Configuration} objects, or an empty array; never
+     *         {@code null}
+     */
+    Configuration<?>[] allSorted()
+    {
+        return allSorted;
+    }
+
+    /**
+     * Returns the number of {@code Configuration} objects associated with the specified
+     * namespace.
+     *
+     * @param namespace the namespace to be tested; not null
+     * @return the number of {@code Configuration} objects in the namespace
+     */
+    int size(String namespace)
+    {
+        return unsorted(namespace).length;
+    }
+
+    /**
+     * Returns all of the namespaces defined in this index.
+     *
+     * @return an unmodifiable set of namespaces
+     */
+    Set<String> namespaces()
+    {
+        return configMap.keySet();
+    }
+
+}
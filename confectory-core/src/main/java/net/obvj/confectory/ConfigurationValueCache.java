@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 obvj.net
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.obvj.confectory;
+
+import java.util.Objects;
+
+import net.obvj.confectory.util.BoundedCache;
+
+/**
+ * A bounded cache of values resolved by a {@link ConfigurationContainer}, keyed by
+ * namespace, key and target type.
+ * <p>
+ * Both found and "not found" results are remembered, so that subsequent reads of the
+ * same key skip the evaluation of the {@code Configuration} objects in the container.
+ * The maximum number of entries is defined by
+ * {@link net.obvj.confectory.settings.ConfectorySettings#setValueCacheSize(int)}; when
+ * it is reached, the least recently used entries are evicted.
+ * <p>
+ * A cache instance is bound to a single state of the container. The container discards
+ * the whole instance (instead of removing single entries) whenever its contents or
+ * data-fetch strategy change.
+ *
+ * @author oswaldo.bapvic.jr (Oswaldo Junior)
+ * @since 2.7.0
+ *
+ * @see ConfigurationContainer
+ */
+final class ConfigurationValueCache
+{
+    /**
+     * A placeholder for values not found in the container.
+     */
+    private static final Object NOT_FOUND = new Object();
+
+    private final BoundedCache<Key, Object> values = new BoundedCache<>();
+
+    /**
+     * Returns the cached value associated with the specified namespace, key and type.
+     *
+     * @param namespace the namespace; not null
+     * @param key       the object key (or path); not null
+     * @param type      the target type; not null
+     * @return the cached value, {@link #NOT_FOUND} if the key is known to be absent, or
+     *         {@code null} if the value is not cached
+     */
+    Object get(String namespace, String key, Class<?> type)
+    {
+        return values.get(new Key(type, namespace, key));
+    }
+
+    /**
+     * Stores a resolved value in this cache, unless caching is disabled (i.e., the maximum
+     * value cache size is zero).
+     *
+     * @param namespace the namespace; not null
+     * @param key       the object key (or path); not null
+     * @param type      the target type; not null
+     * @param value     the resolved value; {@code null} indicates "not found"
+     */
+    void put(String namespace, String key, Class<?> type, Object value)
+    {
+        int limit = Confectory.settings().getValueCacheSize();
+        if (limit > 0)
+        {
+            values.putIfAbsent(new Key(type, namespace, key), value == null ? NOT_FOUND : value, limit);
+        }
+    }
+
+    /**
+     * @return the number of values currently in this cache
+     */
+    int size()
+    {
+        return values.size();
+    }
+
+    /**
+     * Checks whether the specified object, as returned by {@link #get(String, String, Class)},
+     * represents a value known to be absent.
+     *
+     * @param cached the object to be tested
+     * @return {@code true} if the cached object represents "not found"
+     */
+    static boolean isNotFound(Object cached)
+    {
+        return cached == NOT_FOUND;
+    }
+
+    /**
+     * A composite cache key.
+     */
+    private static final class Key
+    {
+        private final Class<?> type;
+        private final String namespace;
+        private final String key;
+        private final int hashCode;
+
+        private Key(Class<?> type, String namespace, String key)
+        {
+            this.type = type;
+            this.namespace = namespace;
+            this.key = key;
+            this.hashCode = Objects.hash(type, namespace, key);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object other)
+        {
+            if (this == other)
+            {
+                return true;
+            }
+            if (!(other instanceof Key))
+            {
+                return false;
+            }
+            Key otherKey = (Key) other;
+            return type == otherKey.type
+                    && key.equals(otherKey.key)
+                    && namespace.equals(otherKey.namespace);
+        }
+    }
+
+}
@@ -16,8 +16,7 @@
 
 package net.obvj.confectory;
 
-import java.util.*;
-import java.util.stream.Stream;
+import java.util.Objects;
 
 import org.apache.commons.lang3.StringUtils;
 
@@ -48,11 +47,9 @@ public enum DataFetchStrategy
     STRICT
     {
         @Override
-        Stream<Configuration<?>> getConfigurationStream(String namespace,
-                Map<String, Set<Configuration<?>>> configMap)
+        Configuration<?>[] getConfigurations(String namespace, ConfigurationIndex index)
         {
-            return STRICT_UNSORTED.getConfigurationStream(namespace, configMap)
-                    .sorted(new ConfigurationComparator());
+            return index.sorted(parseNamespace(namespace));
         }
     },
 
@@ -68,11 +65,9 @@ public enum DataFetchStrategy
     STRICT_UNSORTED
     {
         @Override
-        Stream<Configuration<?>> getConfigurationStream(String namespace,
-                Map<String, Set<Configuration<?>>> configMap)
+        Configuration<?>[] getConfigurations(String namespace, ConfigurationIndex index)
         {
-            return configMap.getOrDefault(parseNamespace(namespace), Collections.emptySet())
-                    .stream();
+            return index.unsorted(parseNamespace(namespace));
         }
     },
 
@@ -86,16 +81,13 @@ public enum DataFetchStrategy
     LENIENT
     {
         @Override
-        Stream<Configuration<?>> getConfigurationStream(String namespace,
-                Map<String, Set<Configuration<?>>> configMap)
+        Configuration<?>[] getConfigurations(String namespace, ConfigurationIndex index)
         {
             if (StringUtils.isEmpty(namespace))
             {
-                // Flatten and re-order the configuration list
-                return LENIENT_UNSORTED.getConfigurationStream(namespace, configMap)
-                        .sorted(new ConfigurationComparator());
+                return index.allSorted();
             }
-            return STRICT.getConfigurationStream(namespace, configMap);
+            return STRICT.getConfigurations(namespace, index);
         }
     },
 
@@ -108,31 +100,31 @@ public enum DataFetchStrategy
     LENIENT_UNSORTED
     {
         @Override
-        Stream<Configuration<?>> getConfigurationStream(String namespace,
-                Map<String, Set<Configuration<?>>> configMap)
+        Configuration<?>[] getConfigurations(String namespace, ConfigurationIndex index)
         {
             if (StringUtils.isEmpty(namespace))
             {
-                // Flatten and re-order the configuration list
-                return configMap.values().stream()
-                        .flatMap(Collection::stream);
+                return index.allUnsorted();
             }
-            return STRICT_UNSORTED.getConfigurationStream(namespace, configMap);
+            return STRICT_UNSORTED.getConfigurations(namespace, index);
         }
     };
 
 
     /**
-     * Retrieves a stream of sorted {@link Configuration} objects based on the specified
-     * {@code namespace}.
+     * Retrieves the {@link Configuration} objects to be searched for the specified
+     * {@code namespace}, in the order determined by this strategy.
+     * <p>
+     * The returned array is shared by the {@link ConfigurationIndex} and must not be
+     * modified.
      *
      * @param namespace the namespace to be searched
-     * @param configMap the source map
-     * @return a stream of {@link Configuration} objects according to the selected strategy,
+     * @param index     the pre-sorted index of {@code Configuration} objects
+     * @return an array of {@link Configuration} objects according to the selected strategy,
      *         never {@code null}
+     * @since 2.7.0
      */
-    abstract Stream<Configuration<?>> getConfigurationStream(String namespace,
-            Map<String, Set<Configuration<?>>> configMap);
+    abstract Configuration<?>[] getConfigurations(String namespace, ConfigurationIndex index);
 
     /**
      * Returns either the passed namespace, or a default value, if the passed argument is
@@ -0,0 +1,290 @@
+/*
+ * Copyright 2026 obvj.net
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.obvj.confectory.internal.helper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.jayway.jsonpath.InvalidPathException;
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.spi.json.JsonProvider;
+
+/**
+ * A compiled JSONPath expression that, in addition to the {@link JsonPath} object,
+ * retains the sequence of property names and array indexes of <b>simple, definite</b>
+ * paths, such as {@code $.server.port}, {@code server.port} or
+ * {@code $['servers'][0].name}.
+ * <p>
+ * Simple paths can be evaluated by walking the JSON structure directly through a
+ * {@link JsonProvider}, bypassing the JSONPath engine and the allocation of a result
+ * list. Expressions containing wildcards, deep scans, filters, functions, slices or
+ * multiple properties/indexes are not simple, and must be evaluated with the
+ * {@link JsonPath} object.
+ *
+ * @author oswaldo.bapvic.jr (Oswaldo Junior)
+ * @since 2.7.0
+ */
+public final class CompiledJsonPath
+{
+    private final JsonPath jsonPath;
+    private final Object[] segments;
+    private final String canonicalKey;
+
+    private CompiledJsonPath(JsonPath jsonPath, Object[] segments)
+    {
+        this.jsonPath = jsonPath;
+        this.segments = segments;
+        this.canonicalKey = segments == null ? null : canonicalKey(segments);
+    }
+
+    /**
+     * Compiles the specified JSONPath expression.
+     *
+     * @param expression the JSONPath expression to be compiled
+     * @return a new {@link CompiledJsonPath}
+     * @throws IllegalArgumentException if the expression is null or empty
+     * @throws InvalidPathException     if the expression is not valid
+     */
+    public static CompiledJsonPath compile(String expression)
+    {
+        return new CompiledJsonPath(JsonPath.compile(expression), parseSimplePath(expression));
+    }
+
+    /**
+     * @return the compiled {@link JsonPath}
+     */
+    public JsonPath getJsonPath()
+    {
+        return jsonPath;
+    }
+
+    /**
+     * @return {@code true} if this is a simple, definite path that can be evaluated with
+     *         {@link #read(Object, JsonProvider)}
+     */
+    public boolean isSimple()
+    {
+        return segments != null;
+    }
+
+    /**
+     * Returns the canonical form of this simple path, as produced by
+     * {@link #appendProperty(StringBuilder, String)} and
+     * {@link #appendIndex(StringBuilder, int)} (e.g.: {@code server.port} for both
+     * {@code $.server.port} and {@code $['server']['port']}).
+     *
+     * @return the canonical key, or {@code null} if this is not a simple path
+     */
+    public String getCanonicalKey()
+    {
+        return canonicalKey;
+    }
+
+    /**
+     * Evaluates this simple path by walking the specified JSON structure directly.
+     *
+     * @param root     the JSON document
+     * @param provider the {@link JsonProvider} to be used to access the document
+     * @return the element at the end of the path (which may be {@code null}), or
+     *         {@link JsonProvider#UNDEFINED} if the path is not present in the document
+     * @throws IllegalStateException if this is not a simple path
+     */
+    public Object read(Object root, JsonProvider provider)
+    {
+        if (segments == null)
+        {
+            throw new IllegalStateException("Not a simple path: " + jsonPath.getPath());
+        }
+        Object current = root;
+        for (Object segment : segments)
+        {
+            if (segment instanceof String)
+            {
+                if (current == null || !provider.isMap(current))
+                {
+                    return JsonProvider.UNDEFINED;
+                }
+                current = provider.getMapValue(current, (String) segment);
+                if (current == JsonProvider.UNDEFINED)
+                {
+                    return JsonProvider.UNDEFINED;
+                }
+            }
+            else
+            {
+                int index = (Integer) segment;
+                if (current == null || !provider.isArray(current) || index >= provider.length(current))
+                {
+                    return JsonProvider.UNDEFINED;
+                }
+                current = provider.getArrayIndex(current, index);
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Parses the segments of a simple path, i.e., a path containing only property names (in
+     * dot or bracket notation) and non-negative array indexes.
+     *
+     * @param expression the expression to be parsed
+     * @return an array of property names ({@code String}) and array indexes
+     *         ({@code Integer}), or {@code null} if the expression is not a simple path
+     */
+    static Object[] parseSimplePath(String expression)
+    {
+        String path = expression.startsWith("$") ? expression.substring(1) : "." + expression;
+        List<Object> segments = new ArrayList<>();
+        int length = path.length();
+        int position = 0;
+        while (position < length)
+        {
+            char current = path.charAt(position);
+            if (current == '.')
+            {
+                int start = ++position;
+                while (position < length && isPropertyChar(path.charAt(position)))
+                {
+                    position++;
+                }
+                if (position == start)
+                {
+                    return null; // deep scan, wildcard, or invalid
+                }
+                segments.add(path.substring(start, position));
+            }
+            else if (current == '[')
+            {
+                position = parseBracket(path, position + 1, segments);
+                if (position < 0)
+                {
+                    return null;
+                }
+            }
+            else
+            {
+                return null;
+            }
+        }
+        return segments.toArray();
+    }
+
+    /**
+     * Parses a bracket-notation segment, either a quoted property name or an array index.
+     *
+     * @param path     the path being parsed
+     * @param start    the position after the opening bracket
+     * @param segments the list to which the parsed segment is to be added
+     * @return the position after the closing bracket, or {@code -1} if the segment is not
+     *         simple
+     */
+    private static int parseBracket(String path, int start, List<Object> segments)
+    {
+        int length = path.length();
+        if (start >= length)
+        {
+            return -1;
+        }
+        char first = path.charAt(start);
+        if (first == '\'' || first == '"')
+        {
+            int end = path.indexOf(first, start + 1);
+            if (end < 0 || end + 1 >= length || path.charAt(end + 1) != ']')
+            {
+                return -1;
+            }
+            String name = path.substring(start + 1, end);
+            if (name.isEmpty() || name.indexOf('\\') >= 0)
+            {
+                return -1;
+            }
+            segments.add(name);
+            return end + 2;
+        }
+        int position = start;
+        while (position < length && Character.isDigit(path.charAt(position)))
+        {
+            position++;
+        }
+        if (position == start || position >= length || path.charAt(position) != ']'
+                || position - start > 9)
+        {
+            return -1; // not an index, or a negative, slice, wildcard or union expression
+        }
+        segments.add(Integer.valueOf(path.substring(start, position)));
+        return position + 1;
+    }
+
+    /**
+     * Builds the canonical key for the specified segments.
+     *
+     * @param segments an array of property names and array indexes
+     * @return the canonical key
+     */
+    private static String canonicalKey(Object[] segments)
+    {
+        StringBuilder builder = new StringBuilder();
+        for (Object segment : segments)
+        {
+            if (segment instanceof String)
+            {
+                appendProperty(builder, (String) segment);
+            }
+            else
+            {
+                appendIndex(builder, (Integer) segment);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Appends a property name to a canonical key. Names that contain only letters, digits,
+     * hyphens and underscores are appended in dot notation (omitting the dot at the
+     * beginning of the key); other names are appended in bracket notation.
+     *
+     * @param builder the canonical key being built
+     * @param name    the property name to be appended
+     * @return the same builder, for chained calls
+     */
+    static StringBuilder appendProperty(StringBuilder builder, String name)
+    {
+        if (!name.isEmpty() && name.chars().allMatch(character -> isPropertyChar((char) character)))
+        {
+            return (builder.length() == 0 ? builder : builder.append('.')).append(name);
+        }
+        return builder.append("['").append(name).append("']");
+    }
+
+    /**
+     * Appends an array index to a canonical key.
+     *
+     * @param builder the canonical key being built
+     * @param index   the array index to be appended
+     * @return the same builder, for chained calls
+     */
+    static StringBuilder appendIndex(StringBuilder builder, int index)
+    {
+        return builder.append('[').append(index).append(']');
+    }
+
+    private static boolean isPropertyChar(char character)
+    {
+        return Character.isLetterOrDigit(character) || character == '_' || character == '-';
+    }
+
+}
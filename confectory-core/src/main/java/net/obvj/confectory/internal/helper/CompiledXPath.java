@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 obvj.net
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.obvj.confectory.internal.helper;
+
+import java.util.Objects;
+
+import javax.xml.namespace.QName;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+
+import net.obvj.confectory.util.ObjectPool;
+
+/**
+ * A validated XPath expression that can be evaluated concurrently.
+ * <p>
+ * Since {@link XPathExpression} objects are not thread-safe, compiled instances of the
+ * expression are kept in a small {@link ObjectPool}, and each evaluation borrows one for
+ * exclusive use. The {@link XPath} objects used for compilation are pooled as well, so
+ * that the {@link XPathFactory} lookup happens only when the pool is empty.
+ *
+ * @author oswaldo.bapvic.jr (Oswaldo Junior)
+ * @since 2.7.0
+ */
+public final class CompiledXPath
+{
+    private static final ObjectPool<XPath> XPATHS = new ObjectPool<>(
+            () -> XPathFactory.newInstance().newXPath());
+
+    private final String expression;
+    private final ObjectPool<XPathExpression> compiledExpressions;
+
+    private CompiledXPath(String expression, XPathExpression compiled)
+    {
+        this.expression = expression;
+        this.compiledExpressions = new ObjectPool<>(this::newXPathExpression);
+        this.compiledExpressions.release(compiled);
+    }
+
+    /**
+     * Compiles the specified XPath expression.
+     *
+     * @param expression the XPath expression to be compiled; not null
+     * @return a new {@link CompiledXPath}
+     * @throws NullPointerException     if the expression is null
+     * @throws XPathExpressionException if the expression cannot be compiled
+     */
+    public static CompiledXPath compile(String expression) throws XPathExpressionException
+    {
+        Objects.requireNonNull(expression, "the XPath expression must not be null");
+        return new CompiledXPath(expression, compileExpression(expression));
+    }
+
+    /**
+     * @return the source XPath expression
+     */
+    public String getExpression()
+    {
+        return expression;
+    }
+
+    /**
+     * Evaluates the expression in the specified context, with a pooled compiled instance.
+     *
+     * @param item       the context the expression is to be evaluated in
+     * @param returnType the result type expected (e.g., {@code XPathConstants.NODESET})
+     * @return the result of the evaluation
+     * @throws XPathExpressionException if the expression cannot be evaluated
+     */
+    public Object evaluate(Object item, QName returnType) throws XPathExpressionException
+    {
+        return compiledExpressions.apply(compiled -> compiled.evaluate(item, returnType));
+    }
+
+    /**
+     * Returns a new compiled instance of the expression, owned by the caller.
+     * <p>
+     * <strong>Note:</strong> The returned object is not thread-safe.
+     *
+     * @return a new {@link XPathExpression}
+     */
+    public XPathExpression newXPathExpression()
+    {
+        try
+        {
+            return compileExpression(expression);
+        }
+        catch (XPathExpressionException exception)
+        {
+            // Not expected, since the expression was successfully compiled before
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private static XPathExpression compileExpression(String expression) throws XPathExpressionException
+    {
+        return XPATHS.apply(xpath ->
+        {
+            xpath.reset();
+            return xpath.compile(expression);
+        });
+    }
+
+}
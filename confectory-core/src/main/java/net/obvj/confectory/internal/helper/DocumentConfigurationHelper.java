@@ -21,14 +21,15 @@ import java.util.Objects;
 import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpression;
 import javax.xml.xpath.XPathExpressionException;
-import javax.xml.xpath.XPathFactory;
 
 import org.w3c.dom.Document;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
+import net.obvj.confectory.Confectory;
 import net.obvj.confectory.ConfigurationException;
 import net.obvj.confectory.merger.ConfigurationMerger;
+import net.obvj.confectory.util.ExpressionCache;
 import net.obvj.confectory.util.ParseException;
 import net.obvj.confectory.util.TypeFactory;
 import net.obvj.confectory.util.XMLUtils;
@@ -42,6 +43,8 @@ import net.obvj.confectory.util.XMLUtils;
  */
 public class DocumentConfigurationHelper extends AbstractConfigurationHelper<Document> implements ConfigurationHelper<Document>
 {
+    private static final ExpressionCache<CompiledXPath> XPATH_CACHE = new ExpressionCache<>(
+            DocumentConfigurationHelper::compileUnchecked, () -> Confectory.settings().getExpressionCacheSize());
 
     protected final Document document;
 
@@ -142,7 +145,7 @@ public class DocumentConfigurationHelper extends AbstractConfigurationHelper<Doc
     {
         try
         {
-            NodeList nodeList = (NodeList) compileXPath(xpath).evaluate(document, XPathConstants.NODESET);
+            NodeList nodeList = (NodeList) compiledXPath(xpath).evaluate(document, XPathConstants.NODESET);
             return new NodeListHolder(nodeList);
         }
         catch (XPathExpressionException exception)
@@ -153,6 +156,9 @@ public class DocumentConfigurationHelper extends AbstractConfigurationHelper<Doc
 
     /**
      * Compiles the given XPath expression.
+     * <p>
+     * Expressions are validated once and cached. Since {@code XPathExpression} objects are
+     * not thread-safe, the returned object is a new instance, owned by the caller.
      *
      * @param expression the XPath expression to be compiled
      * @return an {@code XPathExpression} object that can be used for further evaluation
@@ -160,7 +166,54 @@ public class DocumentConfigurationHelper extends AbstractConfigurationHelper<Doc
      */
     public static XPathExpression compileXPath(String expression) throws XPathExpressionException
     {
-        return XPathFactory.newInstance().newXPath().compile(expression);
+        return compiledXPath(expression).newXPathExpression();
+    }
+
+    /**
+     * Returns the cached {@link CompiledXPath} for the given expression, compiling it on
+     * first use.
+     *
+     * @param expression the XPath expression to be compiled
+     * @return the {@link CompiledXPath} for the expression
+     * @throws XPathExpressionException if the expression cannot be compiled
+     */
+    private static CompiledXPath compiledXPath(String expression) throws XPathExpressionException
+    {
+        try
+        {
+            return XPATH_CACHE.get(expression);
+        }
+        catch (UncheckedXPathExpressionException exception)
+        {
+            throw exception.getCause();
+        }
+    }
+
+    /**
+     * Returns the cache of compiled XPath expressions shared by all XML helpers, mainly for
+     * monitoring purposes (e.g., hit and miss counts).
+     * <p>
+     * The maximum cache size is defined by
+     * {@link net.obvj.confectory.settings.ConfectorySettings#setExpressionCacheSize(int)}.
+     *
+     * @return the shared {@link ExpressionCache} of compiled XPath expressions
+     * @since 2.7.0
+     */
+    public static ExpressionCache<CompiledXPath> xpathCache()
+    {
+        return XPATH_CACHE;
+    }
+
+    private static CompiledXPath compileUnchecked(String expression)
+    {
+        try
+        {
+            return CompiledXPath.compile(expression);
+        }
+        catch (XPathExpressionException exception)
+        {
+            throw new UncheckedXPathExpressionException(exception);
+        }
     }
 
     @Override
@@ -199,4 +252,24 @@ public class DocumentConfigurationHelper extends AbstractConfigurationHelper<Doc
 
     }
 
+    /**
+     * Wraps an {@link XPathExpressionException} thrown during the compilation of a cached
+     * expression.
+     */
+    private static class UncheckedXPathExpressionException extends RuntimeException
+    {
+        private static final long serialVersionUID = 1L;
+
+        UncheckedXPathExpressionException(XPathExpressionException cause)
+        {
+            super(cause);
+        }
+
+        @Override
+        public synchronized XPathExpressionException getCause()
+        {
+            return (XPathExpressionException) super.getCause();
+        }
+    }
+
 }
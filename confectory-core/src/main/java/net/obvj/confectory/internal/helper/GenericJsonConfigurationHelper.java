@@ -16,11 +16,16 @@
 
 package net.obvj.confectory.internal.helper;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import com.jayway.jsonpath.*;
 import com.jayway.jsonpath.spi.json.JsonProvider;
 import com.jayway.jsonpath.spi.mapper.MappingProvider;
 
+import net.obvj.confectory.Confectory;
 import net.obvj.confectory.ConfigurationException;
+import net.obvj.confectory.util.ExpressionCache;
 
 /**
  * A generic Configuration Helper that retrieves data from a JSON document, with JSONPath
@@ -31,6 +36,12 @@ import net.obvj.confectory.ConfigurationException;
  */
 public abstract class GenericJsonConfigurationHelper<J> extends AbstractConfigurationHelper<J> implements ConfigurationHelper<J>
 {
+    /**
+     * A cache of compiled JSONPath expressions shared by all JSON helpers.
+     */
+    private static final ExpressionCache<CompiledJsonPath> JSON_PATH_CACHE = new ExpressionCache<>(
+            CompiledJsonPath::compile, () -> Confectory.settings().getExpressionCacheSize());
+
     protected final J json;
     protected final JsonProvider jsonProvider;
     protected final MappingProvider mappingProvider;
@@ -38,6 +49,14 @@ public abstract class GenericJsonConfigurationHelper<J> extends AbstractConfigur
     protected final ParseContext jsonPathContext;
     protected final DocumentContext documentContext;
 
+    /**
+     * The flat index of the JSON document (canonical path to element), or {@code null} if
+     * disabled.
+     *
+     * @since 2.7.0
+     */
+    protected final Map<String, Object> flatIndex;
+
     /**
      * Creates a new helper for the given JSON.
      *
@@ -55,6 +74,52 @@ public abstract class GenericJsonConfigurationHelper<J> extends AbstractConfigur
                 .options(Option.SUPPRESS_EXCEPTIONS, Option.ALWAYS_RETURN_LIST).build();
         jsonPathContext = JsonPath.using(jsonPathConfiguration);
         documentContext = jsonPathContext.parse(json);
+        flatIndex = Confectory.settings().isJsonFlatIndexEnabled() ? flatten(json) : null;
+    }
+
+    /**
+     * Flattens the specified JSON document into a map from the canonical path of each
+     * element (including objects and arrays) to the element itself.
+     *
+     * @param root the JSON document to be flattened
+     * @return a map of canonical paths to elements
+     */
+    private Map<String, Object> flatten(Object root)
+    {
+        Map<String, Object> index = new HashMap<>();
+        index.put("", root);
+        flatten(new StringBuilder(), root, index);
+        return index;
+    }
+
+    private void flatten(StringBuilder path, Object element, Map<String, Object> index)
+    {
+        if (element == null)
+        {
+            return;
+        }
+        int length = path.length();
+        if (jsonProvider.isMap(element))
+        {
+            for (String key : jsonProvider.getPropertyKeys(element))
+            {
+                Object child = jsonProvider.getMapValue(element, key);
+                index.put(CompiledJsonPath.appendProperty(path, key).toString(), child);
+                flatten(path, child, index);
+                path.setLength(length);
+            }
+        }
+        else if (jsonProvider.isArray(element))
+        {
+            int size = jsonProvider.length(element);
+            for (int i = 0; i < size; i++)
+            {
+                Object child = jsonProvider.getArrayIndex(element, i);
+                index.put(CompiledJsonPath.appendIndex(path, i).toString(), child);
+                flatten(path, child, index);
+                path.setLength(length);
+            }
+        }
     }
 
     /**
@@ -70,6 +135,9 @@ public abstract class GenericJsonConfigurationHelper<J> extends AbstractConfigur
      * Returns the value associated with the specified {@code jsonPath} in the JSON document
      * in context, provided that the expression returns a single element that can be mapped to
      * the specified class type.
+     * <p>
+     * Simple, definite paths (e.g.: {@code $.server.port}) are evaluated by walking the JSON
+     * document directly, without the JSONPath engine.
      *
      * @param jsonPath   the path to read
      * @param targetType the type the expression result should be mapped to
@@ -86,15 +154,24 @@ public abstract class GenericJsonConfigurationHelper<J> extends AbstractConfigur
     @Override
     protected <T> T getValue(String jsonPath, Class<T> targetType, boolean mandatory)
     {
-        Object result = get(jsonPath);
-        switch (jsonProvider.length(result))
+        CompiledJsonPath compiledPath = JSON_PATH_CACHE.get(jsonPath);
+        if (compiledPath.isSimple())
         {
-        case 0:
-            if (mandatory)
+            Object element = flatIndex != null
+                    ? flatIndex.getOrDefault(compiledPath.getCanonicalKey(), JsonProvider.UNDEFINED)
+                    : compiledPath.read(json, jsonProvider);
+            if (element == JsonProvider.UNDEFINED)
             {
-                throw new ConfigurationException("No value found for path: %s", jsonPath);
+                return notFound(jsonPath, mandatory);
             }
-            return null;
+            return mappingProvider.map(toMappableElement(element), targetType, jsonPathConfiguration);
+        }
+
+        Object result = documentContext.read(compiledPath.getJsonPath());
+        switch (jsonProvider.length(result))
+        {
+        case 0:
+            return notFound(jsonPath, mandatory);
         case 1:
             Object element = jsonProvider.getArrayIndex(result, 0);
             return mappingProvider.map(element, targetType, jsonPathConfiguration);
@@ -103,6 +180,39 @@ public abstract class GenericJsonConfigurationHelper<J> extends AbstractConfigur
         }
     }
 
+    /**
+     * Converts an element retrieved by walking the JSON document directly into the form
+     * expected by the {@link MappingProvider}, which may differ for some providers (e.g.: a
+     * provider that unwraps primitive values on access).
+     * <p>
+     * The default implementation returns the same element.
+     *
+     * @param element the element to be converted
+     * @return the element to be mapped
+     * @since 2.7.0
+     */
+    protected Object toMappableElement(Object element)
+    {
+        return element;
+    }
+
+    /**
+     * Handles a path not found in the JSON document.
+     *
+     * @param jsonPath  the path not found
+     * @param mandatory whether or not an exception shall be thrown
+     * @return {@code null}, if not mandatory
+     * @throws ConfigurationException if mandatory
+     */
+    private static <T> T notFound(String jsonPath, boolean mandatory)
+    {
+        if (mandatory)
+        {
+            throw new ConfigurationException("No value found for path: %s", jsonPath);
+        }
+        return null;
+    }
+
     /**
      * Returns the object associated with the specified @code jsonPath} in the JSON document
      * in context.
@@ -123,7 +233,22 @@ public abstract class GenericJsonConfigurationHelper<J> extends AbstractConfigur
     @Override
     public Object get(String jsonPath)
     {
-        return documentContext.read(jsonPath);
+        return documentContext.read(JSON_PATH_CACHE.get(jsonPath).getJsonPath());
+    }
+
+    /**
+     * Returns the cache of compiled JSONPath expressions shared by all JSON helpers, mainly
+     * for monitoring purposes (e.g., hit and miss counts).
+     * <p>
+     * The maximum cache size is defined by
+     * {@link net.obvj.confectory.settings.ConfectorySettings#setExpressionCacheSize(int)}.
+     *
+     * @return the shared {@link ExpressionCache} of compiled JSONPath expressions
+     * @since 2.7.0
+     */
+    public static ExpressionCache<CompiledJsonPath> jsonPathCache()
+    {
+        return JSON_PATH_CACHE;
     }
 
 }
@@ -16,10 +16,13 @@
 
 package net.obvj.confectory.mapper;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Objects;
 
 import net.obvj.confectory.ConfigurationSourceException;
 
@@ -41,7 +44,6 @@ public abstract class AbstractINIMapper<T> implements Mapper<T>
      */
     static class Context
     {
-        String currentLine;
         String currentSectionName;
         String currentKey;
         int currentLineNumber;
@@ -51,13 +53,52 @@ public abstract class AbstractINIMapper<T> implements Mapper<T>
     private static final char TOKEN_COMMENT_START_ALT = '#';
     private static final char TOKEN_SECTION_NAME_START = '[';
     private static final char TOKEN_SECTION_NAME_END = ']';
-    private static final String REGEX_KEY_VALUE_SEPARATOR = "[=\\s]+";
     private static final String MSG_MALFORMED_INI = "Malformed INI: expected %s at line %s: \"%s\"";
     private static final String ARG_SECTION_NAME = "section name";
     private static final String ARG_PROPERTY_KEY = "property key";
     private static final String ARG_PROPERTY = "property";
     private static final String ARG_TOKEN = "token '%s'";
 
+    private final Charset charset;
+
+    /**
+     * Builds a new INI mapper that reads sources with the JVM default {@code Charset}.
+     */
+    protected AbstractINIMapper()
+    {
+        this(Charset.defaultCharset());
+    }
+
+    /**
+     * Builds a new INI mapper that reads sources with the specified {@code Charset}.
+     *
+     * @param charset the {@link Charset} to decode the source; not null
+     * @since 2.7.0
+     */
+    protected AbstractINIMapper(Charset charset)
+    {
+        this.charset = Objects.requireNonNull(charset, "the charset must not be null");
+    }
+
+    /**
+     * @return the {@link Charset} used to decode the source
+     * @since 2.7.0
+     */
+    public Charset getCharset()
+    {
+        return charset;
+    }
+
+    /**
+     * @return a key composed of the mapper class and the charset
+     * @since 2.7.0
+     */
+    @Override
+    public Object getParseCacheKey()
+    {
+        return Arrays.asList(getClass(), charset);
+    }
+
     /**
      * A template method that defines the skeleton of the INI source parsing operation and
      * delegates the final output mapping behavior to its concrete implementations.
@@ -69,29 +110,28 @@ public abstract class AbstractINIMapper<T> implements Mapper<T>
      */
     final Object doApply(InputStream inputStream) throws IOException
     {
-        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream));
+        LineReader line = new LineReader(new InputStreamReader(inputStream, charset));
 
         Context context = new Context();
-        context.currentLine = reader.readLine();
-        context.currentLineNumber = 1;
+        context.currentLineNumber = 0;
         context.currentSectionName = null;
 
         Object out = newObject(context);
         Object currentSection = out; // Let the final out be the initial section
         boolean skipSection = false;
 
-        while (context.currentLine != null)
+        while (line.next())
         {
-            context.currentLine = context.currentLine.trim();
+            context.currentLineNumber++;
 
-            if (context.currentLine.isEmpty() || isCommentLine(context.currentLine))
+            if (line.isEmpty() || isCommentLine(line))
             {
                 // Ignore empty and comment lines
             }
-            else if (isSectionLine(context.currentLine))
+            else if (isSectionLine(line))
             {
                 skipSection = false;
-                context.currentSectionName = parseSectionName(context);
+                context.currentSectionName = parseSectionName(context, line);
                 currentSection = newObject(context); // the current session, from now on
                 if (currentSection == null)
                 {
@@ -106,13 +146,10 @@ public abstract class AbstractINIMapper<T> implements Mapper<T>
             {
                 if (!skipSection)
                 {
-                    parseProperty(context, currentSection);
+                    parseProperty(context, line, currentSection);
                 }
                 // Do not process any property until the next section declaration
             }
-
-            context.currentLine = reader.readLine();
-            context.currentLineNumber++;
         }
         return out;
     }
@@ -120,7 +157,7 @@ public abstract class AbstractINIMapper<T> implements Mapper<T>
     /**
      * @return {@code true} if the current line starts with one of the comment tokens
      */
-    private static final boolean isCommentLine(String line)
+    private static final boolean isCommentLine(LineReader line)
     {
         char firstCharacter = line.charAt(0);
         return firstCharacter == TOKEN_COMMENT_START || firstCharacter == TOKEN_COMMENT_START_ALT;
@@ -129,7 +166,7 @@ public abstract class AbstractINIMapper<T> implements Mapper<T>
     /**
      * @return {@code true} if the current line starts with {@link #TOKEN_SECTION_NAME_START}
      */
-    private static final boolean isSectionLine(String line)
+    private static final boolean isSectionLine(LineReader line)
     {
         return line.charAt(0) == TOKEN_SECTION_NAME_START;
     }
@@ -137,55 +174,85 @@ public abstract class AbstractINIMapper<T> implements Mapper<T>
     /**
      * Parses the section name.
      *
-     * @param context           the {@link Context}
-     * @param line              the line to be parsed (cannot be null)
-     * @param currentLineNumber the line number for due exception reporting
+     * @param context the {@link Context}
+     * @param line    the line to be parsed (cannot be null)
      * @return the section name
      */
-    private static final String parseSectionName(Context context)
+    private static final String parseSectionName(Context context, LineReader line)
     {
-        int sectionNameDelimiterIndex = context.currentLine.indexOf(TOKEN_SECTION_NAME_END);
+        int sectionNameDelimiterIndex = line.indexOf(TOKEN_SECTION_NAME_END);
         if (sectionNameDelimiterIndex < 0)
         {
-            throw malformedIniException(context, String.format(ARG_TOKEN, TOKEN_SECTION_NAME_END));
+            throw malformedIniException(context, line, String.format(ARG_TOKEN, TOKEN_SECTION_NAME_END));
         }
-        String name = context.currentLine.substring(1, sectionNameDelimiterIndex);
-        if (name.isEmpty())
+        if (sectionNameDelimiterIndex == 1)
         {
-            throw malformedIniException(context, ARG_SECTION_NAME);
+            throw malformedIniException(context, line, ARG_SECTION_NAME);
         }
-        return name;
+        return line.substring(1, sectionNameDelimiterIndex);
     }
 
-    private void parseProperty(Context context, Object currentSection)
+    private void parseProperty(Context context, LineReader line, Object currentSection)
     {
-        // Split by equals sign or blank characters
-        String[] parts = context.currentLine.trim().split(REGEX_KEY_VALUE_SEPARATOR, 2);
-        context.currentKey = parts[0];
-        if (context.currentKey.isEmpty())
+        // Split by the first sequence of equals signs or blank characters
+        int length = line.length();
+        int keyEnd = 0;
+        while (keyEnd < length && !isKeyValueSeparator(line.charAt(keyEnd)))
+        {
+            keyEnd++;
+        }
+        if (keyEnd == 0)
+        {
+            throw malformedIniException(context, line, ARG_PROPERTY_KEY);
+        }
+        context.currentKey = line.substring(0, keyEnd);
+        if (keyEnd == length)
         {
-            throw malformedIniException(context, ARG_PROPERTY_KEY);
+            throw malformedIniException(context, line, ARG_PROPERTY);
         }
-        if (parts.length < 2)
+        int valueStart = keyEnd;
+        while (valueStart < length && isKeyValueSeparator(line.charAt(valueStart)))
         {
-            throw malformedIniException(context, ARG_PROPERTY);
+            valueStart++;
         }
-        String value = parts[1];
+        String value = line.substring(valueStart, length);
         put(currentSection, context.currentKey, parseValue(context, value));
     }
 
+    /**
+     * @return {@code true} if the specified character is either an equals sign or a
+     *         whitespace character as defined by the regular expression {@code \s}
+     */
+    private static boolean isKeyValueSeparator(char character)
+    {
+        switch (character)
+        {
+        case '=':
+        case ' ':
+        case '\t':
+        case '\n':
+        case '\u000B':
+        case '\f':
+        case '\r':
+            return true;
+        default:
+            return false;
+        }
+    }
+
     /**
      * Create a new {@link ConfigurationSourceException} with a formatted message, containing
      * also the current line text and number.
      *
      * @param context  the {@link Context}
+     * @param line     the current line
      * @param expected a description of what was expected
      * @return a new {@link ConfigurationSourceException} with a formatted message
      */
-    private static final ConfigurationSourceException malformedIniException(Context context, String expected)
+    private static final ConfigurationSourceException malformedIniException(Context context,
+            LineReader line, String expected)
     {
-        return new ConfigurationSourceException(MSG_MALFORMED_INI, expected, context.currentLineNumber,
-                context.currentLine);
+        return new ConfigurationSourceException(MSG_MALFORMED_INI, expected, context.currentLineNumber, line);
     }
 
     /**
@@ -214,4 +281,174 @@ public abstract class AbstractINIMapper<T> implements Mapper<T>
      */
     abstract void put(Object target, String name, Object value);
 
+    /**
+     * Reads lines from a {@link Reader} into a reusable character buffer, with no
+     * intermediate {@code String} per line.
+     * <p>
+     * A line is terminated by a line feed ({@code \n}), a carriage return ({@code \r}), or a
+     * carriage return followed immediately by a line feed, as in
+     * {@link java.io.BufferedReader#readLine()}. The current line is exposed with leading and
+     * trailing whitespace removed, as in {@link String#trim()}.
+     */
+    static final class LineReader
+    {
+        private static final int BUFFER_SIZE = 8192;
+
+        private final Reader reader;
+        private final char[] buffer = new char[BUFFER_SIZE];
+        private int position;
+        private int limit;
+        private boolean skipLineFeed;
+
+        private char[] line = new char[128];
+        private int start;
+        private int end;
+
+        LineReader(Reader reader)
+        {
+            this.reader = reader;
+        }
+
+        /**
+         * Reads the next line.
+         *
+         * @return {@code true} if a line was read, or {@code false} if the end of the stream
+         *         has been reached
+         * @throws IOException if an I/O error occurs
+         */
+        boolean next() throws IOException
+        {
+            int length = 0;
+            while (true)
+            {
+                if (position >= limit && !fill())
+                {
+                    if (length == 0)
+                    {
+                        return false;
+                    }
+                    break;
+                }
+                char character = buffer[position++];
+                if (skipLineFeed)
+                {
+                    skipLineFeed = false;
+                    if (character == '\n')
+                    {
+                        continue;
+                    }
+                }
+                if (character == '\n')
+                {
+                    break;
+                }
+                if (character == '\r')
+                {
+                    skipLineFeed = true;
+                    break;
+                }
+                if (length == line.length)
+                {
+                    line = Arrays.copyOf(line, length * 2);
+                }
+                line[length++] = character;
+            }
+            trim(length);
+            return true;
+        }
+
+        /**
+         * Reads the next block of characters from the underlying reader into the buffer.
+         *
+         * @return {@code false} if the end of the stream has been reached
+         */
+        private boolean fill() throws IOException
+        {
+            int count;
+            do
+            {
+                count = reader.read(buffer, 0, BUFFER_SIZE);
+            }
+            while (count == 0);
+            position = 0;
+            limit = Math.max(count, 0);
+            return count > 0;
+        }
+
+        private void trim(int length)
+        {
+            start = 0;
+            end = length;
+            while (start < end && line[start] <= ' ')
+            {
+                start++;
+            }
+            while (end > start && line[end - 1] <= ' ')
+            {
+                end--;
+            }
+        }
+
+        /**
+         * @return {@code true} if the trimmed line is empty
+         */
+        boolean isEmpty()
+        {
+            return start == end;
+        }
+
+        /**
+         * @return the length of the trimmed line
+         */
+        int length()
+        {
+            return end - start;
+        }
+
+        /**
+         * @param index the index in the trimmed line
+         * @return the character at the specified index
+         */
+        char charAt(int index)
+        {
+            return line[start + index];
+        }
+
+        /**
+         * @param character the character to be searched
+         * @return the index of the first occurrence of the character in the trimmed line, or
+         *         {@code -1} if not found
+         */
+        int indexOf(char character)
+        {
+            for (int i = start; i < end; i++)
+            {
+                if (line[i] == character)
+                {
+                    return i - start;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * @param beginIndex the begin index (inclusive) in the trimmed line
+         * @param endIndex   the end index (exclusive) in the trimmed line
+         * @return a new string with the specified range of the trimmed line
+         */
+        String substring(int beginIndex, int endIndex)
+        {
+            return new String(line, start + beginIndex, endIndex - beginIndex);
+        }
+
+        /**
+         * @return the trimmed line as string
+         */
+        @Override
+        public String toString()
+        {
+            return substring(0, length());
+        }
+    }
+
 }
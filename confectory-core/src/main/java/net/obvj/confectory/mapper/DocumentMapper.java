@@ -19,10 +19,6 @@ package net.obvj.confectory.mapper;
 import java.io.IOException;
 import java.io.InputStream;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
-
 import org.w3c.dom.Document;
 import org.xml.sax.SAXException;
 
@@ -51,16 +47,24 @@ public class DocumentMapper implements Mapper<Document>
     {
         try
         {
-            DocumentBuilderFactory factory = XMLUtils.documentBuilderFactory();
-            DocumentBuilder builder = factory.newDocumentBuilder();
-            return builder.parse(inputStream);
+            return XMLUtils.parse(inputStream);
         }
-        catch (ParserConfigurationException | SAXException exception)
+        catch (SAXException exception)
         {
             throw new ConfigurationException(exception);
         }
     }
 
+    /**
+     * @return the class of this mapper, which has no configurable state
+     * @since 2.7.0
+     */
+    @Override
+    public Object getParseCacheKey()
+    {
+        return getClass();
+    }
+
     @Override
     public ConfigurationHelper<Document> configurationHelper(Document document)
     {
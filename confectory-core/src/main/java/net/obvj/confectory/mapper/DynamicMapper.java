@@ -19,6 +19,7 @@ package net.obvj.confectory.mapper;
 import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.Map;
 import java.util.function.Supplier;
 
@@ -27,6 +28,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import net.obvj.confectory.internal.helper.ConfigurationHelper;
+import net.obvj.confectory.util.ByteBufferInputStream;
 import net.obvj.confectory.util.Exceptions;
 
 /**
@@ -96,24 +98,52 @@ public final class DynamicMapper extends AbstractBeanMapper<Object> implements M
 
     @Override
     public Object apply(InputStream inputStream) throws IOException
+    {
+        InputStream markableStream = inputStream.markSupported() ? inputStream
+                : new BufferedInputStream(inputStream);
+        Mapper<Object> mapper = resolveMapper(markableStream);
+        LOGGER.debug("Applying mapper {}", mapper.getClass());
+        return mapper.apply(markableStream);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The buffer is passed to the actual mapper, so that its direct path (if any) is used.
+     *
+     * @since 2.7.0
+     */
+    @Override
+    public Object applyBuffer(ByteBuffer buffer) throws IOException
+    {
+        Mapper<Object> mapper = resolveMapper(new ByteBufferInputStream(buffer.duplicate()));
+        LOGGER.debug("Applying mapper {}", mapper.getClass());
+        return mapper.applyBuffer(buffer);
+    }
+
+    /**
+     * Returns the actual mapper, inferring it from the first bytes of the specified stream,
+     * if not yet assigned.
+     *
+     * @param inputStream the content to be evaluated; must support mark and reset, and is
+     *                    reset to its original position after evaluation
+     * @return the actual mapper
+     * @throws IOException if the first bytes cannot be read
+     */
+    private Mapper<Object> resolveMapper(InputStream inputStream) throws IOException
     {
         if (actualMapper == null)
         {
-            LOGGER.debug("Inferring the actual format based on the first bytes of the the stream...");
+            LOGGER.debug("Inferring the actual format based on the first bytes of the content...");
             String format = inferFormat(inputStream);
             LOGGER.debug("Detected format: {}", format);
             this.actualMapper = findMapper(format);
         }
-        LOGGER.debug("Applying mapper {}", actualMapper.getClass());
-        return actualMapper.apply(inputStream);
+        return actualMapper;
     }
 
     private static String inferFormat(InputStream inputStream) throws IOException
     {
-        if (!inputStream.markSupported())
-        {
-            inputStream = new BufferedInputStream(inputStream);
-        }
         // Mark the stream to allow reset - using a large reading limit
         inputStream.mark(16384);
         try
@@ -146,6 +176,18 @@ public final class DynamicMapper extends AbstractBeanMapper<Object> implements M
         }
     }
 
+    /**
+     * @return the key of the actual mapper, or {@code null} if the actual mapper has not
+     *         been assigned yet (in which case it must be inferred from the content, so
+     *         caching is disabled)
+     * @since 2.7.0
+     */
+    @Override
+    public Object getParseCacheKey()
+    {
+        return actualMapper != null ? actualMapper.getParseCacheKey() : null;
+    }
+
     @Override
     public ConfigurationHelper<Object> configurationHelper(Object bean)
     {
@@ -18,6 +18,7 @@ package net.obvj.confectory.mapper;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.Charset;
 
 import net.minidev.json.JSONObject;
 import net.minidev.json.JSONValue;
@@ -36,6 +37,27 @@ import net.obvj.confectory.internal.helper.JsonSmartConfigurationHelper;
  */
 public class INIToJSONObjectMapper extends AbstractINIMapper<JSONObject> implements Mapper<JSONObject>
 {
+    /**
+     * Builds a new {@code INIToJSONObjectMapper} that reads sources with the JVM default
+     * {@code Charset}.
+     */
+    public INIToJSONObjectMapper()
+    {
+        super();
+    }
+
+    /**
+     * Builds a new {@code INIToJSONObjectMapper} that reads sources with the specified
+     * {@code Charset}.
+     *
+     * @param charset the {@link Charset} to decode the source; not null
+     * @since 2.7.0
+     */
+    public INIToJSONObjectMapper(Charset charset)
+    {
+        super(charset);
+    }
+
     @Override
     public JSONObject apply(InputStream inputStream) throws IOException
     {
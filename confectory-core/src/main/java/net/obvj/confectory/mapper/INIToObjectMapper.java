@@ -18,16 +18,16 @@ package net.obvj.confectory.mapper;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.lang.reflect.Field;
+import java.nio.charset.Charset;
+import java.util.Arrays;
 import java.util.Objects;
 
-import org.apache.commons.lang3.reflect.FieldUtils;
-
 import net.obvj.confectory.ConfigurationException;
 import net.obvj.confectory.internal.helper.BeanConfigurationHelper;
 import net.obvj.confectory.internal.helper.ConfigurationHelper;
 import net.obvj.confectory.settings.ConfectorySettings;
 import net.obvj.confectory.util.*;
+import net.obvj.confectory.util.BeanBindingPlan.FieldBinding;
 
 /**
  * A specialized {@code Mapper} that loads the contents of a valid INI {@code Source}
@@ -103,6 +103,21 @@ public class INIToObjectMapper<T> extends AbstractINIMapper<T> implements Mapper
      */
     public INIToObjectMapper(Class<T> targetType, ObjectFactory objectFactory)
     {
+        this(targetType, objectFactory, Charset.defaultCharset());
+    }
+
+    /**
+     * Builds a new {@code INIToObjectMapper} with the specified target type, object factory
+     * and {@code Charset}.
+     *
+     * @param targetType    the target type to be produced by this {@code Mapper}
+     * @param objectFactory the {@link ObjectFactory} to produce objects; not null
+     * @param charset       the {@link Charset} to decode the source; not null
+     * @since 2.7.0
+     */
+    public INIToObjectMapper(Class<T> targetType, ObjectFactory objectFactory, Charset charset)
+    {
+        super(charset);
         this.targetType = targetType;
         this.objectFactory = Objects.requireNonNull(objectFactory,
                 "the ObjectFactory must not be null");
@@ -133,27 +148,27 @@ public class INIToObjectMapper<T> extends AbstractINIMapper<T> implements Mapper
     Object parseValue(Context context, String value)
     {
         Class<?> currentType = getCurrentType(context);
-        Field field = PropertyUtils.findFieldByPropertyKeyOrName(currentType, context.currentKey);
+        FieldBinding binding = BeanBindingPlan.of(currentType).findBinding(context.currentKey);
         try
         {
-            return field != null ? PropertyUtils.parseValue(value, field, objectFactory) : null;
+            return binding != null ? binding.parse(value, objectFactory) : null;
         }
         catch (ParseException | ReflectiveOperationException exception)
         {
             throw new ConfigurationException(exception, MSG_UNPARSABLE_PROPERTY_VALUE,
-                    currentFieldIdentifierToString(context), field.getType().getCanonicalName());
+                    currentFieldIdentifierToString(context), binding.getField().getType().getCanonicalName());
         }
     }
 
     @Override
     void put(Object target, String name, Object value)
     {
-        Field field = PropertyUtils.findFieldByPropertyKeyOrName(target.getClass(), name);
-        if (field != null && !ReflectionUtils.isTransient(field))
+        FieldBinding binding = BeanBindingPlan.of(target.getClass()).findBinding(name);
+        if (binding != null && !binding.isTransient())
         {
             try
             {
-                FieldUtils.writeDeclaredField(target, field.getName(), value, true);
+                binding.set(target, value);
             }
             catch (IllegalAccessException exception)
             {
@@ -173,8 +188,8 @@ public class INIToObjectMapper<T> extends AbstractINIMapper<T> implements Mapper
         {
             return targetType;
         }
-        Field field = PropertyUtils.findFieldByPropertyKeyOrName(targetType, context.currentSectionName);
-        return field != null ? field.getType() : null;
+        FieldBinding binding = BeanBindingPlan.of(targetType).findBinding(context.currentSectionName);
+        return binding != null ? binding.getField().getType() : null;
     }
 
     /**
@@ -191,6 +206,17 @@ public class INIToObjectMapper<T> extends AbstractINIMapper<T> implements Mapper
         return builder.toString();
     }
 
+    /**
+     * @return a key composed of the mapper class, the charset, the target type and the
+     *         {@link ObjectFactory}
+     * @since 2.7.0
+     */
+    @Override
+    public Object getParseCacheKey()
+    {
+        return Arrays.asList(getClass(), getCharset(), targetType, objectFactory);
+    }
+
     @Override
     public ConfigurationHelper<T> configurationHelper(T object)
     {
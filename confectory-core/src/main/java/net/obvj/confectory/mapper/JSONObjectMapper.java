@@ -18,7 +18,11 @@ package net.obvj.confectory.mapper;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 
 import net.minidev.json.JSONObject;
 import net.minidev.json.parser.JSONParser;
@@ -26,6 +30,7 @@ import net.minidev.json.parser.ParseException;
 import net.obvj.confectory.ConfigurationException;
 import net.obvj.confectory.internal.helper.ConfigurationHelper;
 import net.obvj.confectory.internal.helper.JsonSmartConfigurationHelper;
+import net.obvj.confectory.util.ByteBufferInputStream;
 
 /**
  * A specialized {@code Mapper} that loads the contents of a valid JSON {@code Source}
@@ -53,6 +58,41 @@ public class JSONObjectMapper implements Mapper<JSONObject>
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The content is decoded as UTF-8 by a reader over the buffer and parsed with the reader
+     * parser of {@code json-smart}, so no intermediate copy of the whole content is made.
+     * (The byte-array parser of {@code json-smart} is not used, since it does not decode
+     * multi-byte characters correctly in strings containing escape sequences.)
+     *
+     * @since 2.7.0
+     */
+    @Override
+    public JSONObject applyBuffer(ByteBuffer buffer) throws IOException
+    {
+        JSONParser parser = new JSONParser(JSONParser.DEFAULT_PERMISSIVE_MODE);
+        try (Reader reader = new InputStreamReader(new ByteBufferInputStream(buffer.duplicate()),
+                StandardCharsets.UTF_8))
+        {
+            return parser.parse(reader, JSONObject.class);
+        }
+        catch (ParseException exception)
+        {
+            throw new ConfigurationException(exception);
+        }
+    }
+
+    /**
+     * @return the class of this mapper, which has no configurable state
+     * @since 2.7.0
+     */
+    @Override
+    public Object getParseCacheKey()
+    {
+        return getClass();
+    }
+
     @Override
     public ConfigurationHelper<JSONObject> configurationHelper(JSONObject jsonObject)
     {
@@ -18,9 +18,11 @@ package net.obvj.confectory.mapper;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 import net.obvj.confectory.internal.helper.ConfigurationHelper;
 import net.obvj.confectory.source.Source;
+import net.obvj.confectory.util.ByteBufferInputStream;
 
 /**
  * The base interface for a configuration mapper.
@@ -51,6 +53,49 @@ public interface Mapper<T>
      */
     T apply(InputStream input) throws IOException;
 
+    /**
+     * Applies this {@code Mapper} into the remaining content of the given buffer.
+     * <p>
+     * Sources that hold the whole content in memory (e.g.: a memory-mapped file) may call
+     * this method to skip stream copies. The default implementation reads the buffer as an
+     * {@link InputStream} and delegates to {@link #apply(InputStream)}. Mappers backed by
+     * parsers that accept byte arrays or buffers may override it with a direct path.
+     * <p>
+     * <strong>Note:</strong> The position and limit of the specified buffer are not
+     * modified by this operation.
+     *
+     * @param buffer the buffer to be mapped
+     * @return the mapped object
+     *
+     * @throws IOException if a low-level I/O problem (such and unexpected end-of-input)
+     *                     occurs
+     * @since 2.7.0
+     */
+    default T applyBuffer(ByteBuffer buffer) throws IOException
+    {
+        return apply(new ByteBufferInputStream(buffer.duplicate()));
+    }
+
+    /**
+     * Returns a key that identifies the objects produced by this {@code Mapper} in the
+     * parse cache, i.e., two mappers with equal keys must produce equivalent objects from
+     * the same content.
+     * <p>
+     * Caching is opt-in: the default implementation returns {@code null}, so objects
+     * produced by custom mappers are never shared, unless they override this method.
+     * Mappers with no configurable state may return their class; mappers whose output
+     * depends on instance fields (e.g.: a target type) must include them in the key.
+     *
+     * @return the parse cache key, or {@code null} if the objects produced by this
+     *         {@code Mapper} must not be cached
+     * @since 2.7.0
+     * @see net.obvj.confectory.util.ParseCache
+     */
+    default Object getParseCacheKey()
+    {
+        return null;
+    }
+
     /**
      * Creates a new {@link ConfigurationHelper} instance recommended by this {@code Mapper}.
      *
@@ -41,6 +41,16 @@ public class PropertiesMapper implements Mapper<Properties>
         return properties;
     }
 
+    /**
+     * @return the class of this mapper, which has no configurable state
+     * @since 2.7.0
+     */
+    @Override
+    public Object getParseCacheKey()
+    {
+        return getClass();
+    }
+
     @Override
     public ConfigurationHelper<Properties> configurationHelper(Properties properties)
     {
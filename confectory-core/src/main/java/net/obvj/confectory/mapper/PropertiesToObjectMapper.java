@@ -18,17 +18,16 @@ package net.obvj.confectory.mapper;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.lang.reflect.Field;
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.Properties;
 
-import org.apache.commons.lang3.reflect.FieldUtils;
-
 import net.obvj.confectory.ConfigurationException;
 import net.obvj.confectory.internal.helper.BeanConfigurationHelper;
 import net.obvj.confectory.internal.helper.ConfigurationHelper;
 import net.obvj.confectory.settings.ConfectorySettings;
 import net.obvj.confectory.util.*;
+import net.obvj.confectory.util.BeanBindingPlan.FieldBinding;
 
 /**
  * A specialized {@code Mapper} that loads the contents of a {@code Source} (e.g.: file,
@@ -123,13 +122,13 @@ public class PropertiesToObjectMapper<T> implements Mapper<T>
      */
     private T asObject(Properties properties)
     {
-        Field[] fields = FieldUtils.getAllFields(targetType);
+        BeanBindingPlan plan = BeanBindingPlan.of(targetType);
         try
         {
             T targetObject = objectFactory.newObject(targetType);
-            for (Field field : fields)
+            for (FieldBinding binding : plan.getBindings())
             {
-                writeField(targetObject, field, properties);
+                writeField(targetObject, binding, properties);
             }
             return targetObject;
         }
@@ -140,46 +139,45 @@ public class PropertiesToObjectMapper<T> implements Mapper<T>
     }
 
     /**
-     * Evaluates (and possibly writes) a property value into the specified {@link Field}.
+     * Evaluates (and possibly writes) a property value into the specified field binding.
      *
      * @param targetObject an instantiated object to reflect; not null
-     * @param field        the field form the target object to be possibly written; not null
+     * @param binding      the binding of the field to be possibly written; not null
      * @param properties   the properties which field is to be fetched
-     * @throws ReflectiveOperationException if the field is not made accessible or the custom
+     * @throws ReflectiveOperationException if the field is not accessible or the custom
      *                                      converter (if specified in the {@code @Property}
      *                                      annotation) could not be instantiated
      * @throws NullPointerException         if any of the parameters is null
      */
-    private void writeField(T targetObject, Field field, Properties properties)
+    private void writeField(T targetObject, FieldBinding binding, Properties properties)
             throws ReflectiveOperationException
     {
-        if (ReflectionUtils.isTransient(field))
-        {
-            return; // Ignore transient fields
-        }
-        Property annotation = getPropertyAnnotation(field);
-        String propertyKey = PropertyUtils.getPropertyKeyOrFieldName(annotation, field);
+        String propertyKey = binding.getKey();
         String propertyValue = properties.getProperty(propertyKey);
         if (propertyValue != null)
         {
-            Class<?> fieldType = field.getType();
             try
             {
-                Object parsedValue = PropertyUtils.parseValue(propertyValue, fieldType, annotation, objectFactory);
-                FieldUtils.writeDeclaredField(targetObject, field.getName(), parsedValue, true);
+                binding.set(targetObject, binding.parse(propertyValue, objectFactory));
             }
             catch (ParseException exception)
             {
                 throw new ConfigurationException(exception, MSG_UNABLE_TO_PARSE_PROPERTY,
-                        propertyKey, fieldType.getCanonicalName());
+                        propertyKey, binding.getField().getType().getCanonicalName());
             }
         }
         // Do nothing if the property is not found
     }
 
-    private static Property getPropertyAnnotation(Field field)
+    /**
+     * @return a key composed of the mapper class, the target type and the
+     *         {@link ObjectFactory}
+     * @since 2.7.0
+     */
+    @Override
+    public Object getParseCacheKey()
     {
-        return field.getDeclaredAnnotation(Property.class);
+        return Arrays.asList(getClass(), targetType, objectFactory);
     }
 
     @Override
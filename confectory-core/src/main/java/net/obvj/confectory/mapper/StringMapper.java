@@ -40,4 +40,14 @@ public class StringMapper extends AbstractBeanMapper<String> implements Mapper<S
         return IOUtils.toString(inputStream, Charset.defaultCharset());
     }
 
+    /**
+     * @return the class of this mapper, which has no configurable state
+     * @since 2.7.0
+     */
+    @Override
+    public Object getParseCacheKey()
+    {
+        return getClass();
+    }
+
 }
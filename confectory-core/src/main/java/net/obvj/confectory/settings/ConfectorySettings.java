@@ -17,9 +17,12 @@
 package net.obvj.confectory.settings;
 
 import java.util.Objects;
+import java.util.concurrent.Executor;
 
 import net.obvj.confectory.DataFetchStrategy;
+import net.obvj.confectory.util.LoaderExecutors;
 import net.obvj.confectory.util.ObjectFactory;
+import net.obvj.confectory.util.ParseCache;
 
 /**
  * An object that defines the global settings for the {@code Confectory} project.
@@ -40,12 +43,46 @@ public class ConfectorySettings
      */
     static final ObjectFactory INITIAL_OBJECT_FACTORY = ObjectFactory.FAST;
 
+    /**
+     * The initial maximum number of compiled expressions (e.g.: JSONPath, XPath) to be
+     * cached
+     */
+    static final int INITIAL_EXPRESSION_CACHE_SIZE = 1024;
+
+    /**
+     * The initial state of the flat index for JSON documents
+     */
+    static final boolean INITIAL_JSON_FLAT_INDEX_ENABLED = false;
+
+    /**
+     * The initial {@link Executor} for asynchronous and parallel loading of configuration
+     * sources
+     */
+    static final Executor INITIAL_LOADER_EXECUTOR = LoaderExecutors.newDefaultExecutor();
+
+    /**
+     * The initial maximum number of mapped objects to be kept by the global parse cache
+     * (disabled by default)
+     */
+    static final int INITIAL_PARSE_CACHE_SIZE = 0;
+
+    /**
+     * The initial maximum number of resolved values to be cached by each
+     * {@code ConfigurationContainer}
+     */
+    static final int INITIAL_VALUE_CACHE_SIZE = 4096;
+
     private static final ConfectorySettings INSTANCE = new ConfectorySettings();
 
     // Settings - start
 
     private DataFetchStrategy defaultDataFetchStrategy;
     private ObjectFactory objectFactory;
+    private volatile int expressionCacheSize;
+    private volatile boolean jsonFlatIndexEnabled;
+    private volatile Executor loaderExecutor;
+    private volatile int parseCacheSize;
+    private volatile int valueCacheSize;
 
     /*
      * Private constructor to hide the default, implicit one
@@ -62,6 +99,11 @@ public class ConfectorySettings
     {
         defaultDataFetchStrategy = INITIAL_DATA_FETCH_STRATEGY;
         objectFactory = INITIAL_OBJECT_FACTORY;
+        expressionCacheSize = INITIAL_EXPRESSION_CACHE_SIZE;
+        jsonFlatIndexEnabled = INITIAL_JSON_FLAT_INDEX_ENABLED;
+        loaderExecutor = INITIAL_LOADER_EXECUTOR;
+        parseCacheSize = INITIAL_PARSE_CACHE_SIZE;
+        valueCacheSize = INITIAL_VALUE_CACHE_SIZE;
     }
 
     /**
@@ -118,4 +160,173 @@ public class ConfectorySettings
                 "the ObjectFactory must not be null");
     }
 
+    /**
+     * Returns the maximum number of compiled expressions (e.g.: JSONPath, XPath) to be cached
+     * by each expression cache.
+     *
+     * @return the maximum expression cache size; zero means caching is disabled
+     * @since 2.7.0
+     */
+    public int getExpressionCacheSize()
+    {
+        return expressionCacheSize;
+    }
+
+    /**
+     * Defines the maximum number of compiled expressions (e.g.: JSONPath, XPath) to be cached
+     * by each expression cache.
+     * <p>
+     * When the limit is reached, the least recently used expressions are evicted. If the
+     * specified size is zero, expressions will be compiled on every lookup.
+     *
+     * @param expressionCacheSize the maximum expression cache size to set; not negative
+     * @throws IllegalArgumentException if the specified size is negative
+     * @since 2.7.0
+     */
+    public void setExpressionCacheSize(int expressionCacheSize)
+    {
+        if (expressionCacheSize < 0)
+        {
+            throw new IllegalArgumentException("the expression cache size must not be negative");
+        }
+        this.expressionCacheSize = expressionCacheSize;
+    }
+
+    /**
+     * Returns {@code true} if JSON documents are flattened into a key index when loaded.
+     *
+     * @return {@code true} if the JSON flat index is enabled; {@code false} otherwise
+     * @since 2.7.0
+     */
+    public boolean isJsonFlatIndexEnabled()
+    {
+        return jsonFlatIndexEnabled;
+    }
+
+    /**
+     * Enables or disables the flat index for JSON documents (disabled by default).
+     * <p>
+     * When enabled, each JSON-based {@code Configuration} (e.g.: JSON, YAML, TOML, or INI
+     * mapped to JSON) flattens its document once, when loaded, into a hash map from the
+     * canonical path of each element (e.g.: {@code server.port}) to its value. Simple,
+     * definite paths (e.g.: {@code $.server.port}) are then resolved with a single hash
+     * lookup, at the cost of additional memory.
+     * <p>
+     * <strong>Note:</strong> The index is built when the {@code Configuration} is loaded, so
+     * changes applied to the JSON document afterwards (e.g., via {@code getBean()}) will not
+     * be visible to simple-path lookups.
+     *
+     * @param jsonFlatIndexEnabled {@code true} to enable the JSON flat index
+     * @since 2.7.0
+     */
+    public void setJsonFlatIndexEnabled(boolean jsonFlatIndexEnabled)
+    {
+        this.jsonFlatIndexEnabled = jsonFlatIndexEnabled;
+    }
+
+    /**
+     * Returns the {@link Executor} that runs asynchronous and parallel loads of
+     * configuration sources, when no specific executor is provided.
+     *
+     * @return the loader {@link Executor}
+     * @since 2.7.0
+     */
+    public Executor getLoaderExecutor()
+    {
+        return loaderExecutor;
+    }
+
+    /**
+     * Defines the {@link Executor} that runs asynchronous and parallel loads of
+     * configuration sources, when no specific executor is provided.
+     * <p>
+     * By default, a new virtual thread is started for each load, if the runtime supports
+     * virtual threads (Java 21+). Otherwise, loads run on a bounded pool of daemon threads.
+     * <p>
+     * <strong>Note:</strong> The specified executor is not shut down by {@code Confectory}.
+     *
+     * @param loaderExecutor the loader {@link Executor} to set; not null
+     * @throws NullPointerException if the specified executor is null
+     * @since 2.7.0
+     * @see LoaderExecutors
+     */
+    public void setLoaderExecutor(Executor loaderExecutor)
+    {
+        this.loaderExecutor = Objects.requireNonNull(loaderExecutor,
+                "the loader Executor must not be null");
+    }
+
+    /**
+     * Returns the maximum number of mapped objects to be kept by the global parse cache.
+     *
+     * @return the maximum parse cache size; zero means caching is disabled
+     * @since 2.7.0
+     */
+    public int getParseCacheSize()
+    {
+        return parseCacheSize;
+    }
+
+    /**
+     * Defines the maximum number of mapped objects to be kept by the global parse cache
+     * (zero, i.e., disabled by default).
+     * <p>
+     * When enabled, the objects mapped by the built-in sources are cached by source, content
+     * hash and mapper, so that {@code Configuration} objects loaded from the same source
+     * with unchanged content (e.g.: in different namespaces, or after a rebuild or reload)
+     * share a single object, instead of parsing the content again. When the limit is
+     * reached, the least recently used objects are evicted; they may also be reclaimed by
+     * the garbage collector under memory pressure.
+     * <p>
+     * <strong>Note:</strong> Shared objects should be treated as read-only, since changes
+     * applied to them (e.g., via {@code getBean()}) will be visible to every
+     * {@code Configuration} sharing them.
+     *
+     * @param parseCacheSize the maximum parse cache size to set; not negative
+     * @throws IllegalArgumentException if the specified size is negative
+     * @since 2.7.0
+     * @see ParseCache
+     */
+    public void setParseCacheSize(int parseCacheSize)
+    {
+        if (parseCacheSize < 0)
+        {
+            throw new IllegalArgumentException("the parse cache size must not be negative");
+        }
+        this.parseCacheSize = parseCacheSize;
+    }
+
+    /**
+     * Returns the maximum number of resolved values to be cached by each
+     * {@code ConfigurationContainer}.
+     *
+     * @return the maximum value cache size; zero means caching is disabled
+     * @since 2.7.0
+     */
+    public int getValueCacheSize()
+    {
+        return valueCacheSize;
+    }
+
+    /**
+     * Defines the maximum number of resolved values to be cached by each
+     * {@code ConfigurationContainer}.
+     * <p>
+     * Both found and "not found" results count towards the limit. When the limit is reached,
+     * the least recently used values are evicted. If the specified size is zero, values will
+     * be resolved on every lookup.
+     *
+     * @param valueCacheSize the maximum value cache size to set; not negative
+     * @throws IllegalArgumentException if the specified size is negative
+     * @since 2.7.0
+     */
+    public void setValueCacheSize(int valueCacheSize)
+    {
+        if (valueCacheSize < 0)
+        {
+            throw new IllegalArgumentException("the value cache size must not be negative");
+        }
+        this.valueCacheSize = valueCacheSize;
+    }
+
 }
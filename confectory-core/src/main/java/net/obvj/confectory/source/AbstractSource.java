@@ -20,12 +20,14 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.Objects;
 
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import net.obvj.confectory.ConfigurationSourceException;
 import net.obvj.confectory.mapper.Mapper;
+import net.obvj.confectory.util.ParseCache;
 
 /**
  * An abstract configuration source, with common infrastructure.
@@ -54,6 +56,10 @@ public abstract class AbstractSource<T> implements Source<T>
 
     /**
      * Loads the specified input stream with the specified mapper.
+     * <p>
+     * If the global {@link ParseCache} is enabled for the mapper, the stream is read
+     * entirely, and an object previously mapped from the same content by this source is
+     * returned, if available.
      *
      * @param inputStream the input stream to be loaded
      * @param mapper      the {@link Mapper} to be applied on the input stream
@@ -62,6 +68,11 @@ public abstract class AbstractSource<T> implements Source<T>
      */
     protected T load(InputStream inputStream, Mapper<T> mapper) throws IOException
     {
+        ParseCache parseCache = ParseCache.global();
+        if (parseCache.isEnabled(mapper))
+        {
+            return parseCache.apply(this, IOUtils.toByteArray(inputStream), mapper);
+        }
         return mapper.apply(inputStream);
     }
 
@@ -55,6 +55,12 @@ import net.obvj.confectory.mapper.Mapper;
  * If unable to determine the source by prefix, the system will do best efforts
  * to load the object by applying different {@link Source} implementations.
  * </p>
+ * <p>
+ * Since version 2.7.0, the concrete {@link Source} is resolved once, on the first
+ * successful resolution, and reused by subsequent loads (e.g., reloads). If a path
+ * without prefix is not found in the classpath, the miss is remembered, so subsequent
+ * loads go straight to the file system.
+ * </p>
  *
  * @author oswaldo.bapvic.jr (Oswaldo Junior)
  * @since 0.1.0
@@ -70,6 +76,8 @@ public class DynamicSource<T> extends AbstractSource<T> implements Source<T>
     private static final String FILE_PREFIX = "file://";
     private static final String HTTP_PREFIX = "http://";
 
+    private volatile Source<T> resolvedSource;
+
     /**
      * Builds a new dynamic configuration source from a specific path.
      *
@@ -83,9 +91,31 @@ public class DynamicSource<T> extends AbstractSource<T> implements Source<T>
     @Override
     public T load(Mapper<T> mapper)
     {
+        Source<T> source = resolvedSource;
+        if (source != null)
+        {
+            return source.load(mapper);
+        }
         LOGGER.info("Searching path: {}", super.parameter);
-        Source<T> source = resolveSource(super.parameter);
-        return source != null ? source.load(mapper) : trySources(mapper);
+        source = resolveSource(super.parameter);
+        if (source != null)
+        {
+            resolvedSource = source;
+            return source.load(mapper);
+        }
+        return trySources(mapper);
+    }
+
+    /**
+     * Returns the concrete {@link Source} resolved for the path of this object, if already
+     * determined.
+     *
+     * @return the resolved {@link Source}, or {@code null} if not yet determined
+     * @since 2.7.0
+     */
+    Source<T> getResolvedSource()
+    {
+        return resolvedSource;
     }
 
     /**
@@ -123,16 +153,22 @@ public class DynamicSource<T> extends AbstractSource<T> implements Source<T>
     private T trySources(Mapper<T> mapper)
     {
         LOGGER.debug("Trying to load as ClasspathFileSource...");
+        Source<T> classpathSource = SourceFactory.classpathFileSource(super.parameter);
         try
         {
-            return SourceFactory.<T>classpathFileSource(super.parameter).load(mapper);
+            T mappedObject = classpathSource.load(mapper);
+            resolvedSource = classpathSource;
+            return mappedObject;
         }
         catch (ConfigurationSourceException exception)
         {
             if (isFileNotFound(exception))
             {
                 LOGGER.debug("Not found in classpath. Trying as FileSource...");
-                return SourceFactory.<T>fileSource(super.parameter).load(mapper);
+                // Remember the classpath miss, so next loads go straight to the file system
+                Source<T> fileSource = SourceFactory.fileSource(super.parameter);
+                resolvedSource = fileSource;
+                return fileSource.load(mapper);
             }
             // The exception was raised due to problems in the mapping part,
             // so we do not need to try a different source.
@@ -0,0 +1,259 @@
+/*
+ * Copyright 2021 obvj.net
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.obvj.confectory.source;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Objects;
+import java.util.Properties;
+
+/**
+ * A local disk cache for the last response body of a URL, along with its HTTP validators
+ * ({@code ETag} and {@code Last-Modified}).
+ * <p>
+ * Each URL is stored in two files, named after the SHA-256 hash of the URL: a
+ * {@code .body} file, with the response body, and a {@code .meta} file, with the
+ * validators and the SHA-256 hash of the body. Both files are replaced atomically, when
+ * supported by the file system, and the metadata is written last. This way, if the
+ * process stops between the two replacements, the new body does not match the hash in the
+ * old metadata, and is rejected when read, instead of being paired with old validators.
+ * <p>
+ * The metadata is read first; the body is only read (and verified) when actually needed,
+ * e.g., when the server replies {@code 304 (Not Modified)}.
+ *
+ * @author oswaldo.bapvic.jr (Oswaldo Junior)
+ * @since 2.7.0
+ */
+final class HttpResponseCache
+{
+    private static final String KEY_URL = "url";
+    private static final String KEY_ETAG = "etag";
+    private static final String KEY_LAST_MODIFIED = "lastModified";
+    private static final String KEY_BODY_HASH = "bodySha256";
+
+    private final URL url;
+    private final Path directory;
+    private final Path bodyFile;
+    private final Path metaFile;
+
+    /**
+     * Creates a disk cache for the specified URL.
+     *
+     * @param directory the directory where the cache files are to be stored; not null
+     * @param url       the URL whose responses are to be cached; not null
+     */
+    HttpResponseCache(Path directory, URL url)
+    {
+        this.directory = Objects.requireNonNull(directory, "the cache directory must not be null");
+        this.url = Objects.requireNonNull(url, "the URL must not be null");
+        String name = sha256(url.toString());
+        this.bodyFile = directory.resolve(name + ".body");
+        this.metaFile = directory.resolve(name + ".meta");
+    }
+
+    /**
+     * Reads the metadata of the cached response. The body is read on demand, with
+     * {@link Entry#getBody()}.
+     *
+     * @return the cached response, or {@code null} if not available
+     * @throws IOException if the metadata file exists but cannot be read
+     */
+    Entry read() throws IOException
+    {
+        Properties meta = new Properties();
+        try (InputStream inputStream = Files.newInputStream(metaFile))
+        {
+            meta.load(inputStream);
+            String bodyHash = meta.getProperty(KEY_BODY_HASH);
+            if (!url.toString().equals(meta.getProperty(KEY_URL)) || bodyHash == null)
+            {
+                return null; // hash collision, or not a cache file
+            }
+            return new Entry(bodyFile, bodyHash, meta.getProperty(KEY_ETAG), meta.getProperty(KEY_LAST_MODIFIED));
+        }
+        catch (NoSuchFileException exception)
+        {
+            return null;
+        }
+    }
+
+    /**
+     * Stores a response, replacing the previous one, if present.
+     *
+     * @param body         the response body
+     * @param eTag         the value of the {@code ETag} header (may be null)
+     * @param lastModified the value of the {@code Last-Modified} header (may be null)
+     * @throws IOException if the cache files cannot be written
+     */
+    void write(byte[] body, String eTag, String lastModified) throws IOException
+    {
+        Files.createDirectories(directory);
+
+        Properties meta = new Properties();
+        meta.setProperty(KEY_URL, url.toString());
+        meta.setProperty(KEY_BODY_HASH, sha256(body));
+        if (eTag != null)
+        {
+            meta.setProperty(KEY_ETAG, eTag);
+        }
+        if (lastModified != null)
+        {
+            meta.setProperty(KEY_LAST_MODIFIED, lastModified);
+        }
+
+        // The metadata goes last, so the validators never refer to a body not yet written
+        Path bodyTemp = null;
+        Path metaTemp = null;
+        try
+        {
+            bodyTemp = Files.createTempFile(directory, bodyFile.getFileName().toString(), ".tmp");
+            Files.write(bodyTemp, body);
+            move(bodyTemp, bodyFile);
+
+            metaTemp = Files.createTempFile(directory, metaFile.getFileName().toString(), ".tmp");
+            try (OutputStream outputStream = Files.newOutputStream(metaTemp))
+            {
+                meta.store(outputStream, null);
+            }
+            move(metaTemp, metaFile);
+        }
+        finally
+        {
+            // No effect once moved
+            deleteQuietly(bodyTemp);
+            deleteQuietly(metaTemp);
+        }
+    }
+
+    private static void deleteQuietly(Path file)
+    {
+        if (file != null)
+        {
+            try
+            {
+                Files.deleteIfExists(file);
+            }
+            catch (IOException exception)
+            {
+                // A leftover temporary file must not mask the outcome of the write
+            }
+        }
+    }
+
+    private static void move(Path source, Path target) throws IOException
+    {
+        try
+        {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        }
+        catch (AtomicMoveNotSupportedException exception)
+        {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static String sha256(String string)
+    {
+        return sha256(string.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String sha256(byte[] bytes)
+    {
+        try
+        {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(bytes);
+            StringBuilder builder = new StringBuilder(hash.length * 2);
+            for (byte value : hash)
+            {
+                builder.append(Character.forDigit((value >> 4) & 0xF, 16))
+                        .append(Character.forDigit(value & 0xF, 16));
+            }
+            return builder.toString();
+        }
+        catch (NoSuchAlgorithmException exception)
+        {
+            // Every implementation of the Java platform is required to support SHA-256
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    /**
+     * @return the file that stores the response body
+     */
+    Path getBodyFile()
+    {
+        return bodyFile;
+    }
+
+    /**
+     * A cached response, whose body is read on demand.
+     */
+    static final class Entry
+    {
+        private final Path bodyFile;
+        private final String bodyHash;
+        private final String eTag;
+        private final String lastModified;
+
+        Entry(Path bodyFile, String bodyHash, String eTag, String lastModified)
+        {
+            this.bodyFile = bodyFile;
+            this.bodyHash = bodyHash;
+            this.eTag = eTag;
+            this.lastModified = lastModified;
+        }
+
+        /**
+         * Reads the cached body, checking it against the hash stored in the metadata.
+         *
+         * @return the cached body
+         * @throws IOException if the body file cannot be read, or does not match the
+         *                     metadata (e.g., because the process stopped while the cache
+         *                     was being written)
+         */
+        byte[] getBody() throws IOException
+        {
+            byte[] body = Files.readAllBytes(bodyFile);
+            if (!bodyHash.equals(sha256(body)))
+            {
+                throw new IOException("Cached body does not match its metadata: " + bodyFile);
+            }
+            return body;
+        }
+
+        String getETag()
+        {
+            return eTag;
+        }
+
+        String getLastModified()
+        {
+            return lastModified;
+        }
+    }
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2021 obvj.net
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.obvj.confectory.source;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+import net.obvj.performetrics.Counter;
+import net.obvj.performetrics.Stopwatch;
+import net.obvj.performetrics.util.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.obvj.confectory.ConfigurationSourceException;
+import net.obvj.confectory.mapper.Mapper;
+import net.obvj.confectory.util.ParseCache;
+
+/**
+ * A specialized {@link FileSource} that maps the file into memory, instead of reading it
+ * through a stream.
+ * <p>
+ * The mapped region is passed to {@link Mapper#applyBuffer(java.nio.ByteBuffer)}, so mappers
+ * backed by parsers that accept byte arrays or buffers (e.g.: Jackson, json-smart) can
+ * read the content directly, skipping intermediate stream buffers. Other mappers read the
+ * region as an input stream. This source is recommended for large files, since the
+ * content is paged in by the operating system on demand.
+ * <p>
+ * <strong>Note:</strong> The mapping is released when the buffer is garbage-collected.
+ * Files larger than 2 GB are not supported.
+ *
+ * @param <T> the configuration data type returned by this {@code Source}
+ *
+ * @author oswaldo.bapvic.jr (Oswaldo Junior)
+ * @since 2.7.0
+ */
+public class MappedFileSource<T> extends FileSource<T> implements Source<T>
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(MappedFileSource.class);
+
+    /**
+     * Builds a new memory-mapped configuration source for specific local file from the file
+     * system.
+     *
+     * @param path the file path for this configuration source.
+     */
+    public MappedFileSource(String path)
+    {
+        super(path);
+    }
+
+    @Override
+    public T load(Mapper<T> mapper)
+    {
+        LOGGER.info("Mapping file: {}", super.parameter);
+
+        Stopwatch stopwatch = Stopwatch.createStarted(Counter.Type.WALL_CLOCK_TIME);
+        try (FileChannel channel = FileChannel.open(Paths.get(super.parameter), StandardOpenOption.READ))
+        {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE)
+            {
+                throw new ConfigurationSourceException("File too large to be mapped: %s (%s bytes)",
+                        super.parameter, size);
+            }
+            MappedByteBuffer buffer = channel.map(MapMode.READ_ONLY, 0, size);
+
+            LOGGER.debug("Appplying mapper {}", mapper.getClass());
+            T mappedObject = ParseCache.global().apply(this, buffer, mapper);
+
+            stopwatch.stop();
+            Duration elapsedTime = stopwatch.elapsedTime();
+
+            LOGGER.info("File {} loaded successfully", super.parameter);
+            LOGGER.info("File loaded in {}", elapsedTime);
+            return mappedObject;
+        }
+        catch (IOException | InvalidPathException exception)
+        {
+            throw new ConfigurationSourceException(exception, "Unable to load file: %s", super.parameter);
+        }
+    }
+
+}
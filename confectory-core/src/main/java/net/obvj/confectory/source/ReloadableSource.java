@@ -0,0 +1,52 @@
+/*
+ * Copyright 2021 obvj.net
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.obvj.confectory.source;
+
+/**
+ * A {@code Source} that notifies listeners when its underlying data changes, so that the
+ * {@code Configuration} objects built from it can be reloaded.
+ *
+ * @param <T> the configuration data type returned by this {@code Source}
+ *
+ * @author oswaldo.bapvic.jr (Oswaldo Junior)
+ * @since 2.7.0
+ *
+ * @see WatchingFileSource
+ */
+public interface ReloadableSource<T> extends Source<T>
+{
+
+    /**
+     * Registers a listener to be notified whenever the underlying data of this source
+     * changes.
+     * <p>
+     * Listeners are notified in a background thread, so they must not assume to run in the
+     * thread that registered them.
+     *
+     * @param listener the listener to be registered; not null
+     * @throws NullPointerException if the listener is null
+     */
+    void addChangeListener(Runnable listener);
+
+    /**
+     * Removes a listener previously registered with {@link #addChangeListener(Runnable)}.
+     *
+     * @param listener the listener to be removed
+     */
+    void removeChangeListener(Runnable listener);
+
+}
@@ -16,8 +16,13 @@
 
 package net.obvj.confectory.source;
 
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 import net.obvj.confectory.ConfigurationSourceException;
 import net.obvj.confectory.mapper.Mapper;
+import net.obvj.confectory.settings.ConfectorySettings;
 
 /**
  * The base interface for a configuration source.
@@ -61,4 +66,62 @@ public interface Source<T>
      */
     T load(Mapper<T> mapper, boolean optional);
 
+    /**
+     * Loads the configuration source asynchronously, on the loader executor defined in
+     * {@link ConfectorySettings#getLoaderExecutor()}.
+     * <p>
+     * If the operation fails, the returned future completes exceptionally with a
+     * {@link ConfigurationSourceException}.
+     *
+     * @param mapper the {@link Mapper} to be applied on the source input stream
+     * @return a {@link CompletableFuture} that completes with the loaded configuration data
+     *
+     * @see #load(Mapper)
+     * @since 2.7.0
+     */
+    default CompletableFuture<T> loadAsync(Mapper<T> mapper)
+    {
+        return loadAsync(mapper, ConfectorySettings.instance().getLoaderExecutor());
+    }
+
+    /**
+     * Loads the configuration source asynchronously, on the specified executor.
+     * <p>
+     * If the operation fails, the returned future completes exceptionally with a
+     * {@link ConfigurationSourceException}.
+     *
+     * @param mapper   the {@link Mapper} to be applied on the source input stream
+     * @param executor the executor to run the load operation; not null
+     * @return a {@link CompletableFuture} that completes with the loaded configuration data
+     * @throws NullPointerException if the executor is null
+     *
+     * @see #load(Mapper)
+     * @since 2.7.0
+     */
+    default CompletableFuture<T> loadAsync(Mapper<T> mapper, Executor executor)
+    {
+        return loadAsync(mapper, false, executor);
+    }
+
+    /**
+     * Loads the configuration source asynchronously, on the specified executor. If the
+     * {@code optional} parameter is {@code true} and the operation fails, the returned
+     * future completes with {@code null}.
+     *
+     * @param mapper   the {@link Mapper} to be applied on the source input stream
+     * @param optional a flag indicating whether or not the future should complete
+     *                 exceptionally in an event of failure to load the configuration source
+     * @param executor the executor to run the load operation; not null
+     * @return a {@link CompletableFuture} that completes with the loaded configuration data
+     * @throws NullPointerException if the executor is null
+     *
+     * @see #load(Mapper, boolean)
+     * @since 2.7.0
+     */
+    default CompletableFuture<T> loadAsync(Mapper<T> mapper, boolean optional, Executor executor)
+    {
+        Objects.requireNonNull(executor, "the executor must not be null");
+        return CompletableFuture.supplyAsync(() -> load(mapper, optional), executor);
+    }
+
 }
@@ -16,16 +16,29 @@
 
 package net.obvj.confectory.source;
 
+import java.io.FileNotFoundException;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
+import java.net.SocketTimeoutException;
 import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import net.obvj.confectory.ConfigurationSourceException;
 import net.obvj.confectory.mapper.Mapper;
+import net.obvj.confectory.util.ParseCache;
 import net.obvj.performetrics.Counter;
 import net.obvj.performetrics.Stopwatch;
 import net.obvj.performetrics.util.Duration;
@@ -44,6 +57,22 @@ import net.obvj.performetrics.util.Duration;
  * <li>{@code http://www.server.com:1080/myservice/config.json}</li>
  * <li>{@code http://192.168.0.10:1080/config?field1=value1&field2=value2}</li>
  * </ul>
+ * <p>
+ * Optionally, a cache directory may be specified to enable the <b>HTTP-aware mode</b> for
+ * HTTP and HTTPS URLs. In this mode, the last response body is stored in the cache
+ * directory, along with its {@code ETag} and {@code Last-Modified} headers. Subsequent
+ * loads send a conditional request ({@code If-None-Match}/{@code If-Modified-Since}) and,
+ * if the server replies with {@code 304 (Not Modified)}, the cached copy is reused,
+ * without transferring the content again. If the server cannot be reached, or replies
+ * with a transient error (e.g., {@code 503 (Service Unavailable)}), the cached copy is
+ * loaded instead. Other errors (e.g., {@code 404 (Not Found)}) are not masked by the
+ * cache.
+ * <p>
+ * HTTP and HTTPS connections are subject to the connect and read timeouts, bounded
+ * retries and deadline defined in {@link URLSourceOptions} ({@link URLSourceOptions#DEFAULT}
+ * unless specified), so that an unresponsive server cannot block the load indefinitely.
+ * Other URLs (e.g., {@code file:} or {@code jar:}) are loaded in a single attempt, without
+ * deadline.
  *
  * @author oswaldo.bapvic.jr (Oswaldo Junior)
  * @since 0.4.0
@@ -52,6 +81,12 @@ public class URLSource<T> extends AbstractSource<T> implements Source<T>
 {
     private static final Logger LOGGER = LoggerFactory.getLogger(URLSource.class);
 
+    private static final int HTTP_TOO_MANY_REQUESTS = 429;
+
+    private final Path cacheDirectory;
+    private final URLSourceOptions options;
+    private volatile MappedResponse<T> lastResponse;
+
     /**
      * Builds a new configuration source for a specific URL.
      *
@@ -59,8 +94,74 @@ public class URLSource<T> extends AbstractSource<T> implements Source<T>
      * @throws ConfigurationSourceException if the specified URL can not be parsed
      */
     public URLSource(String string)
+    {
+        this(string, null, URLSourceOptions.DEFAULT);
+    }
+
+    /**
+     * Builds a new configuration source for a specific URL, with custom connection options.
+     *
+     * @param string  the string to parse as URL for this configuration source
+     * @param options the {@link URLSourceOptions} (timeouts, retries and deadline) to be
+     *                applied; not null
+     * @throws NullPointerException if the options are null
+     * @since 2.7.0
+     */
+    public URLSource(String string, URLSourceOptions options)
+    {
+        this(string, null, options);
+    }
+
+    /**
+     * Builds a new configuration source for a specific URL, with a local disk cache for
+     * HTTP and HTTPS responses.
+     *
+     * @param string         the string to parse as URL for this configuration source
+     * @param cacheDirectory the directory where the last response is to be cached;
+     *                       {@code null} disables the HTTP-aware mode
+     * @since 2.7.0
+     */
+    public URLSource(String string, Path cacheDirectory)
+    {
+        this(string, cacheDirectory, URLSourceOptions.DEFAULT);
+    }
+
+    /**
+     * Builds a new configuration source for a specific URL, with a local disk cache for
+     * HTTP and HTTPS responses and custom connection options.
+     *
+     * @param string         the string to parse as URL for this configuration source
+     * @param cacheDirectory the directory where the last response is to be cached;
+     *                       {@code null} disables the HTTP-aware mode
+     * @param options        the {@link URLSourceOptions} (timeouts, retries and deadline)
+     *                       to be applied; not null
+     * @throws NullPointerException if the options are null
+     * @since 2.7.0
+     */
+    public URLSource(String string, Path cacheDirectory, URLSourceOptions options)
     {
         super(string);
+        this.cacheDirectory = cacheDirectory;
+        this.options = Objects.requireNonNull(options, "the URLSourceOptions must not be null");
+    }
+
+    /**
+     * @return the directory where the last HTTP response is cached, or {@code null} if the
+     *         HTTP-aware mode is disabled
+     * @since 2.7.0
+     */
+    public Path getCacheDirectory()
+    {
+        return cacheDirectory;
+    }
+
+    /**
+     * @return the connection options applied by this source
+     * @since 2.7.0
+     */
+    public URLSourceOptions getOptions()
+    {
+        return options;
     }
 
     @Override
@@ -71,19 +172,116 @@ public class URLSource<T> extends AbstractSource<T> implements Source<T>
 
     protected T load(URL url, Mapper<T> mapper)
     {
+        if (cacheDirectory != null && isHttp(url))
+        {
+            return loadWithRevalidation(url, mapper);
+        }
+
         Stopwatch stopwatch = Stopwatch.createStarted(Counter.Type.WALL_CLOCK_TIME);
-        try (InputStream inputStream = url.openStream())
+        LOGGER.info("Loading \"{}\"", url);
+        T mappedObject;
+        try
+        {
+            // The body is buffered only if the parse cache needs the bytes to compute
+            // the content hash; otherwise, it is streamed straight into the mapper
+            mappedObject = ParseCache.global().isEnabled(mapper)
+                    ? map(fetch(url, null, IOUtils::toByteArray).body, mapper, url)
+                    : fetch(url, null, body -> mapStream(body, mapper, url)).body;
+        }
+        catch (IOException exception)
         {
-            LOGGER.info("Loading \"{}\"", url);
-            LOGGER.debug("Applying mapper {}", mapper.getClass());
+            throw new ConfigurationSourceException(exception, "Unable to load resource: %s", url);
+        }
+
+        stopwatch.stop();
+        Duration elapsedTime = stopwatch.elapsedTime();
 
-            T mappedObject = mapper.apply(inputStream);
+        LOGGER.info("Resource loaded successfully in {}", elapsedTime);
+        return mappedObject;
+    }
 
-            stopwatch.stop();
-            Duration elapsedTime = stopwatch.elapsedTime();
+    /**
+     * Loads an HTTP resource with a conditional request, reusing the cached copy if not
+     * modified, or if the server cannot be reached or fails with a transient error.
+     *
+     * @param url    the URL to be loaded
+     * @param mapper the {@link Mapper} to be applied on the response body
+     * @return the loaded configuration data
+     * @throws ConfigurationSourceException if the resource cannot be loaded and no cached
+     *                                      copy is available
+     */
+    private T loadWithRevalidation(URL url, Mapper<T> mapper)
+    {
+        HttpResponseCache cache = new HttpResponseCache(cacheDirectory, url);
+        HttpResponseCache.Entry cached = readCache(cache);
 
-            LOGGER.info("Resource loaded successfully in {}", elapsedTime);
-            return mappedObject;
+        Stopwatch stopwatch = Stopwatch.createStarted(Counter.Type.WALL_CLOCK_TIME);
+        LOGGER.info("Loading \"{}\"", url);
+        Response<byte[]> response;
+        try
+        {
+            response = fetch(url, cached, IOUtils::toByteArray);
+        }
+        catch (IOException exception)
+        {
+            if (cached == null || !isTransient(exception))
+            {
+                throw new ConfigurationSourceException(exception, "Unable to load resource: %s", url);
+            }
+            LOGGER.warn("Unable to load resource: {} ({}). Using cached copy: {}", url,
+                    ExceptionUtils.getRootCauseMessage(exception), cache.getBodyFile());
+            try
+            {
+                return mapCached(cached, mapper);
+            }
+            catch (IOException cacheException)
+            {
+                exception.addSuppressed(cacheException);
+                throw new ConfigurationSourceException(exception, "Unable to load resource: %s", url);
+            }
+        }
+        if (response == Response.NOT_MODIFIED)
+        {
+            try
+            {
+                T mappedObject = mapCached(cached, mapper);
+                LOGGER.info("Resource not modified, cached copy reused");
+                return mappedObject;
+            }
+            catch (IOException exception)
+            {
+                LOGGER.warn("Unable to read cached resource: {} ({}). Reloading", cache.getBodyFile(),
+                        ExceptionUtils.getRootCauseMessage(exception));
+                response = fetchUnconditionally(url);
+            }
+        }
+
+        T mappedObject = map(response.body, mapper, url);
+        lastResponse = new MappedResponse<>(mapper, response.eTag, response.lastModified, mappedObject);
+        try
+        {
+            cache.write(response.body, response.eTag, response.lastModified);
+        }
+        catch (IOException exception)
+        {
+            LOGGER.warn("Unable to cache resource: {} ({})", url, ExceptionUtils.getRootCauseMessage(exception));
+        }
+
+        stopwatch.stop();
+        LOGGER.info("Resource loaded successfully in {}", stopwatch.elapsedTime());
+        return mappedObject;
+    }
+
+    /**
+     * Retrieves the contents of the specified URL, with no conditional headers.
+     *
+     * @throws ConfigurationSourceException if the resource cannot be loaded
+     */
+    private Response<byte[]> fetchUnconditionally(URL url)
+    {
+        try
+        {
+            return fetch(url, null, IOUtils::toByteArray);
         }
         catch (IOException exception)
         {
@@ -91,6 +289,234 @@ public class URLSource<T> extends AbstractSource<T> implements Source<T>
         }
     }
 
+    /**
+     * Retrieves the contents of the specified URL. HTTP and HTTPS transient failures are
+     * retried with exponential backoff and jitter, within the deadline; other URLs are
+     * retrieved in a single attempt.
+     *
+     * @param <R>    the type of the body produced by the reader
+     * @param url    the URL to be retrieved
+     * @param cached the cached response to be revalidated; {@code null} for an
+     *               unconditional request
+     * @param reader the function that consumes the response body
+     * @return the response, or {@link Response#NOT_MODIFIED}, if the cached response is
+     *         still valid
+     * @throws IOException if the last attempt fails, or if the failure is not transient, or
+     *                     if the deadline is exceeded
+     */
+    private <R> Response<R> fetch(URL url, HttpResponseCache.Entry cached, BodyReader<R> reader)
+            throws IOException
+    {
+        if (!isHttp(url))
+        {
+            return fetchOnce(url, cached, 0L, reader);
+        }
+        long deadline = options.getDeadline().isZero() ? 0L : System.nanoTime() + options.getDeadline().toNanos();
+        long backoff = options.getInitialBackoff().toMillis();
+        for (int attempt = 1;; attempt++)
+        {
+            try
+            {
+                return fetchOnce(url, cached, deadline, reader);
+            }
+            catch (IOException exception)
+            {
+                long delay = withJitter(backoff);
+                if (attempt >= options.getMaxAttempts() || !isTransient(exception)
+                        || delay >= remainingMillis(deadline))
+                {
+                    throw exception;
+                }
+                LOGGER.warn("Attempt {} of {} to load {} failed ({}). Retrying in {} ms", attempt,
+                        options.getMaxAttempts(), url, ExceptionUtils.getRootCauseMessage(exception), delay);
+                sleep(delay);
+                backoff = Math.min(backoff * 2, options.getMaxBackoff().toMillis());
+            }
+        }
+    }
+
+    private <R> Response<R> fetchOnce(URL url, HttpResponseCache.Entry cached, long deadline,
+            BodyReader<R> reader) throws IOException
+    {
+        URLConnection connection = url.openConnection();
+        connection.setConnectTimeout(timeoutMillis(options.getConnectTimeout(), deadline));
+        connection.setReadTimeout(timeoutMillis(options.getReadTimeout(), deadline));
+        if (connection instanceof HttpURLConnection)
+        {
+            HttpURLConnection httpConnection = (HttpURLConnection) connection;
+            if (cached != null)
+            {
+                setHeaderIfPresent(connection, "If-None-Match", cached.getETag());
+                setHeaderIfPresent(connection, "If-Modified-Since", cached.getLastModified());
+            }
+            int status = httpConnection.getResponseCode();
+            if (status == HttpURLConnection.HTTP_NOT_MODIFIED && cached != null)
+            {
+                httpConnection.disconnect();
+                return Response.notModified();
+            }
+            if (status < 200 || status >= 300)
+            {
+                httpConnection.disconnect();
+                throw new HttpStatusException(status);
+            }
+        }
+        try (BodyInputStream body = new BodyInputStream(connection.getInputStream(), deadline))
+        {
+            return new Response<>(reader.read(body), connection.getHeaderField("ETag"),
+                    connection.getHeaderField("Last-Modified"));
+        }
+    }
+
+    /**
+     * Applies the mapper directly on the response body.
+     * <p>
+     * A failure reading the body (e.g., a connection reset or the deadline exceeded) is
+     * rethrown as is, so that it can be retried, even if the mapper wraps it. Any other
+     * failure is a problem with the content, which is not retried.
+     */
+    private T mapStream(BodyInputStream body, Mapper<T> mapper, URL url) throws IOException
+    {
+        LOGGER.debug("Applying mapper {}", mapper.getClass());
+        try
+        {
+            return mapper.apply(body);
+        }
+        catch (IOException | RuntimeException exception)
+        {
+            if (body.failure != null)
+            {
+                throw body.failure;
+            }
+            if (exception instanceof RuntimeException)
+            {
+                throw (RuntimeException) exception;
+            }
+            throw new ConfigurationSourceException(exception, "Unable to load resource: %s", url);
+        }
+    }
+
+    /**
+     * Returns {@code true} if the specified failure may succeed if retried.
+     */
+    private static boolean isTransient(IOException exception)
+    {
+        if (exception instanceof HttpStatusException)
+        {
+            int status = ((HttpStatusException) exception).status;
+            return status >= 500 || status == HTTP_TOO_MANY_REQUESTS || status == HttpURLConnection.HTTP_CLIENT_TIMEOUT;
+        }
+        return !(exception instanceof FileNotFoundException);
+    }
+
+    /**
+     * Returns a random delay between half and the full specified backoff.
+     */
+    private static long withJitter(long backoff)
+    {
+        long half = backoff / 2;
+        return half + ThreadLocalRandom.current().nextLong(backoff - half + 1);
+    }
+
+    /**
+     * Returns the time left before the deadline, in milliseconds.
+     *
+     * @param deadline the deadline, in {@link System#nanoTime()} units; zero means none
+     */
+    private static long remainingMillis(long deadline)
+    {
+        return deadline == 0L ? Long.MAX_VALUE : TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+    }
+
+    /**
+     * Returns a connection timeout reduced to the time left before the deadline.
+     *
+     * @throws SocketTimeoutException if the deadline has been exceeded
+     */
+    private static int timeoutMillis(java.time.Duration timeout, long deadline) throws SocketTimeoutException
+    {
+        long remaining = remainingMillis(deadline);
+        if (remaining <= 0)
+        {
+            throw new SocketTimeoutException("Deadline exceeded");
+        }
+        long millis = timeout.isZero() ? remaining : Math.min(timeout.toMillis(), remaining);
+        return (int) Math.max(1L, Math.min(millis, Integer.MAX_VALUE));
+    }
+
+    private static void sleep(long millis) throws InterruptedIOException
+    {
+        try
+        {
+            Thread.sleep(millis);
+        }
+        catch (InterruptedException exception)
+        {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to retry");
+        }
+    }
+
+    private static boolean isHttp(URL url)
+    {
+        String protocol = url.getProtocol();
+        return "http".equalsIgnoreCase(protocol) || "https".equalsIgnoreCase(protocol);
+    }
+
+    private static void setHeaderIfPresent(URLConnection connection, String header, String value)
+    {
+        if (value != null)
+        {
+            connection.setRequestProperty(header, value);
+        }
+    }
+
+    private static HttpResponseCache.Entry readCache(HttpResponseCache cache)
+    {
+        try
+        {
+            return cache.read();
+        }
+        catch (IOException exception)
+        {
+            LOGGER.warn("Unable to read cached resource: {} ({})", cache.getBodyFile(),
+                    ExceptionUtils.getRootCauseMessage(exception));
+            return null;
+        }
+    }
+
+    /**
+     * Returns the object mapped from the cached response, reusing the last mapped object
+     * if it was produced by the same mapper from the same response. Otherwise, the cached
+     * body is read from disk.
+     *
+     * @throws IOException if the cached body cannot be read or does not match its metadata
+     */
+    private T mapCached(HttpResponseCache.Entry cached, Mapper<T> mapper) throws IOException
+    {
+        MappedResponse<T> last = lastResponse;
+        if (last != null && last.matches(mapper, cached))
+        {
+            return last.mappedObject;
+        }
+        T mappedObject = map(cached.getBody(), mapper, cacheDirectory);
+        lastResponse = new MappedResponse<>(mapper, cached.getETag(), cached.getLastModified(), mappedObject);
+        return mappedObject;
+    }
+
+    private T map(byte[] body, Mapper<T> mapper, Object origin)
+    {
+        LOGGER.debug("Applying mapper {}", mapper.getClass());
+        try
+        {
+            return ParseCache.global().apply(this, body, mapper);
+        }
+        catch (IOException exception)
+        {
+            throw new ConfigurationSourceException(exception, "Unable to load resource: %s", origin);
+        }
+    }
+
     protected static URL parseURL(String string)
     {
         try
@@ -105,4 +531,134 @@ public class URLSource<T> extends AbstractSource<T> implements Source<T>
         }
     }
 
+    /**
+     * The object mapped from an HTTP response, along with the mapper and response
+     * validators.
+     */
+    private static final class MappedResponse<T>
+    {
+        private final Mapper<T> mapper;
+        private final String eTag;
+        private final String lastModified;
+        private final T mappedObject;
+
+        private MappedResponse(Mapper<T> mapper, String eTag, String lastModified, T mappedObject)
+        {
+            this.mapper = mapper;
+            this.eTag = eTag;
+            this.lastModified = lastModified;
+            this.mappedObject = mappedObject;
+        }
+
+        private boolean matches(Mapper<T> mapper, HttpResponseCache.Entry cached)
+        {
+            return this.mapper == mapper && Objects.equals(eTag, cached.getETag())
+                    && Objects.equals(lastModified, cached.getLastModified());
+        }
+    }
+
+    /**
+     * The contents and validators retrieved from a URL.
+     */
+    private static final class Response<R>
+    {
+        private static final Response<?> NOT_MODIFIED = new Response<>(null, null, null);
+
+        private final R body;
+        private final String eTag;
+        private final String lastModified;
+
+        private Response(R body, String eTag, String lastModified)
+        {
+            this.body = body;
+            this.eTag = eTag;
+            this.lastModified = lastModified;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <R> Response<R> notModified()
+        {
+            return (Response<R>) NOT_MODIFIED;
+        }
+    }
+
+    /**
+     * A function that consumes a response body.
+     */
+    @FunctionalInterface
+    private interface BodyReader<R>
+    {
+        R read(BodyInputStream body) throws IOException;
+    }
+
+    /**
+     * A response body stream that checks the deadline after each read, so that a server
+     * that keeps sending data slowly cannot extend the load beyond the deadline, and
+     * records the read failures, so that they can be told apart from mapping failures.
+     */
+    private static final class BodyInputStream extends FilterInputStream
+    {
+        private final long deadline;
+        private IOException failure;
+
+        private BodyInputStream(InputStream inputStream, long deadline)
+        {
+            super(inputStream);
+            this.deadline = deadline;
+        }
+
+        @Override
+        public int read() throws IOException
+        {
+            try
+            {
+                return checkDeadline(super.read());
+            }
+            catch (IOException exception)
+            {
+                failure = exception;
+                throw exception;
+            }
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException
+        {
+            try
+            {
+                return checkDeadline(super.read(buffer, offset, length));
+            }
+            catch (IOException exception)
+            {
+                failure = exception;
+                throw exception;
+            }
+        }
+
+        private int checkDeadline(int result) throws SocketTimeoutException
+        {
+            if (result != IOUtils.EOF && remainingMillis(deadline) <= 0)
+            {
+                throw new SocketTimeoutException("Deadline exceeded");
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Signals an unsuccessful HTTP response status.
+     */
+    private static final class HttpStatusException extends IOException
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final int status;
+
+        private HttpStatusException(int status)
+        {
+            super("Server returned HTTP response code: " + status);
+            this.status = status;
+        }
+    }
+
 }
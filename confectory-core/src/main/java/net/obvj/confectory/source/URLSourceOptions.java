@@ -0,0 +1,276 @@
+/*
+ * Copyright 2021 obvj.net
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.obvj.confectory.source;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Connection options for a {@link URLSource}: connect and read timeouts, bounded retries
+ * with exponential backoff, and an overall deadline per load.
+ * <p>
+ * Retries and the deadline apply to HTTP and HTTPS URLs only. Other URLs (e.g.,
+ * {@code file:} or {@code jar:}) are loaded in a single attempt, without deadline.
+ * <p>
+ * Failed attempts are retried with an exponential backoff (i.e., the delay is doubled
+ * after each attempt, up to the maximum backoff), with a random jitter of up to half of
+ * the delay, so that many clients do not retry at the same time. Failures that are not
+ * transient (e.g., resource not found, or HTTP {@code 4xx} status codes) are not retried.
+ * <p>
+ * The deadline bounds the whole load operation, including all attempts and backoff
+ * delays. The timeouts of each attempt are reduced to the time left before the deadline.
+ * <p>
+ * Objects of this class are immutable. Use {@link #builder()} to create a custom instance.
+ * For example:
+ *
+ * <blockquote>
+ *
+ * <pre>
+ * {@code URLSourceOptions options = URLSourceOptions.builder()}
+ * {@code         .connectTimeout(Duration.ofSeconds(2))}
+ * {@code         .readTimeout(Duration.ofSeconds(5))}
+ * {@code         .maxAttempts(4)}
+ * {@code         .deadline(Duration.ofSeconds(15))}
+ * {@code         .build();}
+ * </pre>
+ *
+ * </blockquote>
+ *
+ * @author oswaldo.bapvic.jr (Oswaldo Junior)
+ * @since 2.7.0
+ */
+public final class URLSourceOptions
+{
+    /**
+     * The default options: connect timeout of 10 seconds, read timeout of 30 seconds, up to
+     * 3 attempts with an initial backoff of 250 milliseconds (up to 5 seconds), and a
+     * deadline of 60 seconds per load.
+     */
+    public static final URLSourceOptions DEFAULT = builder().build();
+
+    private final Duration connectTimeout;
+    private final Duration readTimeout;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration deadline;
+
+    private URLSourceOptions(Builder builder)
+    {
+        connectTimeout = builder.connectTimeout;
+        readTimeout = builder.readTimeout;
+        maxAttempts = builder.maxAttempts;
+        initialBackoff = builder.initialBackoff;
+        maxBackoff = builder.maxBackoff;
+        deadline = builder.deadline;
+    }
+
+    /**
+     * Creates a new builder with the default options.
+     *
+     * @return a new {@link Builder}
+     */
+    public static Builder builder()
+    {
+        return new Builder();
+    }
+
+    /**
+     * @return the timeout to establish the connection; zero means no timeout
+     */
+    public Duration getConnectTimeout()
+    {
+        return connectTimeout;
+    }
+
+    /**
+     * @return the timeout for each read from the connection; zero means no timeout
+     */
+    public Duration getReadTimeout()
+    {
+        return readTimeout;
+    }
+
+    /**
+     * @return the maximum number of attempts per load, including the first one
+     */
+    public int getMaxAttempts()
+    {
+        return maxAttempts;
+    }
+
+    /**
+     * @return the delay before the first retry
+     */
+    public Duration getInitialBackoff()
+    {
+        return initialBackoff;
+    }
+
+    /**
+     * @return the maximum delay between retries
+     */
+    public Duration getMaxBackoff()
+    {
+        return maxBackoff;
+    }
+
+    /**
+     * @return the maximum duration of a load, including all attempts; zero means no
+     *         deadline
+     */
+    public Duration getDeadline()
+    {
+        return deadline;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "URLSourceOptions [connectTimeout=" + connectTimeout + ", readTimeout=" + readTimeout
+                + ", maxAttempts=" + maxAttempts + ", initialBackoff=" + initialBackoff + ", maxBackoff="
+                + maxBackoff + ", deadline=" + deadline + "]";
+    }
+
+    /**
+     * A builder of {@link URLSourceOptions}.
+     */
+    public static final class Builder
+    {
+        private Duration connectTimeout = Duration.ofSeconds(10);
+        private Duration readTimeout = Duration.ofSeconds(30);
+        private int maxAttempts = 3;
+        private Duration initialBackoff = Duration.ofMillis(250);
+        private Duration maxBackoff = Duration.ofSeconds(5);
+        private Duration deadline = Duration.ofSeconds(60);
+
+        private Builder()
+        {
+            // Use URLSourceOptions.builder()
+        }
+
+        /**
+         * Defines the timeout to establish the connection.
+         *
+         * @param connectTimeout the timeout to set; zero means no timeout; not null nor
+         *                       negative
+         * @return a reference to this same {@code Builder} for chained calls
+         * @throws NullPointerException     if the timeout is null
+         * @throws IllegalArgumentException if the timeout is negative
+         */
+        public Builder connectTimeout(Duration connectTimeout)
+        {
+            this.connectTimeout = requireNotNegative(connectTimeout, "connect timeout");
+            return this;
+        }
+
+        /**
+         * Defines the timeout for each read from the connection.
+         *
+         * @param readTimeout the timeout to set; zero means no timeout; not null nor negative
+         * @return a reference to this same {@code Builder} for chained calls
+         * @throws NullPointerException     if the timeout is null
+         * @throws IllegalArgumentException if the timeout is negative
+         */
+        public Builder readTimeout(Duration readTimeout)
+        {
+            this.readTimeout = requireNotNegative(readTimeout, "read timeout");
+            return this;
+        }
+
+        /**
+         * Defines the maximum number of attempts per load, including the first one.
+         *
+         * @param maxAttempts the maximum number of attempts; {@code 1} disables retries
+         * @return a reference to this same {@code Builder} for chained calls
+         * @throws IllegalArgumentException if the number of attempts is less than one
+         */
+        public Builder maxAttempts(int maxAttempts)
+        {
+            if (maxAttempts < 1)
+            {
+                throw new IllegalArgumentException("the maximum number of attempts must be positive");
+            }
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * Defines the delay before the first retry. The delay is doubled after each retry,
+         * up to the maximum backoff.
+         *
+         * @param initialBackoff the delay to set; not null nor negative
+         * @return a reference to this same {@code Builder} for chained calls
+         * @throws NullPointerException     if the delay is null
+         * @throws IllegalArgumentException if the delay is negative
+         */
+        public Builder initialBackoff(Duration initialBackoff)
+        {
+            this.initialBackoff = requireNotNegative(initialBackoff, "initial backoff");
+            return this;
+        }
+
+        /**
+         * Defines the maximum delay between retries.
+         *
+         * @param maxBackoff the delay to set; not null nor negative
+         * @return a reference to this same {@code Builder} for chained calls
+         * @throws NullPointerException     if the delay is null
+         * @throws IllegalArgumentException if the delay is negative
+         */
+        public Builder maxBackoff(Duration maxBackoff)
+        {
+            this.maxBackoff = requireNotNegative(maxBackoff, "maximum backoff");
+            return this;
+        }
+
+        /**
+         * Defines the maximum duration of a load, including all attempts and backoff delays.
+         *
+         * @param deadline the deadline to set; zero means no deadline; not null nor negative
+         * @return a reference to this same {@code Builder} for chained calls
+         * @throws NullPointerException     if the deadline is null
+         * @throws IllegalArgumentException if the deadline is negative
+         */
+        public Builder deadline(Duration deadline)
+        {
+            this.deadline = requireNotNegative(deadline, "deadline");
+            return this;
+        }
+
+        /**
+         * Builds the target {@link URLSourceOptions}.
+         *
+         * @return a new {@link URLSourceOptions} object
+         */
+        public URLSourceOptions build()
+        {
+            return new URLSourceOptions(this);
+        }
+
+        private static Duration requireNotNegative(Duration duration, String name)
+        {
+            Objects.requireNonNull(duration, () -> "the " + name + " must not be null");
+            if (duration.isNegative())
+            {
+                throw new IllegalArgumentException("the " + name + " must not be negative");
+            }
+            return duration;
+        }
+    }
+
+}
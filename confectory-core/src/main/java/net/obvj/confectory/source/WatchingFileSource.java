@@ -0,0 +1,264 @@
+/*
+ * Copyright 2021 obvj.net
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.obvj.confectory.source;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.obvj.confectory.ConfigurationSourceException;
+
+/**
+ * A {@link FileSource} that watches the file for changes, so that the
+ * {@code Configuration} objects built from it are reloaded automatically.
+ * <p>
+ * The parent directory of the file is registered with a {@link WatchService} when the
+ * first change listener is added (usually, when a {@code Configuration} is built with this
+ * source). A background daemon thread waits for changes to the file and, after a quiet
+ * period (the debounce delay) with no further changes, notifies the listeners. This way, a
+ * burst of events produced by a single save operation triggers a single reload.
+ * <p>
+ * The reload runs in the watcher thread, so readers are never blocked. The
+ * {@code Configuration} keeps serving its current data until the new data is fully
+ * loaded, and keeps it if the reload fails.
+ * <p>
+ * Call {@link #close()} to stop watching the file.
+ *
+ * @param <T> the configuration data type returned by this {@code Source}
+ *
+ * @author oswaldo.bapvic.jr (Oswaldo Junior)
+ * @since 2.7.0
+ */
+public class WatchingFileSource<T> extends FileSource<T> implements ReloadableSource<T>, Closeable
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(WatchingFileSource.class);
+
+    /**
+     * The default debounce delay
+     */
+    public static final Duration DEFAULT_DEBOUNCE = Duration.ofMillis(250);
+
+    private final Path file;
+    private final long debounceMillis;
+    private final Set<Runnable> listeners = new CopyOnWriteArraySet<>();
+
+    private WatchService watchService;
+    private boolean closed;
+
+    /**
+     * Builds a new configuration source for a local file that is watched for changes, with
+     * the default debounce delay.
+     *
+     * @param path the file path for this configuration source
+     */
+    public WatchingFileSource(String path)
+    {
+        this(path, DEFAULT_DEBOUNCE);
+    }
+
+    /**
+     * Builds a new configuration source for a local file that is watched for changes.
+     *
+     * @param path     the file path for this configuration source
+     * @param debounce the quiet period to wait after a change before notifying listeners;
+     *                 not null nor negative
+     * @throws NullPointerException     if the debounce delay is null
+     * @throws IllegalArgumentException if the debounce delay is negative
+     */
+    public WatchingFileSource(String path, Duration debounce)
+    {
+        super(path);
+        Objects.requireNonNull(debounce, "the debounce delay must not be null");
+        if (debounce.isNegative())
+        {
+            throw new IllegalArgumentException("the debounce delay must not be negative");
+        }
+        this.file = Paths.get(super.parameter).toAbsolutePath().normalize();
+        this.debounceMillis = debounce.toMillis();
+    }
+
+    /**
+     * Registers a listener to be notified whenever the file changes, starting to watch the
+     * file if not yet started.
+     *
+     * @param listener the listener to be registered; not null
+     * @throws NullPointerException         if the listener is null
+     * @throws IllegalStateException        if this source is closed
+     * @throws ConfigurationSourceException if the parent directory cannot be watched
+     */
+    @Override
+    public void addChangeListener(Runnable listener)
+    {
+        listeners.add(Objects.requireNonNull(listener, "the listener must not be null"));
+        startWatching();
+    }
+
+    @Override
+    public void removeChangeListener(Runnable listener)
+    {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Returns {@code true} if the file is being watched.
+     *
+     * @return {@code true} if the file is being watched; {@code false} otherwise
+     */
+    public synchronized boolean isWatching()
+    {
+        return watchService != null && !closed;
+    }
+
+    /**
+     * Stops watching the file. Listeners will not be notified of further changes.
+     */
+    @Override
+    public synchronized void close()
+    {
+        closed = true;
+        if (watchService != null)
+        {
+            try
+            {
+                watchService.close();
+            }
+            catch (IOException exception)
+            {
+                LOGGER.warn("Unable to close the watch service for file: {}", file, exception);
+            }
+        }
+    }
+
+    private synchronized void startWatching()
+    {
+        if (closed)
+        {
+            throw new IllegalStateException("The source is closed: " + file);
+        }
+        if (watchService != null)
+        {
+            return;
+        }
+        try
+        {
+            WatchService service = FileSystems.getDefault().newWatchService();
+            file.getParent().register(service, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+            watchService = service;
+        }
+        catch (IOException exception)
+        {
+            throw new ConfigurationSourceException(exception, "Unable to watch file: %s", file);
+        }
+        Thread thread = new Thread(() -> watch(watchService), "confectory-watcher-" + file.getFileName());
+        thread.setDaemon(true);
+        thread.start();
+        LOGGER.info("Watching file: {}", file);
+    }
+
+    /**
+     * Waits for changes to the file until the watch service is closed.
+     *
+     * @param service the watch service
+     */
+    private void watch(WatchService service)
+    {
+        try
+        {
+            while (true)
+            {
+                if (!pollChanges(service.take()))
+                {
+                    continue;
+                }
+                // Debounce: wait for a quiet period before notifying; only events that
+                // may refer to the watched file extend it
+                long quietUntil = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(debounceMillis);
+                long remaining;
+                while ((remaining = quietUntil - System.nanoTime()) > 0)
+                {
+                    WatchKey key = service.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (key != null && pollChanges(key))
+                    {
+                        quietUntil = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(debounceMillis);
+                    }
+                }
+                notifyListeners();
+            }
+        }
+        catch (ClosedWatchServiceException exception)
+        {
+            LOGGER.debug("Stopped watching file: {}", file);
+        }
+        catch (InterruptedException exception)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Retrieves the pending events of the specified key and resets it.
+     *
+     * @param key the key to be checked
+     * @return {@code true} if any of the events may refer to the watched file
+     */
+    private boolean pollChanges(WatchKey key)
+    {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents())
+        {
+            if (event.kind() == OVERFLOW || file.getFileName().equals(event.context()))
+            {
+                changed = true;
+            }
+        }
+        key.reset();
+        return changed;
+    }
+
+    private void notifyListeners()
+    {
+        LOGGER.info("File changed: {}", file);
+        for (Runnable listener : listeners)
+        {
+            try
+            {
+                listener.run();
+            }
+            catch (RuntimeException exception)
+            {
+                LOGGER.warn("Change listener failed for file: {}", file, exception);
+            }
+        }
+    }
+
+}
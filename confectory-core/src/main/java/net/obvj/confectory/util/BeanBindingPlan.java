@@ -0,0 +1,318 @@
+/*
+ * Copyright 2026 obvj.net
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.obvj.confectory.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.commons.lang3.function.FailableFunction;
+import org.apache.commons.lang3.reflect.FieldUtils;
+
+/**
+ * The binding plan of a class, i.e., the resolved fields, property keys and setters to be
+ * used to fill objects of that class with property values.
+ * <p>
+ * The plan is built once per class, on first use, and cached for the lifetime of the
+ * class, so that subsequent loads skip the reflective discovery of fields and
+ * {@code @}{@link Property} annotations. Fields can be also looked up by property key or
+ * name in constant time with {@link #findBinding(String)}.
+ *
+ * @author oswaldo.bapvic.jr (Oswaldo Junior)
+ * @since 2.7.0
+ *
+ * @see Property
+ */
+public final class BeanBindingPlan
+{
+    private static final ClassValue<BeanBindingPlan> PLANS = new ClassValue<BeanBindingPlan>()
+    {
+        @Override
+        protected BeanBindingPlan computeValue(Class<?> type)
+        {
+            return new BeanBindingPlan(type);
+        }
+    };
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Class<?> type;
+    private final List<FieldBinding> bindings;
+    private final Map<String, FieldBinding> bindingsByPropertyKey;
+    private final Map<String, FieldBinding> bindingsByFieldName;
+
+    private BeanBindingPlan(Class<?> type)
+    {
+        this.type = type;
+        List<FieldBinding> list = new ArrayList<>();
+        Map<String, FieldBinding> byPropertyKey = new HashMap<>();
+        Map<String, FieldBinding> byFieldName = new HashMap<>();
+
+        // Fields are listed from the class to its superclasses, so the first match wins
+        for (Field field : FieldUtils.getAllFields(type))
+        {
+            FieldBinding binding = new FieldBinding(field);
+            if (!binding.isTransient())
+            {
+                list.add(binding);
+            }
+            String propertyKey = PropertyUtils.getPropertyKey(binding.getProperty());
+            if (!propertyKey.isEmpty())
+            {
+                byPropertyKey.putIfAbsent(propertyKey, binding);
+            }
+            byFieldName.putIfAbsent(field.getName(), binding);
+        }
+        // Public fields inherited from interfaces
+        for (Field field : type.getFields())
+        {
+            byFieldName.computeIfAbsent(field.getName(), name -> new FieldBinding(field));
+        }
+
+        bindings = Collections.unmodifiableList(list);
+        bindingsByPropertyKey = byPropertyKey;
+        bindingsByFieldName = byFieldName;
+    }
+
+    /**
+     * Returns the binding plan of the specified class, building it on first use.
+     *
+     * @param type the class to be reflected; not null
+     * @return the binding plan of the specified class
+     * @throws NullPointerException if the type is null
+     */
+    public static BeanBindingPlan of(Class<?> type)
+    {
+        return PLANS.get(Objects.requireNonNull(type, "the type must not be null"));
+    }
+
+    /**
+     * @return the class described by this plan
+     */
+    public Class<?> getType()
+    {
+        return type;
+    }
+
+    /**
+     * Returns the bindings of all non-transient fields of the class, including inherited
+     * fields.
+     *
+     * @return an unmodifiable list of field bindings
+     */
+    public List<FieldBinding> getBindings()
+    {
+        return bindings;
+    }
+
+    /**
+     * Finds the binding of the field associated with the specified name, with the same
+     * criteria of {@link PropertyUtils#findFieldByPropertyKeyOrName(Class, String)}, i.e.,
+     * either:
+     * <ul>
+     * <li>the field is marked with the {@code @}{@link Property} annotation, and the
+     * annotation defines a custom key equal to the specified name; or</li>
+     * <li>the field name is equal to the specified name</li>
+     * </ul>
+     * <p>
+     * Unlike {@link #getBindings()}, transient fields are also considered.
+     *
+     * @param name the property key or field name to be searched
+     * @return the {@link FieldBinding}, or {@code null} if no match found
+     */
+    public FieldBinding findBinding(String name)
+    {
+        FieldBinding binding = bindingsByPropertyKey.get(name);
+        return binding != null ? binding : bindingsByFieldName.get(name);
+    }
+
+    /**
+     * The binding between a property key and a field.
+     */
+    public static final class FieldBinding
+    {
+        private final Field field;
+        private final Property property;
+        private final String key;
+        private final MethodHandle setter;
+        private final Class<? extends TypeConverter<?>> converterType;
+        private final ConcurrentMap<ObjectFactory, TypeConverter<?>> converters;
+        private volatile FailableFunction<String, ?, ParseException> parser;
+
+        private FieldBinding(Field field)
+        {
+            this.field = field;
+            this.property = field.getDeclaredAnnotation(Property.class);
+            this.key = PropertyUtils.getPropertyKeyOrFieldName(property, field);
+            this.setter = newSetter(field);
+            boolean hasConverter = property != null && property.converter().length > 0;
+            this.converterType = hasConverter ? property.converter()[0] : null;
+            this.converters = hasConverter ? new ConcurrentHashMap<>(2) : null;
+        }
+
+        /**
+         * Creates a setter for the specified field with the signature
+         * {@code (Object target, Object value)}, or {@code null} if a method handle cannot
+         * be created (e.g., for some {@code final} fields). Static fields ignore the target.
+         */
+        private static MethodHandle newSetter(Field field)
+        {
+            try
+            {
+                field.setAccessible(true);
+                MethodHandle handle = MethodHandles.lookup().unreflectSetter(field);
+                if (Modifier.isStatic(field.getModifiers()))
+                {
+                    handle = MethodHandles.dropArguments(handle, 0, Object.class);
+                }
+                return handle.asType(SETTER_TYPE);
+            }
+            catch (IllegalAccessException | RuntimeException exception)
+            {
+                return null;
+            }
+        }
+
+        /**
+         * @return the bound field
+         */
+        public Field getField()
+        {
+            return field;
+        }
+
+        /**
+         * @return {@code true} if the bound field is marked {@code transient}
+         */
+        public boolean isTransient()
+        {
+            return ReflectionUtils.isTransient(field);
+        }
+
+        /**
+         * @return the {@code @}{@link Property} annotation of the field, or {@code null} if
+         *         not present
+         */
+        public Property getProperty()
+        {
+            return property;
+        }
+
+        /**
+         * @return the property key associated with the field, i.e., the key defined in the
+         *         {@code @}{@link Property} annotation, or the field name
+         */
+        public String getKey()
+        {
+            return key;
+        }
+
+        /**
+         * Parses the specified value into an object compatible with the bound field,
+         * applying the custom converter defined in the {@code @}{@link Property} annotation,
+         * if present.
+         * <p>
+         * The custom converter is instantiated once per {@link ObjectFactory} and reused
+         * for all values of the field, so it must be thread-safe. Likewise, the standard
+         * parser of the field type is looked up only on first use.
+         *
+         * @param value         the string to be parsed
+         * @param objectFactory the {@link ObjectFactory} to produce a new instance of the
+         *                      custom converter, if specified (not null)
+         * @return the object resulting from the parse operation
+         *
+         * @throws ReflectiveOperationException  if the custom converter cannot be
+         *                                       instantiated
+         * @throws ParseException                if an error is encountered while parsing
+         * @throws UnsupportedOperationException if the field type is not supported
+         */
+        public Object parse(String value, ObjectFactory objectFactory)
+                throws ReflectiveOperationException, ParseException
+        {
+            if (converterType != null)
+            {
+                return getConverter(objectFactory).convert(value);
+            }
+            return getParser().apply(value);
+        }
+
+        private TypeConverter<?> getConverter(ObjectFactory objectFactory) throws ReflectiveOperationException
+        {
+            TypeConverter<?> converter = converters.get(objectFactory);
+            if (converter == null)
+            {
+                converter = objectFactory.newObject(converterType);
+                TypeConverter<?> existing = converters.putIfAbsent(objectFactory, converter);
+                if (existing != null)
+                {
+                    converter = existing;
+                }
+            }
+            return converter;
+        }
+
+        private FailableFunction<String, ?, ParseException> getParser()
+        {
+            FailableFunction<String, ?, ParseException> result = parser;
+            if (result == null)
+            {
+                result = TypeFactory.parser(field.getType());
+                parser = result;
+            }
+            return result;
+        }
+
+        /**
+         * Assigns a value to the bound field of the specified object.
+         *
+         * @param target the object whose field should be modified
+         * @param value  the new value for the field
+         * @throws IllegalAccessException if the field cannot be written
+         */
+        public void set(Object target, Object value) throws IllegalAccessException
+        {
+            if (setter == null)
+            {
+                field.set(target, value);
+                return;
+            }
+            try
+            {
+                setter.invokeExact(target, value);
+            }
+            catch (RuntimeException | Error exception)
+            {
+                throw exception;
+            }
+            catch (Throwable throwable)
+            {
+                throw new IllegalStateException(throwable);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2021 obvj.net
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.obvj.confectory.util;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A bounded, thread-safe map with approximate least-recently-used eviction, used by the
+ * internal caches of the library.
+ * <p>
+ * Recency is tracked with the CLOCK (second chance) policy: each entry has a reference
+ * bit, which is set on access and cleared by the eviction sweep. Entries are swept in
+ * insertion order; a referenced entry is given a second chance (moved to the end of the
+ * queue with its bit cleared), and the first unreferenced entry is evicted.
+ * <p>
+ * Lookups are lock-free and do not write to any shared counter: a hit only sets the
+ * reference bit of the entry, if not already set. Eviction takes constant amortized time
+ * per evicted entry, with no sorting or copying.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ *
+ * @author oswaldo.bapvic.jr (Oswaldo Junior)
+ * @since 2.7.0
+ */
+public final class BoundedCache<K, V>
+{
+    private final Map<K, Node<K, V>> entries = new ConcurrentHashMap<>();
+    private final Queue<Node<K, V>> clock = new ConcurrentLinkedQueue<>();
+    private final Object evictionLock = new Object();
+    private final AtomicInteger staleNodes = new AtomicInteger();
+
+    /**
+     * Returns the value associated with the specified key, marking it as recently used.
+     *
+     * @param key the key to be searched; not null
+     * @return the cached value, or {@code null} if not found
+     */
+    public V get(K key)
+    {
+        Node<K, V> node = entries.get(key);
+        if (node == null)
+        {
+            return null;
+        }
+        if (!node.referenced)
+        {
+            node.referenced = true;
+        }
+        return node.value;
+    }
+
+    /**
+     * Associates the specified value with the specified key, if not already present, and
+     * evicts entries until the cache size is within the specified limit.
+     *
+     * @param key   the key; not null
+     * @param value the value; not null
+     * @param limit the maximum number of entries to be kept
+     * @return the value associated with the key after this operation, i.e., either the
+     *         existing value or the specified one
+     */
+    public V putIfAbsent(K key, V value, int limit)
+    {
+        Node<K, V> node = new Node<>(key, value);
+        Node<K, V> existing = entries.putIfAbsent(key, node);
+        if (existing != null)
+        {
+            return existing.value;
+        }
+        clock.offer(node);
+        if (entries.size() > limit)
+        {
+            evict(limit, node);
+        }
+        return value;
+    }
+
+    /**
+     * Removes the entry for the specified key, only if currently mapped to the specified
+     * value (compared by identity).
+     * <p>
+     * The node of the removed entry is left in the queue as a stale node, to be skipped by
+     * the next sweep. Stale nodes are purged once they outnumber the live entries, so that
+     * they do not pile up while the cache is within its limit.
+     *
+     * @param key   the key
+     * @param value the expected value
+     */
+    public void remove(K key, V value)
+    {
+        Node<K, V> node = entries.get(key);
+        if (node != null && node.value == value && entries.remove(key, node)
+                && staleNodes.incrementAndGet() > entries.size())
+        {
+            purgeStaleNodes();
+        }
+    }
+
+    /**
+     * Removes the nodes of entries no longer in the cache from the queue.
+     */
+    private void purgeStaleNodes()
+    {
+        synchronized (evictionLock)
+        {
+            staleNodes.set(0);
+            clock.removeIf(node -> entries.get(node.key) != node);
+        }
+    }
+
+    /**
+     * Sweeps the queue, evicting unreferenced entries until the cache size is within the
+     * specified limit. The entry just inserted is spared, so it is not evicted by the
+     * sweep triggered by its own insertion.
+     */
+    private void evict(int limit, Node<K, V> inserted)
+    {
+        synchronized (evictionLock)
+        {
+            // Each node is visited at most twice per sweep: once to clear its bit
+            int budget = 2 * clock.size() + 1;
+            while (entries.size() > limit && budget-- > 0)
+            {
+                Node<K, V> node = clock.poll();
+                if (node == null)
+                {
+                    return;
+                }
+                if (entries.get(node.key) != node)
+                {
+                    staleNodes.decrementAndGet();
+                    continue; // stale node, already removed or replaced
+                }
+                if (node.referenced || node == inserted)
+                {
+                    node.referenced = false;
+                    clock.offer(node);
+                }
+                else
+                {
+                    entries.remove(node.key, node);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the number of entries currently in this cache
+     */
+    public int size()
+    {
+        return entries.size();
+    }
+
+    /**
+     * @return the number of nodes in the eviction queue, including stale nodes not yet
+     *         discarded
+     */
+    public int queueSize()
+    {
+        return clock.size();
+    }
+
+    /**
+     * Removes all entries from this cache.
+     */
+    public void clear()
+    {
+        synchronized (evictionLock)
+        {
+            entries.clear();
+            clock.clear();
+            staleNodes.set(0);
+        }
+    }
+
+    /**
+     * A cached value with its reference bit.
+     */
+    private static final class Node<K, V>
+    {
+        private final K key;
+        private final V value;
+        private volatile boolean referenced;
+
+        private Node(K key, V value)
+        {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+}
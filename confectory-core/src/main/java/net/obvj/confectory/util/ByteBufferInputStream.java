@@ -0,0 +1,118 @@
+/*
+ * Copyright 2021 obvj.net
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.obvj.confectory.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.InvalidMarkException;
+import java.util.Objects;
+
+/**
+ * An {@link InputStream} that reads the remaining content of a {@link ByteBuffer}.
+ * <p>
+ * Reading advances the position of the buffer, so callers that need to preserve the
+ * original state should pass a {@link ByteBuffer#duplicate() duplicate}. Marking is
+ * supported, with no read limit.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @author oswaldo.bapvic.jr (Oswaldo Junior)
+ * @since 2.7.0
+ */
+public class ByteBufferInputStream extends InputStream
+{
+    private final ByteBuffer buffer;
+
+    /**
+     * Builds a new input stream for the remaining content of the specified buffer.
+     *
+     * @param buffer the buffer to be read; not null
+     * @throws NullPointerException if the buffer is null
+     */
+    public ByteBufferInputStream(ByteBuffer buffer)
+    {
+        this.buffer = Objects.requireNonNull(buffer, "the buffer must not be null");
+    }
+
+    @Override
+    public int read()
+    {
+        return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        if (length == 0)
+        {
+            return 0;
+        }
+        if (!buffer.hasRemaining())
+        {
+            return -1;
+        }
+        int count = Math.min(length, buffer.remaining());
+        buffer.get(bytes, offset, count);
+        return count;
+    }
+
+    @Override
+    public long skip(long count)
+    {
+        if (count <= 0)
+        {
+            return 0;
+        }
+        int skipped = (int) Math.min(count, buffer.remaining());
+        buffer.position(buffer.position() + skipped);
+        return skipped;
+    }
+
+    @Override
+    public int available()
+    {
+        return buffer.remaining();
+    }
+
+    @Override
+    public boolean markSupported()
+    {
+        return true;
+    }
+
+    @Override
+    public synchronized void mark(int readLimit)
+    {
+        buffer.mark();
+    }
+
+    @Override
+    public synchronized void reset() throws IOException
+    {
+        try
+        {
+            buffer.reset();
+        }
+        catch (InvalidMarkException exception)
+        {
+            throw new IOException("The stream has not been marked", exception);
+        }
+    }
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026 obvj.net
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.obvj.confectory.util;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+
+/**
+ * A bounded, thread-safe cache of compiled expressions (e.g.: JSONPath, XPath), keyed by
+ * the expression string.
+ * <p>
+ * Lookups are lock-free. When the number of cached expressions exceeds the maximum size,
+ * entries that were not used recently are evicted (approximate LRU, see
+ * {@link BoundedCache}).
+ * <p>
+ * The maximum size is provided by an {@link IntSupplier}, so it can be changed at runtime
+ * (e.g., via {@code ConfectorySettings}). A maximum size of zero disables caching: every
+ * expression is compiled on demand.
+ * <p>
+ * <strong>Note:</strong> The compiled objects are shared by all callers, so they must be
+ * thread-safe.
+ *
+ * @param <E> the compiled expression type
+ *
+ * @author oswaldo.bapvic.jr (Oswaldo Junior)
+ * @since 2.7.0
+ */
+public final class ExpressionCache<E>
+{
+    private final Function<String, E> compiler;
+    private final IntSupplier maxSize;
+
+    private final BoundedCache<String, E> entries = new BoundedCache<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates a new cache.
+     *
+     * @param compiler the function that compiles an expression string; not null
+     * @param maxSize  a supplier of the maximum number of expressions to be cached; not null
+     */
+    public ExpressionCache(Function<String, E> compiler, IntSupplier maxSize)
+    {
+        this.compiler = Objects.requireNonNull(compiler, "the compiler must not be null");
+        this.maxSize = Objects.requireNonNull(maxSize, "the maxSize supplier must not be null");
+    }
+
+    /**
+     * Returns the compiled form of the specified expression, compiling it if not cached.
+     *
+     * @param expression the expression to be compiled
+     * @return the compiled expression
+     * @throws RuntimeException any exception thrown by the compiler (e.g., if the expression
+     *                          is null or invalid); invalid expressions are not cached
+     */
+    public E get(String expression)
+    {
+        if (expression == null)
+        {
+            // Let the compiler report the error
+            return compiler.apply(null);
+        }
+
+        E cached = entries.get(expression);
+        if (cached != null)
+        {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        E value = compiler.apply(expression);
+        int limit = maxSize.getAsInt();
+        if (limit > 0 && value != null)
+        {
+            return entries.putIfAbsent(expression, value, limit);
+        }
+        return value;
+    }
+
+    /**
+     * Returns the number of lookups that found a compiled expression in this cache.
+     *
+     * @return the hit count
+     */
+    public long getHitCount()
+    {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that required the compilation of an expression.
+     *
+     * @return the miss count
+     */
+    public long getMissCount()
+    {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of compiled expressions currently in this cache.
+     *
+     * @return the number of cached expressions
+     */
+    public int size()
+    {
+        return entries.size();
+    }
+
+    /**
+     * Removes all compiled expressions from this cache and resets its counters.
+     */
+    public void clear()
+    {
+        entries.clear();
+        hits.reset();
+        misses.reset();
+    }
+
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026 obvj.net
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.obvj.confectory.util;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Factory methods for the executors used to load configuration sources asynchronously.
+ * <p>
+ * Loading configuration sources (e.g.: files, URLs) is mostly I/O-bound, so, when the
+ * runtime supports virtual threads (Java 21+), the default executor starts a new virtual
+ * thread per task. Virtual threads are detected reflectively, since this project targets
+ * Java 11. On older runtimes, a bounded pool of daemon platform threads is used instead.
+ *
+ * @author oswaldo.bapvic.jr (Oswaldo Junior)
+ * @since 2.7.0
+ */
+public final class LoaderExecutors
+{
+    private static final String THREAD_NAME_PREFIX = "confectory-loader-";
+
+    /**
+     * The maximum number of platform threads in the bounded pool
+     */
+    static final int MAX_POOL_SIZE = Math.max(2, Runtime.getRuntime().availableProcessors() * 4);
+
+    private static final long KEEP_ALIVE_SECONDS = 60L;
+
+    private LoaderExecutors()
+    {
+        throw new IllegalStateException("Instantiation not allowed");
+    }
+
+    /**
+     * Creates the default loader executor, i.e., a virtual-thread-per-task executor, if
+     * supported by the runtime; or a bounded thread pool, otherwise.
+     *
+     * @return a new {@link ExecutorService}
+     */
+    public static ExecutorService newDefaultExecutor()
+    {
+        ExecutorService executor = newVirtualThreadPerTaskExecutor();
+        return executor != null ? executor : newBoundedExecutor(MAX_POOL_SIZE);
+    }
+
+    /**
+     * Creates a bounded pool of daemon platform threads, named
+     * {@code confectory-loader-N}. Idle threads are terminated after 60 seconds, so an
+     * unused pool does not retain any thread.
+     *
+     * @param maxThreads the maximum number of threads; must be positive
+     * @return a new {@link ExecutorService}
+     * @throws IllegalArgumentException if the maximum number of threads is not positive
+     */
+    public static ExecutorService newBoundedExecutor(int maxThreads)
+    {
+        if (maxThreads < 1)
+        {
+            throw new IllegalArgumentException("the maximum number of threads must be positive");
+        }
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(maxThreads, maxThreads, KEEP_ALIVE_SECONDS,
+                TimeUnit.SECONDS, new LinkedBlockingQueue<>(), new LoaderThreadFactory());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Returns {@code true} if the runtime supports virtual threads (Java 21+).
+     *
+     * @return {@code true} if virtual threads are supported; {@code false} otherwise
+     */
+    public static boolean isVirtualThreadSupported()
+    {
+        return findVirtualThreadFactoryMethod() != null;
+    }
+
+    /**
+     * Creates an executor that starts a new virtual thread for each task, if supported.
+     *
+     * @return a new {@link ExecutorService}, or {@code null} if virtual threads are not
+     *         supported by the runtime
+     */
+    static ExecutorService newVirtualThreadPerTaskExecutor()
+    {
+        Method method = findVirtualThreadFactoryMethod();
+        if (method != null)
+        {
+            try
+            {
+                return (ExecutorService) method.invoke(null);
+            }
+            catch (ReflectiveOperationException | RuntimeException exception)
+            {
+                // Fall back to platform threads
+            }
+        }
+        return null;
+    }
+
+    private static Method findVirtualThreadFactoryMethod()
+    {
+        try
+        {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        }
+        catch (NoSuchMethodException exception)
+        {
+            return null;
+        }
+    }
+
+    /**
+     * Creates daemon threads named {@code confectory-loader-N}.
+     */
+    private static final class LoaderThreadFactory implements ThreadFactory
+    {
+        private static final AtomicInteger COUNTER = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable)
+        {
+            Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + COUNTER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+}
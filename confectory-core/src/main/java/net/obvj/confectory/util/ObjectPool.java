@@ -0,0 +1,139 @@
+/*
+ * Copyright 2021 obvj.net
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package net.obvj.confectory.util;
+
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Supplier;
+
+import org.apache.commons.lang3.function.FailableFunction;
+
+/**
+ * A small, bounded pool of reusable objects that are not thread-safe (e.g., parsers and
+ * compiled expressions).
+ * <p>
+ * Unlike thread-local instances, pooled objects are not tied to the threads that use
+ * them, so they are also reused by short-lived and virtual threads, and the number of
+ * idle objects is bounded by the capacity of the pool, regardless of the number of
+ * threads.
+ * <p>
+ * A new object is created whenever the pool is empty, so borrowing never blocks. Objects
+ * released while the pool is full are discarded.
+ *
+ * @param <T> the type of the pooled objects
+ *
+ * @author oswaldo.bapvic.jr (Oswaldo Junior)
+ * @since 2.7.0
+ */
+public final class ObjectPool<T>
+{
+    /**
+     * The default capacity, i.e., the number of available processors.
+     */
+    public static final int DEFAULT_CAPACITY = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    private final BlockingQueue<T> idle;
+    private final Supplier<? extends T> factory;
+
+    /**
+     * Builds a new pool with the default capacity.
+     *
+     * @param factory the function to create new objects; not null
+     * @throws NullPointerException if the factory is null
+     */
+    public ObjectPool(Supplier<? extends T> factory)
+    {
+        this(DEFAULT_CAPACITY, factory);
+    }
+
+    /**
+     * Builds a new pool with the specified capacity.
+     *
+     * @param capacity the maximum number of idle objects to be kept; must be positive
+     * @param factory  the function to create new objects; not null
+     * @throws IllegalArgumentException if the capacity is not positive
+     * @throws NullPointerException     if the factory is null
+     */
+    public ObjectPool(int capacity, Supplier<? extends T> factory)
+    {
+        if (capacity <= 0)
+        {
+            throw new IllegalArgumentException("the pool capacity must be positive");
+        }
+        this.idle = new ArrayBlockingQueue<>(capacity);
+        this.factory = Objects.requireNonNull(factory, "the factory must not be null");
+    }
+
+    /**
+     * Retrieves an idle object from the pool, or creates a new one if the pool is empty.
+     * <p>
+     * The object is owned by the caller until released with {@link #release(Object)}.
+     *
+     * @return an object for exclusive use by the caller
+     */
+    public T borrow()
+    {
+        T object = idle.poll();
+        return object != null ? object : factory.get();
+    }
+
+    /**
+     * Returns an object to the pool, so that it can be reused. The object is discarded if
+     * the pool is full.
+     *
+     * @param object the object to be released; not null
+     * @throws NullPointerException if the object is null
+     */
+    public void release(T object)
+    {
+        idle.offer(object);
+    }
+
+    /**
+     * Applies the specified function to a borrowed object, releasing the object afterwards,
+     * even if the function fails.
+     *
+     * @param <R>      the type of the result
+     * @param <E>      the type of exception thrown by the function
+     * @param function the function to be applied; not null
+     * @return the result of the function
+     * @throws E if thrown by the function
+     */
+    public <R, E extends Exception> R apply(FailableFunction<? super T, ? extends R, E> function) throws E
+    {
+        T object = borrow();
+        try
+        {
+            return function.apply(object);
+        }
+        finally
+        {
+            release(object);
+        }
+    }
+
+    /**
+     * @return the number of idle objects in the pool
+     */
+    public int size()
+    {
+        return idle.size();
+    }
+
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright 2021 obvj.net
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.obvj.confectory.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+import org.apache.commons.io.function.IOSupplier;
+
+import net.obvj.confectory.mapper.Mapper;
+import net.obvj.confectory.settings.ConfectorySettings;
+import net.obvj.confectory.source.Source;
+
+/**
+ * A bounded, thread-safe cache of mapped configuration objects, keyed by the source, the
+ * SHA-256 hash of the content, and the {@link Mapper#getParseCacheKey() cache key} of the
+ * mapper.
+ * <p>
+ * This allows multiple {@code Configuration} objects loaded from the same source (e.g.:
+ * in different namespaces, or rebuilt/reloaded with unchanged content) to share a single
+ * mapped object, skipping the parsing. When the number of cached objects exceeds the
+ * maximum size, entries that were not used recently are evicted (approximate LRU, see
+ * {@link BoundedCache}). The objects are held by soft references, so they may also be
+ * reclaimed by the garbage collector under memory pressure.
+ * <p>
+ * The maximum size is provided by an {@link IntSupplier}, so it can be changed at runtime.
+ * A maximum size of zero disables caching: every content is mapped on demand.
+ * <p>
+ * Caching is opt-in for mappers: only mappers that provide a non-null
+ * {@link Mapper#getParseCacheKey() cache key} have their objects cached.
+ * <p>
+ * <strong>Note:</strong> Cached objects are shared by all callers with the same key, so
+ * they should be treated as read-only.
+ *
+ * @author oswaldo.bapvic.jr (Oswaldo Junior)
+ * @since 2.7.0
+ *
+ * @see ConfectorySettings#setParseCacheSize(int)
+ */
+public final class ParseCache
+{
+    private static final ParseCache GLOBAL = new ParseCache(
+            () -> ConfectorySettings.instance().getParseCacheSize());
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    private final IntSupplier maxSize;
+
+    private final BoundedCache<Key, SoftReference<Object>> entries = new BoundedCache<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates a new cache.
+     *
+     * @param maxSize a supplier of the maximum number of objects to be cached; not null
+     */
+    public ParseCache(IntSupplier maxSize)
+    {
+        this.maxSize = Objects.requireNonNull(maxSize, "the maxSize supplier must not be null");
+    }
+
+    /**
+     * Returns the global parse cache used by the built-in sources, whose maximum size is
+     * defined by {@link ConfectorySettings#setParseCacheSize(int)}.
+     *
+     * @return the global {@link ParseCache}
+     */
+    public static ParseCache global()
+    {
+        return GLOBAL;
+    }
+
+    /**
+     * Returns {@code true} if objects produced by the specified mapper can be cached, i.e.,
+     * caching is enabled, and the mapper provides a cache key.
+     *
+     * @param mapper the {@link Mapper} to be checked
+     * @return {@code true} if the specified mapper can use this cache
+     */
+    public boolean isEnabled(Mapper<?> mapper)
+    {
+        return maxSize.getAsInt() > 0 && mapper.getParseCacheKey() != null;
+    }
+
+    /**
+     * Returns the object mapped from the specified content, applying the mapper to an input
+     * stream over the content if not cached.
+     * <p>
+     * If caching is not {@link #isEnabled(Mapper) enabled} for the mapper, the content is
+     * mapped directly, with no hashing. Null objects and mapping failures are not cached.
+     *
+     * @param <T>     the configuration data type
+     * @param source  the {@link Source} from which the content was loaded; not null
+     * @param content the content to be mapped; not null
+     * @param mapper  the {@link Mapper} to be applied; not null
+     * @return the mapped object
+     * @throws IOException if a low-level I/O problem occurs while mapping
+     * @see Mapper#apply(java.io.InputStream)
+     */
+    public <T> T apply(Source<?> source, byte[] content, Mapper<T> mapper) throws IOException
+    {
+        Objects.requireNonNull(source, "the source must not be null");
+        if (!isEnabled(mapper))
+        {
+            return mapper.apply(new ByteArrayInputStream(content));
+        }
+        return lookup(source, hash(content), mapper, () -> mapper.apply(new ByteArrayInputStream(content)));
+    }
+
+    /**
+     * Returns the object mapped from the specified content, applying the mapper to the
+     * buffer if not cached.
+     * <p>
+     * If caching is not {@link #isEnabled(Mapper) enabled} for the mapper, the content is
+     * mapped directly, with no hashing. Null objects and mapping failures are not cached.
+     *
+     * @param <T>     the configuration data type
+     * @param source  the {@link Source} from which the content was loaded; not null
+     * @param content the content to be mapped; its position is not modified
+     * @param mapper  the {@link Mapper} to be applied; not null
+     * @return the mapped object
+     * @throws IOException if a low-level I/O problem occurs while mapping
+     * @see Mapper#applyBuffer(ByteBuffer)
+     */
+    public <T> T apply(Source<?> source, ByteBuffer content, Mapper<T> mapper) throws IOException
+    {
+        Objects.requireNonNull(source, "the source must not be null");
+        if (!isEnabled(mapper))
+        {
+            return mapper.applyBuffer(content);
+        }
+        return lookup(source, hash(content), mapper, () -> mapper.applyBuffer(content));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T lookup(Source<?> source, byte[] contentHash, Mapper<T> mapper, IOSupplier<T> loader)
+            throws IOException
+    {
+        Key key = new Key(source, contentHash, mapper.getParseCacheKey());
+        SoftReference<Object> reference = entries.get(key);
+        Object cached = reference != null ? reference.get() : null;
+        if (cached != null)
+        {
+            hits.increment();
+            return (T) cached;
+        }
+        if (reference != null)
+        {
+            // Reclaimed by the garbage collector
+            entries.remove(key, reference);
+        }
+
+        misses.increment();
+        T value = loader.get();
+        int limit = maxSize.getAsInt();
+        if (value != null && limit > 0)
+        {
+            entries.putIfAbsent(key, new SoftReference<>(value), limit);
+        }
+        return value;
+    }
+
+    private static MessageDigest newDigest()
+    {
+        try
+        {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        }
+        catch (NoSuchAlgorithmException exception)
+        {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private static byte[] hash(byte[] content)
+    {
+        return newDigest().digest(content);
+    }
+
+    private static byte[] hash(ByteBuffer content)
+    {
+        MessageDigest digest = newDigest();
+        digest.update(content.duplicate());
+        return digest.digest();
+    }
+
+    /**
+     * Returns the number of lookups that found a mapped object in this cache.
+     *
+     * @return the hit count
+     */
+    public long getHitCount()
+    {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that required the content to be mapped.
+     *
+     * @return the miss count
+     */
+    public long getMissCount()
+    {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of entries currently in this cache, including the ones whose
+     * objects may have been reclaimed by the garbage collector.
+     *
+     * @return the number of cached entries
+     */
+    public int size()
+    {
+        return entries.size();
+    }
+
+    /**
+     * Removes all mapped objects from this cache and resets its counters.
+     */
+    public void clear()
+    {
+        entries.clear();
+        hits.reset();
+        misses.reset();
+    }
+
+    /**
+     * The composite key of a cached object.
+     */
+    private static final class Key
+    {
+        private final Source<?> source;
+        private final byte[] contentHash;
+        private final Object mapperKey;
+        private final int hashCode;
+
+        private Key(Source<?> source, byte[] contentHash, Object mapperKey)
+        {
+            this.source = source;
+            this.contentHash = contentHash;
+            this.mapperKey = mapperKey;
+            this.hashCode = Objects.hash(source, Arrays.hashCode(contentHash), mapperKey);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object other)
+        {
+            if (this == other)
+            {
+                return true;
+            }
+            if (!(other instanceof Key))
+            {
+                return false;
+            }
+            Key otherKey = (Key) other;
+            return Arrays.equals(contentHash, otherKey.contentHash)
+                    && source.equals(otherKey.source)
+                    && mapperKey.equals(otherKey.mapperKey);
+        }
+    }
+
+}
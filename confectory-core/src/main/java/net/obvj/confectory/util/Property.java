@@ -107,6 +107,9 @@ public @interface Property
      * from the normal conversion for the field's type (which is applied by the
      * {@link TypeFactory}).
      * <p>
+     * The converter may be instantiated once and reused for several values, possibly by
+     * concurrent threads, so it should be stateless.
+     * <p>
      * Examples:
      * <blockquote>
      *
@@ -30,6 +30,7 @@ import java.util.function.Function;
 import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.EnumUtils;
 import org.apache.commons.lang3.function.Failable;
+import org.apache.commons.lang3.function.FailableFunction;
 
 /**
  * A class that contains built-in parsers from string into common object types, typically
@@ -202,24 +203,43 @@ public class TypeFactory
      * @throws UnsupportedOperationException if the specified type is not supported
      * @throws ParseException                if an error is encountered while parsing
      */
-    @SuppressWarnings("unchecked")
     public static <T> T parse(final Class<T> type, final String string) throws ParseException
+    {
+        return parser(type).apply(string);
+    }
+
+    /**
+     * Returns a function to parse strings into objects of the specified type, with the same
+     * behavior of {@link #parse(Class, String)}.
+     * <p>
+     * The parser is looked up once, so the returned function can be kept for repeated parses
+     * of the same type.
+     *
+     * @param <T>  the target type
+     * @param type the class of the object to be returned by the function
+     * @return a function to parse strings into the specified type
+     * @throws UnsupportedOperationException if the specified type is not supported
+     * @since 2.7.0
+     */
+    @SuppressWarnings("unchecked")
+    static <T> FailableFunction<String, T, ParseException> parser(final Class<T> type)
     {
         if (type.isEnum())
         {
-            return getEnumElement(type, string);
+            return string -> getEnumElement(type, string);
         }
-        Class<?> objectType = ClassUtils.primitiveToWrapper(type);
-        Function<String, ?> parser = getParser(objectType);
-        try
+        Function<String, ?> parser = getParser(ClassUtils.primitiveToWrapper(type));
+        return string ->
         {
-            Object object = parser.apply(string);
-            return (T) object;
-        }
-        catch (Exception exception)
-        {
-            throw new ParseException(exception, "Unparsable %s: \"%s\"", type.getCanonicalName(), string);
-        }
+            try
+            {
+                return (T) parser.apply(string);
+            }
+            catch (Exception exception)
+            {
+                throw new ParseException(exception, "Unparsable %s: \"%s\"", type.getCanonicalName(), string);
+            }
+        };
     }
 
     @SuppressWarnings({ "unchecked", "rawtypes" })
@@ -16,11 +16,14 @@
 
 package net.obvj.confectory.util;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.StringWriter;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.transform.OutputKeys;
@@ -30,8 +33,10 @@ import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
 
+import org.w3c.dom.Document;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
 
 import net.obvj.confectory.ConfigurationException;
 
@@ -45,6 +50,12 @@ public class XMLUtils
 {
     private static final String YES = "yes";
 
+    private static final ObjectPool<DocumentBuilder> DOCUMENT_BUILDERS = new ObjectPool<>(XMLUtils::newDocumentBuilder);
+    private static final ObjectPool<Transformer> TRANSFORMERS = new ObjectPool<>(XMLUtils::newTransformer);
+
+    private static DocumentBuilderFactory sharedDocumentBuilderFactory;
+    private static TransformerFactory sharedTransformerFactory;
+
     private XMLUtils()
     {
         throw new IllegalStateException("Instantiation not allowed");
@@ -84,6 +95,76 @@ public class XMLUtils
         return factory;
     }
 
+    /**
+     * Parses the content of the specified input stream as an XML document, with a
+     * {@link DocumentBuilder} reused from a small pool.
+     * <p>
+     * Pooled builders are created from a single, secure {@link DocumentBuilderFactory} (see
+     * {@link #documentBuilderFactory()}) and reset before each use.
+     *
+     * @param inputStream the input stream containing the XML document to be parsed
+     * @return a new DOM {@link Document}
+     * @throws IOException            if an I/O error occurs
+     * @throws SAXException           if any parse error occurs
+     * @throws ConfigurationException if unable to create the document builder
+     * @since 2.7.0
+     */
+    public static Document parse(InputStream inputStream) throws IOException, SAXException
+    {
+        DocumentBuilder builder = DOCUMENT_BUILDERS.borrow();
+        try
+        {
+            builder.reset();
+            return builder.parse(inputStream);
+        }
+        finally
+        {
+            DOCUMENT_BUILDERS.release(builder);
+        }
+    }
+
+    /**
+     * Creates a new {@link DocumentBuilder} from the shared factory.
+     * <p>
+     * Factories are not guaranteed to be thread-safe, so access to the shared factory is
+     * synchronized. This happens only when the pool is empty.
+     */
+    private static synchronized DocumentBuilder newDocumentBuilder()
+    {
+        try
+        {
+            if (sharedDocumentBuilderFactory == null)
+            {
+                sharedDocumentBuilderFactory = documentBuilderFactory();
+            }
+            return sharedDocumentBuilderFactory.newDocumentBuilder();
+        }
+        catch (ParserConfigurationException exception)
+        {
+            throw new ConfigurationException(exception, "Unable to create document builder");
+        }
+    }
+
+    /**
+     * Creates a new {@link Transformer} from the shared factory, with synchronized access to
+     * the factory.
+     */
+    private static synchronized Transformer newTransformer()
+    {
+        try
+        {
+            if (sharedTransformerFactory == null)
+            {
+                sharedTransformerFactory = transformerFactory();
+            }
+            return sharedTransformerFactory.newTransformer();
+        }
+        catch (TransformerException exception)
+        {
+            throw new ConfigurationException(exception, "Unable to create transformer");
+        }
+    }
+
     /**
      * Returns a string representation of the specified XML {@link NodeList}.
      *
@@ -135,16 +216,19 @@ public class XMLUtils
         StreamResult result = new StreamResult(writer);
         try
         {
-            Transformer transformer = XMLUtils.transformerFactory().newTransformer();
-            transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, YES);
-            transformer.setOutputProperty(OutputKeys.INDENT, YES);
-            transformer.transform(domSource, result);
+            TRANSFORMERS.apply(transformer ->
+            {
+                transformer.reset();
+                transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, YES);
+                transformer.setOutputProperty(OutputKeys.INDENT, YES);
+                transformer.transform(domSource, result);
+                return null;
+            });
             return writer.toString().trim();
         }
         catch (TransformerException exception)
         {
-            throw new ConfigurationException("Unable to convert document node into string",
-                    exception);
+            throw new ConfigurationException(exception, "Unable to convert document node into string");
         }
     }
 }
@@ -25,6 +25,14 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Answers;
@@ -38,6 +46,7 @@ import net.obvj.confectory.mapper.PropertiesMapper;
 import net.obvj.confectory.source.AbstractSource;
 import net.obvj.confectory.source.DynamicSource;
 import net.obvj.confectory.source.Source;
+import net.obvj.confectory.source.StringSource;
 
 /**
  * Unit tests for the {@link ConfigurationBuilder}.
@@ -178,4 +187,67 @@ class ConfigurationBuilderTest
         assertThat(source.getClass(), equalTo(DynamicSource.class));
         assertThat(source.toString(), containsAll("DynamicSource", "path1"));
     }
+    @Test
+    void buildAsync_eagerConfiguration_sourceLoadedOnExecutor()
+    {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try
+        {
+            CompletableFuture<Configuration<Properties>> future = new ConfigurationBuilder<Properties>()
+                    .source(new StringSource<>("key=value")).mapper(new PropertiesMapper()).buildAsync(executor);
+            assertThat(future.join().getString("key"), equalTo("value"));
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void buildAsync_lazyConfiguration_completedImmediately()
+    {
+        CompletableFuture<Configuration<Properties>> future = new ConfigurationBuilder<Properties>()
+                .source(new StringSource<>("key=value")).mapper(new PropertiesMapper()).lazy()
+                .buildAsync(command -> { throw new AssertionError("executor not expected"); });
+        assertThat(future.isDone(), equalTo(true));
+        assertThat(future.join().isLazy(), equalTo(true));
+        assertThat(future.join().getString("key"), equalTo("value"));
+    }
+
+    @Test
+    void buildAsync_requiredSourceNotFound_futureCompletedExceptionally()
+    {
+        CompletableFuture<Configuration<Properties>> future = new ConfigurationBuilder<Properties>()
+                .source("file://unknown/file.properties").mapper(new PropertiesMapper()).buildAsync(Runnable::run);
+        assertThat(() -> future.join(),
+                throwsException(CompletionException.class).withCause(ConfigurationSourceException.class));
+    }
+
+    @Test
+    void buildAsync_nullSource_illegalStateException()
+    {
+        ConfigurationBuilder<Object> builder = new ConfigurationBuilder<>();
+        assertThat(() -> builder.buildAsync(Runnable::run),
+                throwsException(IllegalStateException.class).withMessage("The configuration source must not be null"));
+    }
+
+    @Test
+    void buildAsync_noExecutor_loaderExecutorFromSettingsApplied()
+    {
+        List<Runnable> tasks = new ArrayList<>();
+        Confectory.settings().setLoaderExecutor(tasks::add);
+        try
+        {
+            CompletableFuture<Configuration<Properties>> future = new ConfigurationBuilder<Properties>()
+                    .source(new StringSource<>("key=value")).mapper(new PropertiesMapper()).buildAsync();
+            assertThat(tasks.size(), equalTo(1));
+            tasks.get(0).run();
+            assertThat(future.join().getString("key"), equalTo("value"));
+        }
+        finally
+        {
+            Confectory.settings().reset();
+        }
+    }
+
 }
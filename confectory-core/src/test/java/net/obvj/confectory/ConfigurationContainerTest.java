@@ -16,19 +16,36 @@
 
 package net.obvj.confectory;
 
+import static net.obvj.junit.utils.matchers.AdvancedMatchers.throwsException;
 import static org.hamcrest.CoreMatchers.either;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import net.obvj.confectory.mapper.Mapper;
 import net.obvj.confectory.mapper.PropertiesMapper;
 import net.obvj.confectory.settings.ConfectorySettings;
+import net.obvj.confectory.source.FileSource;
 import net.obvj.confectory.source.StringSource;
 
 /**
@@ -144,6 +161,29 @@ class ConfigurationContainerTest
         assertThat(container.getNamespaces().size(), equalTo(0));
     }
 
+    @Test
+    void constructor_configurationReloadedWhileRegistering_noException()
+    {
+        Configuration<Properties> config = spy(CONF_NS1_PROPERTIES_1);
+        Mockito.doAnswer(invocation ->
+        {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(config).addReloadListener(Mockito.any());
+        container = new ConfigurationContainer(config);
+        assertThat(container.getNamespaces().size(), equalTo(1));
+    }
+
+    @Test
+    void clear_presetConfigurations_reloadListenersRemoved()
+    {
+        Configuration<Properties> config = spy(CONF_NS1_PROPERTIES_1);
+        container = new ConfigurationContainer(config);
+        verify(config).addReloadListener(Mockito.any());
+        container.clear();
+        verify(config).removeReloadListener(Mockito.any());
+    }
+
     @Test
     void getString_keyOnlyAndStrict_configurationWithoutNamespace()
     {
@@ -396,4 +436,307 @@ class ConfigurationContainerTest
         assertThat(container.isEmpty(), equalTo(false));
     }
 
+    @Test
+    void getString_higherPrecedenceConfigurationAddedAfterRead_newConfigurationSelected()
+    {
+        container = new ConfigurationContainer(DataFetchStrategy.STRICT, CONF_NS1_PROPERTIES_1);
+        assertThat(container.getString(NAMESPACE1, KEY_STRING), equalTo("string1"));
+
+        container.add(CONF_NS1_PROPERTIES_2);
+        assertThat(container.getString(NAMESPACE1, KEY_STRING), equalTo("string2"));
+    }
+
+    @Test
+    void getString_afterClear_null()
+    {
+        container = new ConfigurationContainer(CONF_NS1_PROPERTIES_1);
+        container.clear();
+        assertThat(container.getString(NAMESPACE1, KEY_STRING), equalTo(null));
+        assertThat(container.getString(KEY_STRING), equalTo(null));
+    }
+
+    @Test
+    void isCacheEnabled_default_false()
+    {
+        container = new ConfigurationContainer();
+        assertThat(container.isCacheEnabled(), equalTo(false));
+    }
+
+    @Test
+    void getString_cacheEnabled_valueResolvedOnceAndReused()
+    {
+        Configuration<Properties> config = spy(CONF_NS1_PROPERTIES_1);
+        container = new ConfigurationContainer(config);
+        container.setCacheEnabled(true);
+
+        assertThat(container.getString(NAMESPACE1, KEY_STRING), equalTo("string1"));
+        assertThat(container.getString(NAMESPACE1, KEY_STRING), equalTo("string1"));
+        verify(config, times(1)).getString(KEY_STRING);
+    }
+
+    @Test
+    void getString_cacheEnabledAndKeyNotFound_notFoundCached()
+    {
+        Configuration<Properties> config = spy(CONF_NS1_PROPERTIES_1);
+        container = new ConfigurationContainer(config);
+        container.setCacheEnabled(true);
+
+        assertThat(container.getString(NAMESPACE1, KEY_BAD), equalTo(null));
+        assertThat(container.getString(NAMESPACE1, KEY_BAD), equalTo(null));
+        verify(config, times(1)).getString(KEY_BAD);
+    }
+
+    @Test
+    void getValue_cacheEnabledAndDifferentTypes_cachedSeparately()
+    {
+        container = new ConfigurationContainer(CONF_NS1_PROPERTIES_1);
+        container.setCacheEnabled(true);
+
+        assertThat(container.getString(NAMESPACE1, KEY_INT), equalTo("1"));
+        assertThat(container.getInteger(NAMESPACE1, KEY_INT), equalTo(1));
+        assertThat(container.getLong(NAMESPACE1, KEY_INT), equalTo(1L));
+    }
+
+    @Test
+    void getString_cacheEnabledAndConfigurationAdded_cacheInvalidated()
+    {
+        container = new ConfigurationContainer(CONF_NS1_PROPERTIES_1);
+        container.setCacheEnabled(true);
+        assertThat(container.getString(NAMESPACE1, KEY_STRING), equalTo("string1"));
+        assertThat(container.getDouble(NAMESPACE1, KEY_DOUBLE), equalTo(null));
+
+        container.add(CONF_NS1_PROPERTIES_2);
+        assertThat(container.getString(NAMESPACE1, KEY_STRING), equalTo("string2"));
+        assertThat(container.getDouble(NAMESPACE1, KEY_DOUBLE), equalTo(2.2));
+    }
+
+    @Test
+    void getString_cacheEnabledAndContainerCleared_cacheInvalidated()
+    {
+        container = new ConfigurationContainer(CONF_NS1_PROPERTIES_1);
+        container.setCacheEnabled(true);
+        assertThat(container.getString(NAMESPACE1, KEY_STRING), equalTo("string1"));
+
+        container.clear();
+        assertThat(container.getString(NAMESPACE1, KEY_STRING), equalTo(null));
+    }
+
+    @Test
+    void getString_cacheEnabledAndDataFetchStrategyChanged_cacheInvalidated()
+    {
+        container = new ConfigurationContainer(DataFetchStrategy.STRICT, CONF_NS1_PROPERTIES_1, CONF_PROPERTIES_1);
+        container.setCacheEnabled(true);
+        assertThat(container.getString(KEY_STRING), equalTo(null));
+
+        container.setDataFetchStrategy(DataFetchStrategy.LENIENT);
+        assertThat(container.getString(KEY_STRING), equalTo("string1"));
+    }
+
+    @Test
+    void setCacheEnabled_false_cacheDisabled()
+    {
+        container = new ConfigurationContainer();
+        container.setCacheEnabled(true);
+        assertThat(container.isCacheEnabled(), equalTo(true));
+        container.setCacheEnabled(false);
+        assertThat(container.isCacheEnabled(), equalTo(false));
+    }
+
+    @Test
+    void add_concurrentWritersAndReaders_allConfigurationsAddedAndReadsConsistent() throws Exception
+    {
+        int configCount = 50;
+        container = new ConfigurationContainer(DataFetchStrategy.STRICT);
+        container.setCacheEnabled(true);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try
+        {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < configCount; i++)
+            {
+                int precedence = i;
+                futures.add(executor.submit(() -> container.add(Configuration.<Properties>builder()
+                        .namespace(NAMESPACE1)
+                        .precedence(precedence)
+                        .mapper(new PropertiesMapper())
+                        .source(new StringSource<>("string=value" + precedence))
+                        .build())));
+                futures.add(executor.submit(() ->
+                {
+                    String value = container.getString(NAMESPACE1, KEY_STRING);
+                    assertTrue(value == null || value.startsWith("value"));
+                }));
+            }
+            for (Future<?> future : futures)
+            {
+                future.get();
+            }
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+        assertThat(container.size(NAMESPACE1), equalTo((long) configCount));
+        assertThat(container.getString(NAMESPACE1, KEY_STRING), equalTo("value" + (configCount - 1)));
+    }
+
+    @Test
+    void getNamespaces_afterAdd_previousSnapshotUnchanged()
+    {
+        container = new ConfigurationContainer(CONF_NS1_PROPERTIES_1);
+        Collection<String> namespaces = container.getNamespaces();
+        container.add(CONF_NS2_PROPERTIES_1);
+        assertThat(namespaces.size(), equalTo(1));
+        assertThat(container.getNamespaces().size(), equalTo(2));
+    }
+
+    private static ConfigurationBuilder<Properties> builder(String namespace, String content)
+    {
+        return Configuration.<Properties>builder()
+                .namespace(namespace)
+                .mapper(new PropertiesMapper())
+                .source(new StringSource<>(content));
+    }
+
+    private static ConfigurationBuilder<Properties> missingFileBuilder(boolean optional)
+    {
+        ConfigurationBuilder<Properties> builder = Configuration.<Properties>builder()
+                .namespace(NAMESPACE2)
+                .mapper(new PropertiesMapper())
+                .source(new FileSource<>("unknown/file.properties"));
+        return optional ? builder.optional() : builder.required();
+    }
+
+    @Test
+    void load_validBuilders_allConfigurationsLoaded()
+    {
+        List<ConfigurationBuilder<Properties>> builders = new ArrayList<>();
+        for (int i = 0; i < 50; i++)
+        {
+            builders.add(builder("ns" + i, "string=value" + i));
+        }
+        container = ConfigurationContainer.load(builders);
+        assertThat(container.size(), equalTo(50L));
+        assertThat(container.getString("ns0", KEY_STRING), equalTo("value0"));
+        assertThat(container.getString("ns49", KEY_STRING), equalTo("value49"));
+    }
+
+    @Test
+    void load_customExecutor_allConfigurationsLoaded() throws Exception
+    {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try
+        {
+            container = ConfigurationContainer.load(
+                    Arrays.asList(builder(NAMESPACE1, "string=value1"), builder(NAMESPACE2, "test=ok2")),
+                    executor);
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+        assertThat(container.getString(NAMESPACE1, KEY_STRING), equalTo("value1"));
+        assertThat(container.getString(NAMESPACE2, KEY_TEST), equalTo("ok2"));
+    }
+
+    @Test
+    void load_emptyCollection_emptyContainer()
+    {
+        container = ConfigurationContainer.load(Collections.emptyList());
+        assertThat(container.size(), equalTo(0L));
+    }
+
+    @Test
+    void load_optionalFailure_emptyConfigurationLoaded()
+    {
+        container = ConfigurationContainer.load(
+                Arrays.asList(builder(NAMESPACE1, "string=value1"), missingFileBuilder(true)));
+        assertThat(container.size(), equalTo(2L));
+        assertThat(container.getString(NAMESPACE1, KEY_STRING), equalTo("value1"));
+        assertThat(container.getString(NAMESPACE2, KEY_TEST), equalTo(null));
+    }
+
+    @Test
+    void load_requiredFailures_configurationExceptionWithAllFailures()
+    {
+        List<ConfigurationBuilder<Properties>> builders = Arrays.asList(builder(NAMESPACE1, "string=value1"),
+                missingFileBuilder(false), missingFileBuilder(false));
+        try
+        {
+            ConfigurationContainer.load(builders);
+        }
+        catch (ConfigurationException exception)
+        {
+            assertThat(exception.getMessage(), equalTo("Unable to load 2 of 3 configuration(s)"));
+            assertThat(exception.getCause().getClass(), equalTo(ConfigurationSourceException.class));
+            assertThat(exception.getSuppressed().length, equalTo(1));
+            return;
+        }
+        throw new AssertionError("ConfigurationException expected");
+    }
+
+    @Test
+    void load_executorRejectsTasks_failuresHandledAfterSubmittedTasks()
+    {
+        AtomicInteger submitted = new AtomicInteger();
+        Executor rejectingExecutor = task ->
+        {
+            if (submitted.incrementAndGet() > 1)
+            {
+                throw new RejectedExecutionException("queue full");
+            }
+            task.run();
+        };
+        List<ConfigurationBuilder<Properties>> builders = Arrays.asList(builder(NAMESPACE1, "string=value1"),
+                missingFileBuilder(true), builder(NAMESPACE2, "test=ok2"));
+        try
+        {
+            ConfigurationContainer.load(builders, rejectingExecutor);
+        }
+        catch (ConfigurationException exception)
+        {
+            // The rejected optional builder is skipped; only the required one is reported
+            assertThat(exception.getMessage(), equalTo("Unable to load 1 of 3 configuration(s)"));
+            assertThat(exception.getCause().getClass(), equalTo(RejectedExecutionException.class));
+            assertThat(exception.getSuppressed().length, equalTo(0));
+            return;
+        }
+        throw new AssertionError("ConfigurationException expected");
+    }
+
+    @Test
+    void load_nullExecutor_nullPointerException()
+    {
+        List<ConfigurationBuilder<Properties>> builders = Arrays.asList(builder(NAMESPACE1, "string=value1"));
+        assertThat(() -> ConfigurationContainer.load(builders, null),
+                throwsException(NullPointerException.class).withMessage("the executor must not be null"));
+    }
+
+    @Test
+    void getString_cacheEnabledAndConfigurationReloaded_newValueReturned()
+    {
+        String[] values = { "value1" };
+        Configuration<Properties> configuration = Configuration.<Properties>builder()
+                .namespace(NAMESPACE1)
+                .mapper(new PropertiesMapper())
+                .source(new StringSource<Properties>("")
+                {
+                    @Override
+                    public Properties load(Mapper<Properties> mapper)
+                    {
+                        Properties properties = new Properties();
+                        properties.setProperty(KEY_STRING, values[0]);
+                        return properties;
+                    }
+                })
+                .build();
+        container = new ConfigurationContainer(configuration);
+        container.setCacheEnabled(true);
+        assertThat(container.getString(NAMESPACE1, KEY_STRING), equalTo("value1"));
+
+        values[0] = "value2";
+        configuration.reload();
+        assertThat(container.getString(NAMESPACE1, KEY_STRING), equalTo("value2"));
+    }
+
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 obvj.net
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.obvj.confectory;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.arrayContainingInAnyOrder;
+import static org.hamcrest.Matchers.emptyArray;
+
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+
+import net.obvj.confectory.mapper.StringMapper;
+import net.obvj.confectory.source.StringSource;
+
+/**
+ * Unit tests for the {@link ConfigurationIndex} class.
+ *
+ * @author oswaldo.bapvic.jr (Oswaldo Junior)
+ * @since 2.7.0
+ */
+class ConfigurationIndexTest
+{
+    private static final String NAMESPACE1 = "namespace1";
+    private static final String NAMESPACE2 = "namespace2";
+
+    private static final Configuration<String> CONF_NS1_P1 = newConfiguration(NAMESPACE1, 1, "ns1p1");
+    private static final Configuration<String> CONF_NS1_P3 = newConfiguration(NAMESPACE1, 3, "ns1p3");
+    private static final Configuration<String> CONF_NS2_P2 = newConfiguration(NAMESPACE2, 2, "ns2p2");
+
+    private static Configuration<String> newConfiguration(String namespace, int precedence, String content)
+    {
+        return Configuration.<String>builder().namespace(namespace).precedence(precedence)
+                .source(new StringSource<>(content)).mapper(new StringMapper()).build();
+    }
+
+    private static ConfigurationIndex newIndex()
+    {
+        Map<String, Set<Configuration<?>>> configMap = new HashMap<>();
+        configMap.put(NAMESPACE1, new HashSet<>(Arrays.asList(CONF_NS1_P1, CONF_NS1_P3)));
+        configMap.put(NAMESPACE2, new HashSet<>(Arrays.asList(CONF_NS2_P2)));
+        return new ConfigurationIndex(configMap);
+    }
+
+    @Test
+    void empty_noConfigurations()
+    {
+        assertThat(ConfigurationIndex.EMPTY.sorted(NAMESPACE1), emptyArray());
+        assertThat(ConfigurationIndex.EMPTY.unsorted(NAMESPACE1), emptyArray());
+        assertThat(ConfigurationIndex.EMPTY.allSorted(), emptyArray());
+        assertThat(ConfigurationIndex.EMPTY.allUnsorted(), emptyArray());
+    }
+
+    @Test
+    void sorted_existingNamespace_highestPrecedenceFirst()
+    {
+        assertThat(newIndex().sorted(NAMESPACE1), arrayContaining(CONF_NS1_P3, CONF_NS1_P1));
+    }
+
+    @Test
+    void unsorted_existingNamespace_allConfigurationsOfTheNamespace()
+    {
+        assertThat(newIndex().unsorted(NAMESPACE1), arrayContainingInAnyOrder(CONF_NS1_P1, CONF_NS1_P3));
+    }
+
+    @Test
+    void sorted_unknownNamespace_emptyArray()
+    {
+        assertThat(newIndex().sorted("unknown"), emptyArray());
+    }
+
+    @Test
+    void allSorted_severalNamespaces_highestPrecedenceFirst()
+    {
+        assertThat(newIndex().allSorted(), arrayContaining(CONF_NS1_P3, CONF_NS2_P2, CONF_NS1_P1));
+    }
+
+    @Test
+    void allUnsorted_severalNamespaces_allConfigurations()
+    {
+        assertThat(newIndex().allUnsorted(), arrayContainingInAnyOrder(CONF_NS1_P1, CONF_NS1_P3, CONF_NS2_P2));
+    }
+
+    @Test
+    void sorted_calledTwice_sameInstance()
+    {
+        ConfigurationIndex index = newIndex();
+        assertThat(index.sorted(NAMESPACE1), sameInstance(index.sorted(NAMESPACE1)));
+        assertThat(index.allSorted().length, equalTo(3));
+    }
+
+}
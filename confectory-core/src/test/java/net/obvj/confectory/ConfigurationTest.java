@@ -24,18 +24,27 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.hamcrest.Matcher;
 import org.junit.jupiter.api.Test;
 
 import net.obvj.confectory.internal.helper.NullConfigurationHelper;
+import net.obvj.confectory.mapper.Mapper;
 import net.obvj.confectory.mapper.PropertiesMapper;
 import net.obvj.confectory.mapper.StringMapper;
 import net.obvj.confectory.source.FileSource;
+import net.obvj.confectory.source.ReloadableSource;
 import net.obvj.confectory.source.Source;
 import net.obvj.confectory.source.StringSource;
 import net.obvj.junit.utils.Procedure;
@@ -325,4 +334,199 @@ class ConfigurationTest
         assertNotSame(CONFIG_PROPERTIES_1, result);
     }
 
+    @Test
+    void getBean_lazyConfigurationAccessedConcurrently_sourceLoadedOnce() throws Exception
+    {
+        AtomicInteger loadCount = new AtomicInteger();
+        Source<String> source = new StringSource<String>(STRING1)
+        {
+            @Override
+            public String load(Mapper<String> mapper, boolean optional)
+            {
+                loadCount.incrementAndGet();
+                return super.load(mapper, optional);
+            }
+        };
+        Configuration<String> config = Configuration.<String>builder()
+                .source(source).mapper(new StringMapper()).lazy().build();
+        assertThat(loadCount.get(), equalTo(0));
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try
+        {
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < 32; i++)
+            {
+                futures.add(executor.submit(config::getBean));
+            }
+            for (Future<String> future : futures)
+            {
+                assertThat(future.get(), equalTo(STRING1));
+            }
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+        assertThat(loadCount.get(), equalTo(1));
+    }
+
+    @Test
+    void loadAsync_lazyConfiguration_sourceLoadedInBackground()
+    {
+        AtomicInteger loadCount = new AtomicInteger();
+        Source<String> source = new StringSource<String>(STRING1)
+        {
+            @Override
+            public String load(Mapper<String> mapper, boolean optional)
+            {
+                loadCount.incrementAndGet();
+                return super.load(mapper, optional);
+            }
+        };
+        Configuration<String> config = Configuration.<String>builder()
+                .source(source).mapper(new StringMapper()).lazy().build();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try
+        {
+            assertThat(config.loadAsync(executor).join(), equalTo(config));
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+        assertThat(loadCount.get(), equalTo(1));
+        assertThat(config.getBean(), equalTo(STRING1));
+        assertThat(config.loadAsync(Runnable::run).isDone(), equalTo(true));
+        assertThat(loadCount.get(), equalTo(1));
+    }
+
+    @Test
+    void loadAsync_nullExecutor_nullPointerException()
+    {
+        Configuration<String> config = Configuration.<String>builder()
+                .source(new StringSource<>(STRING1)).mapper(new StringMapper()).lazy().build();
+        assertThat(() -> config.loadAsync(null),
+                throwsException(NullPointerException.class).withMessage("the executor must not be null"));
+    }
+
+    /**
+     * A reloadable source whose contents and change notifications are controlled by tests.
+     */
+    private static class MutableSource extends StringSource<String> implements ReloadableSource<String>
+    {
+        private volatile String contents;
+        private Runnable listener;
+
+        private MutableSource(String contents)
+        {
+            super(contents);
+            this.contents = contents;
+        }
+
+        @Override
+        public String load(Mapper<String> mapper)
+        {
+            if (contents == null)
+            {
+                throw new ConfigurationSourceException("Source unavailable");
+            }
+            return contents;
+        }
+
+        @Override
+        public void addChangeListener(Runnable listener)
+        {
+            this.listener = listener;
+        }
+
+        @Override
+        public void removeChangeListener(Runnable listener)
+        {
+            this.listener = null;
+        }
+    }
+
+    @Test
+    void reload_sourceChanged_newDataPublished()
+    {
+        MutableSource source = new MutableSource(STRING1);
+        Configuration<String> config = Configuration.<String>builder()
+                .source(source).mapper(new StringMapper()).build();
+        source.contents = "string2";
+        config.reload();
+        assertThat(config.getBean(), equalTo("string2"));
+    }
+
+    @Test
+    void reload_sourceUnavailable_exceptionAndPreviousDataKept()
+    {
+        MutableSource source = new MutableSource(STRING1);
+        Configuration<String> config = Configuration.<String>builder()
+                .source(source).mapper(new StringMapper()).optional().build();
+        source.contents = null;
+        assertThat(() -> config.reload(),
+                throwsException(ConfigurationSourceException.class).withMessage("Source unavailable"));
+        assertThat(config.getBean(), equalTo(STRING1));
+    }
+
+    @Test
+    void build_reloadableSource_reloadedOnChangeNotification()
+    {
+        MutableSource source = new MutableSource(STRING1);
+        Configuration<String> config = Configuration.<String>builder()
+                .source(source).mapper(new StringMapper()).build();
+        source.contents = "string2";
+        source.listener.run();
+        assertThat(config.getBean(), equalTo("string2"));
+
+        // A failed reload is logged and the previous data is kept
+        source.contents = null;
+        source.listener.run();
+        assertThat(config.getBean(), equalTo("string2"));
+    }
+
+    @Test
+    void detach_reloadableSource_notReloadedOnChangeNotification()
+    {
+        MutableSource source = new MutableSource(STRING1);
+        Configuration<String> config = Configuration.<String>builder()
+                .source(source).mapper(new StringMapper()).build();
+        config.detach();
+        assertThat(source.listener, equalTo(null));
+
+        // Explicit reloads are still allowed
+        source.contents = "string2";
+        config.reload();
+        assertThat(config.getBean(), equalTo("string2"));
+    }
+
+    @Test
+    void build_reloadableSource_configurationNotRetainedBySource() throws InterruptedException
+    {
+        MutableSource source = new MutableSource(STRING1);
+        WeakReference<Configuration<String>> reference = new WeakReference<>(
+                Configuration.<String>builder().source(source).mapper(new StringMapper()).build());
+        for (int attempt = 0; attempt < 50 && reference.get() != null; attempt++)
+        {
+            System.gc();
+            Thread.sleep(20);
+        }
+        assertThat(reference.get(), equalTo(null));
+
+        // The orphan listener unregisters itself on the next notification
+        source.listener.run();
+        assertThat(source.listener, equalTo(null));
+    }
+
+    @Test
+    void detach_nonReloadableSource_noEffect()
+    {
+        Configuration<String> config = Configuration.<String>builder()
+                .source(new StringSource<>(STRING1)).mapper(new StringMapper()).build();
+        config.detach();
+        assertThat(config.getBean(), equalTo(STRING1));
+    }
+
 }
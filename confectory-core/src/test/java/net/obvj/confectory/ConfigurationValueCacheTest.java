@@ -0,0 +1,79 @@
+/*
+ * Copyright 2021 obvj.net
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package net.obvj.confectory;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link ConfigurationValueCache} class.
+ *
+ * @author oswaldo.bapvic.jr (Oswaldo Junior)
+ * @since 2.7.0
+ */
+class ConfigurationValueCacheTest
+{
+    private final ConfigurationValueCache cache = new ConfigurationValueCache();
+
+    @AfterEach
+    void resetSettings()
+    {
+        Confectory.settings().reset();
+    }
+
+    @Test
+    void get_valueStored_sameValue()
+    {
+        cache.put("ns", "key", String.class, "value");
+        assertThat(cache.get("ns", "key", String.class), equalTo("value"));
+        assertThat(cache.get("ns", "key", Integer.class), nullValue());
+        assertThat(cache.get("other", "key", String.class), nullValue());
+    }
+
+    @Test
+    void get_nullStored_notFound()
+    {
+        cache.put("ns", "key", String.class, null);
+        assertThat(ConfigurationValueCache.isNotFound(cache.get("ns", "key", String.class)), equalTo(true));
+    }
+
+    @Test
+    void put_manyMissingKeys_sizeWithinLimit()
+    {
+        Confectory.settings().setValueCacheSize(8);
+        for (int i = 0; i < 100; i++)
+        {
+            cache.put("ns", "missing" + i, String.class, null);
+        }
+        assertThat(cache.size(), equalTo(8));
+    }
+
+    @Test
+    void put_cacheSizeZero_notStored()
+    {
+        Confectory.settings().setValueCacheSize(0);
+        cache.put("ns", "key", String.class, "value");
+        assertThat(cache.get("ns", "key", String.class), nullValue());
+        assertThat(cache.size(), equalTo(0));
+    }
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 obvj.net
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.obvj.confectory.internal.helper;
+
+import static net.obvj.junit.utils.matchers.AdvancedMatchers.throwsException;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+
+import org.junit.jupiter.api.Test;
+
+import com.jayway.jsonpath.InvalidPathException;
+import com.jayway.jsonpath.spi.json.JsonProvider;
+import com.jayway.jsonpath.spi.json.JsonSmartJsonProvider;
+
+import net.minidev.json.JSONArray;
+import net.minidev.json.JSONObject;
+
+/**
+ * Unit tests for the {@link CompiledJsonPath} class.
+ *
+ * @author oswaldo.bapvic.jr (Oswaldo Junior)
+ * @since 2.7.0
+ */
+class CompiledJsonPathTest
+{
+    private static final JsonProvider PROVIDER = new JsonSmartJsonProvider();
+    private static final JSONObject JSON = new JSONObject();
+
+    static
+    {
+        JSONObject server = new JSONObject();
+        server.put("port", 8080);
+        server.put("host-name", "localhost");
+        server.put("nothing", null);
+        JSONArray servers = new JSONArray();
+        servers.add(server);
+        JSON.put("server", server);
+        JSON.put("servers", servers);
+    }
+
+    @Test
+    void parseSimplePath_simplePaths_segments()
+    {
+        assertThat(CompiledJsonPath.parseSimplePath("$.server.port"), arrayContaining("server", "port"));
+        assertThat(CompiledJsonPath.parseSimplePath("server.port"), arrayContaining("server", "port"));
+        assertThat(CompiledJsonPath.parseSimplePath("$['server'][\"port\"]"), arrayContaining("server", "port"));
+        assertThat(CompiledJsonPath.parseSimplePath("$.servers[0].host-name"), arrayContaining("servers", 0, "host-name"));
+    }
+
+    @Test
+    void parseSimplePath_complexPaths_null()
+    {
+        assertThat(CompiledJsonPath.parseSimplePath("$..port"), nullValue());
+        assertThat(CompiledJsonPath.parseSimplePath("$.servers[*]"), nullValue());
+        assertThat(CompiledJsonPath.parseSimplePath("$.servers[-1]"), nullValue());
+        assertThat(CompiledJsonPath.parseSimplePath("$.servers[0,1]"), nullValue());
+        assertThat(CompiledJsonPath.parseSimplePath("$.servers[0:1]"), nullValue());
+        assertThat(CompiledJsonPath.parseSimplePath("$.servers[?(@.port > 1)]"), nullValue());
+        assertThat(CompiledJsonPath.parseSimplePath("$.servers.length()"), nullValue());
+        assertThat(CompiledJsonPath.parseSimplePath("$['a','b']"), nullValue());
+    }
+
+    @Test
+    void compile_invalidPath_exception()
+    {
+        assertThat(() -> CompiledJsonPath.compile("$.["), throwsException(InvalidPathException.class));
+        assertThat(() -> CompiledJsonPath.compile(""), throwsException(IllegalArgumentException.class));
+    }
+
+    @Test
+    void read_existingPaths_values()
+    {
+        assertThat(CompiledJsonPath.compile("$.server.port").read(JSON, PROVIDER), equalTo(8080));
+        assertThat(CompiledJsonPath.compile("servers[0]['host-name']").read(JSON, PROVIDER), equalTo("localhost"));
+        assertThat(CompiledJsonPath.compile("$.server.nothing").read(JSON, PROVIDER), nullValue());
+    }
+
+    @Test
+    void read_missingPaths_undefined()
+    {
+        assertThat(CompiledJsonPath.compile("$.unknown").read(JSON, PROVIDER), sameInstance(JsonProvider.UNDEFINED));
+        assertThat(CompiledJsonPath.compile("$.server.port.x").read(JSON, PROVIDER), sameInstance(JsonProvider.UNDEFINED));
+        assertThat(CompiledJsonPath.compile("$.servers[1]").read(JSON, PROVIDER), sameInstance(JsonProvider.UNDEFINED));
+        assertThat(CompiledJsonPath.compile("$.server[0]").read(JSON, PROVIDER), sameInstance(JsonProvider.UNDEFINED));
+        assertThat(CompiledJsonPath.compile("$.servers.port").read(JSON, PROVIDER), sameInstance(JsonProvider.UNDEFINED));
+        assertThat(CompiledJsonPath.compile("$.server.nothing.x").read(JSON, PROVIDER), sameInstance(JsonProvider.UNDEFINED));
+    }
+
+    @Test
+    void read_complexPath_illegalState()
+    {
+        assertThat(() -> CompiledJsonPath.compile("$..port").read(JSON, PROVIDER),
+                throwsException(IllegalStateException.class));
+    }
+
+    @Test
+    void getCanonicalKey_equivalentPaths_sameKey()
+    {
+        assertThat(CompiledJsonPath.compile("$.server.port").getCanonicalKey(), equalTo("server.port"));
+        assertThat(CompiledJsonPath.compile("$['server']['port']").getCanonicalKey(), equalTo("server.port"));
+        assertThat(CompiledJsonPath.compile("servers[0].name").getCanonicalKey(), equalTo("servers[0].name"));
+        assertThat(CompiledJsonPath.compile("$['a.b'].c").getCanonicalKey(), equalTo("['a.b'].c"));
+        assertThat(CompiledJsonPath.compile("$..c").getCanonicalKey(), nullValue());
+    }
+
+}
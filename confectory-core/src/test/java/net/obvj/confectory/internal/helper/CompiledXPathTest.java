@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 obvj.net
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.obvj.confectory.internal.helper;
+
+import static net.obvj.junit.utils.matchers.AdvancedMatchers.throwsException;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpressionException;
+
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+
+import net.obvj.confectory.util.XMLUtils;
+
+/**
+ * Unit tests for the {@link CompiledXPath} class.
+ *
+ * @author oswaldo.bapvic.jr (Oswaldo Junior)
+ * @since 2.7.0
+ */
+class CompiledXPathTest
+{
+    private static final String EXPRESSION = "/root/element";
+
+    @Test
+    void compile_validExpression_success() throws XPathExpressionException
+    {
+        CompiledXPath compiled = CompiledXPath.compile(EXPRESSION);
+        assertThat(compiled.getExpression(), equalTo(EXPRESSION));
+    }
+
+    @Test
+    void compile_invalidExpression_xpathExpressionException()
+    {
+        assertThat(() -> CompiledXPath.compile("?"), throwsException(XPathExpressionException.class));
+    }
+
+    @Test
+    void compile_null_nullPointerException()
+    {
+        assertThat(() -> CompiledXPath.compile(null), throwsException(NullPointerException.class)
+                .withMessage("the XPath expression must not be null"));
+    }
+
+    @Test
+    void evaluate_validContext_success() throws Exception
+    {
+        CompiledXPath compiled = CompiledXPath.compile(EXPRESSION);
+        assertThat(compiled.evaluate(document("<root><element>1</element></root>"), XPathConstants.STRING),
+                equalTo("1"));
+    }
+
+    @Test
+    void evaluate_concurrentThreads_sameResults() throws Exception
+    {
+        CompiledXPath compiled = CompiledXPath.compile(EXPRESSION);
+        Document document = document("<root><element>1</element></root>");
+        List<CompletableFuture<Object>> futures = IntStream.range(0, 32)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() ->
+                {
+                    try
+                    {
+                        return compiled.evaluate(document, XPathConstants.STRING);
+                    }
+                    catch (XPathExpressionException exception)
+                    {
+                        throw new IllegalStateException(exception);
+                    }
+                }))
+                .collect(Collectors.toList());
+        for (CompletableFuture<Object> future : futures)
+        {
+            assertThat(future.get(), equalTo("1"));
+        }
+    }
+
+    @Test
+    void newXPathExpression_calledTwice_differentInstances() throws XPathExpressionException
+    {
+        CompiledXPath compiled = CompiledXPath.compile(EXPRESSION);
+        assertThat(compiled.newXPathExpression(), not(sameInstance(compiled.newXPathExpression())));
+    }
+
+    private static Document document(String xml) throws Exception
+    {
+        return XMLUtils.parse(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+    }
+
+}
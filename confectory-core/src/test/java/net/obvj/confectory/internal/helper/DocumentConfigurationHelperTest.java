@@ -20,7 +20,12 @@ import static net.obvj.junit.utils.matchers.AdvancedMatchers.throwsException;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.IntStream;
 
 import javax.xml.xpath.XPathExpressionException;
@@ -365,5 +370,43 @@ class DocumentConfigurationHelperTest
         assertThat(elementsAsStringLines, equalTo(expectedElementsAsStringLines));
     }
 
+    @Test
+    void get_samePathTwice_compiledExpressionReused()
+    {
+        String path = "/bookstore/book[@category='cooking']/year";
+        long misses = DocumentConfigurationHelper.xpathCache().getMissCount();
+        HELPER.get(path);
+        HELPER.get(path);
+        assertThat(DocumentConfigurationHelper.xpathCache().getMissCount(), equalTo(misses + 1));
+    }
+
+    @Test
+    void compileXPath_invalidExpression_xpathExpressionException()
+    {
+        assertThat(() -> DocumentConfigurationHelper.compileXPath("?"),
+                throwsException(XPathExpressionException.class));
+    }
+
+    @Test
+    void getInteger_concurrentReads_sameResults() throws Exception
+    {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try
+        {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < 64; i++)
+            {
+                results.add(executor.submit(() -> HELPER.getInteger("/bookstore/book[@category='cooking']/year")));
+            }
+            for (Future<Integer> result : results)
+            {
+                assertThat(result.get(), equalTo(2005));
+            }
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
 
 }
@@ -29,6 +29,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import net.minidev.json.JSONArray;
 import net.minidev.json.JSONObject;
+import net.obvj.confectory.Confectory;
 import net.obvj.confectory.ConfigurationException;
 import net.obvj.confectory.merger.JSONObjectConfigurationMerger;
 import net.obvj.junit.utils.Procedure;
@@ -227,4 +228,34 @@ class JsonSmartConfigurationHelperTest
     {
         assertThat(HELPER.configurationMerger().getClass(), equalTo(JSONObjectConfigurationMerger.class));
     }
+    @Test
+    void get_samePathTwice_compiledPathReused()
+    {
+        String path = "$.stringValue.cacheTest";
+        long misses = GenericJsonConfigurationHelper.jsonPathCache().getMissCount();
+        HELPER.get(path);
+        HELPER.get(path);
+        assertThat(GenericJsonConfigurationHelper.jsonPathCache().getMissCount(), equalTo(misses + 1));
+    }
+
+    @Test
+    void getValue_flatIndexEnabled_sameResults()
+    {
+        Confectory.settings().setJsonFlatIndexEnabled(true);
+        try
+        {
+            GenericJsonConfigurationHelper<JSONObject> helper = new JsonSmartConfigurationHelper(TEST_JSON_SAMPLE1);
+            assertThat(helper.flatIndex.get("intValue"), equalTo(9));
+            assertThat(helper.getInteger("$.intValue"), equalTo(9));
+            assertThat(helper.getString("$['stringValue']"), equalTo("test"));
+            assertThat(helper.getString("array[1]"), equalTo("element2"));
+            assertThat(helper.getString(PATH_UNKNOWN), equalTo(null));
+            assertThat(() -> helper.getMandatoryString(PATH_UNKNOWN), EXCEPTION_NO_VALUE_FOUND_PATH_UNKNOWN);
+        }
+        finally
+        {
+            Confectory.settings().reset();
+        }
+    }
+
 }
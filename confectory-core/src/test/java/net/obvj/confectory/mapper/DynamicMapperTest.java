@@ -20,7 +20,10 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 import org.junit.jupiter.api.Test;
 
@@ -77,6 +80,48 @@ class DynamicMapperTest
         assertThat(mapper.configurationHelper(bean).getString("$.web.host"), equalTo("localhost"));
     }
 
+    @Test
+    void apply_jsonInferredFromUnmarkableStream_loadedSuccessfully() throws IOException
+    {
+        Mapper<Object> mapper = new DynamicMapper();
+        InputStream inputStream = new FilterInputStream(asInputStream(TEST_JSON_CONTENT))
+        {
+            @Override
+            public boolean markSupported()
+            {
+                return false;
+            }
+        };
+        Object bean = mapper.apply(inputStream);
+        assertThat(mapper.configurationHelper(bean).getString("$.web.host"), equalTo("localhost"));
+    }
+
+    @Test
+    void apply_jsonByteBufferInferred_loadedSuccessfully() throws IOException
+    {
+        DynamicMapper mapper = new DynamicMapper();
+        Object bean = mapper.applyBuffer(ByteBuffer.wrap(TEST_JSON_CONTENT.getBytes()));
+        assertThat(mapper.getActualMapper().getClass(), equalTo(JSONObjectMapper.class));
+        assertThat(mapper.configurationHelper(bean).getString("$.web.host"), equalTo("localhost"));
+    }
+
+    @Test
+    void apply_iniByteBufferInferred_loadedSuccessfully() throws IOException
+    {
+        Mapper<Object> mapper = new DynamicMapper();
+        Object bean = mapper.applyBuffer(ByteBuffer.wrap(TEST_INI_CONTENT.getBytes()));
+        assertThat(mapper.configurationHelper(bean).getString("web.host"), equalTo("localhost"));
+    }
+
+    @Test
+    void getParseCacheKey_inferredMapper_nullUntilAssigned() throws IOException
+    {
+        DynamicMapper mapper = new DynamicMapper();
+        assertThat(mapper.getParseCacheKey(), equalTo(null));
+        mapper.apply(asInputStream(TEST_JSON_CONTENT));
+        assertThat(mapper.getParseCacheKey(), equalTo(new JSONObjectMapper().getParseCacheKey()));
+    }
+
     @Test
     void apply_propertiesSpecifiedAtConstructor_loadedSuccessfully() throws IOException
     {
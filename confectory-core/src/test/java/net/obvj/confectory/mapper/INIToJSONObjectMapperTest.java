@@ -23,6 +23,10 @@ import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.commons.lang3.StringUtils;
 
 import org.junit.jupiter.api.Test;
 
@@ -149,4 +153,53 @@ class INIToJSONObjectMapperTest
                 equalTo(JsonSmartConfigurationHelper.class));
     }
 
+    @Test
+    void apply_mixedLineTerminators_validJSONObject()
+    {
+        JSONObject result = testWithString("a=1\r\nb = 2\rc==3\n\r\n[s]\r\nd\t4");
+        assertThat(result.get("a"), equalTo(1));
+        assertThat(result.get("b"), equalTo(2));
+        assertThat(result.get("c"), equalTo(3));
+        assertThat(((JSONObject) result.get("s")).get("d"), equalTo(4));
+    }
+
+    @Test
+    void apply_invalidLineAfterCarriageReturns_exceptionWithLineNumber()
+    {
+        assertThat(() -> testWithString("a=1\r\n\r\n;comment\r  invalid_line  \r\n"),
+                throwsException(ConfigurationSourceException.class)
+                        .withMessage(equalTo("Malformed INI: expected property at line 4: \"invalid_line\"")));
+    }
+
+    @Test
+    void apply_valueWithSeparators_remainderKept()
+    {
+        JSONObject result = testWithString("key = = a = b  \n");
+        assertThat(result.get("key"), equalTo("a = b"));
+    }
+
+    @Test
+    void apply_linesLongerThanBuffers_validJSONObject()
+    {
+        String longValue = StringUtils.repeat('x', 20000);
+        JSONObject result = testWithString(StringUtils.repeat("k=v\n", 3000) + "long=" + longValue + "\nlast=1");
+        assertThat(result.get("long"), equalTo(longValue));
+        assertThat(result.get("last"), equalTo(1));
+    }
+
+    @Test
+    void apply_explicitCharset_decodedWithCharset() throws IOException
+    {
+        String ini = "name=ção\n";
+        JSONObject result = new INIToJSONObjectMapper(StandardCharsets.UTF_16)
+                .apply(new ByteArrayInputStream(ini.getBytes(StandardCharsets.UTF_16)));
+        assertThat(result.get("name"), equalTo("ção"));
+    }
+
+    @Test
+    void getCharset_default_jvmDefault()
+    {
+        assertThat(new INIToJSONObjectMapper().getCharset(), equalTo(Charset.defaultCharset()));
+    }
+
 }
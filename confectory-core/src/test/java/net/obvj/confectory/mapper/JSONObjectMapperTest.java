@@ -22,6 +22,8 @@ import static org.hamcrest.MatcherAssert.assertThat;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 
 import org.junit.jupiter.api.Test;
 
@@ -51,6 +53,8 @@ class JSONObjectMapperTest
 
     private static final String TEST_JSON_INVALID = "{";
 
+    private static final String TEST_JSON_NON_ASCII_WITH_ESCAPES = "{\"a\":\"caf\u00e9\\tx\",\"b\":\"\u00e7\u00e3o \\u0041 \u20ac\\n\"}";
+
     private Mapper<JSONObject> mapper = new JSONObjectMapper();
 
     private ByteArrayInputStream toInputStream(String content)
@@ -73,6 +77,44 @@ class JSONObjectMapperTest
         assertThat(array.get(1), equalTo("string2"));
     }
 
+    @Test
+    void apply_heapByteBuffer_validJSONObject() throws IOException
+    {
+        JSONObject result = mapper.applyBuffer(ByteBuffer.wrap(TEST_JSON_SAMPLE1.getBytes()));
+        assertThat(result.size(), equalTo(4));
+        assertThat(result.get("intValue"), equalTo(9));
+    }
+
+    @Test
+    void apply_directByteBuffer_validJSONObjectAndBufferUnchanged() throws IOException
+    {
+        byte[] bytes = TEST_JSON_SAMPLE1.getBytes();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+        JSONObject result = mapper.applyBuffer(buffer);
+        assertThat(result.get("doubleValue"), equalTo(23.98));
+        assertThat(buffer.remaining(), equalTo(bytes.length));
+    }
+
+    @Test
+    void applyBuffer_nonAsciiWithEscapes_sameResultAsStream() throws IOException
+    {
+        byte[] bytes = TEST_JSON_NON_ASCII_WITH_ESCAPES.getBytes(StandardCharsets.UTF_8);
+        JSONObject expected = mapper.apply(new ByteArrayInputStream(bytes));
+        assertThat(expected.get("a"), equalTo("caf\u00e9\tx"));
+        assertThat(expected.get("b"), equalTo("\u00e7\u00e3o A \u20ac\n"));
+
+        assertThat(mapper.applyBuffer(ByteBuffer.wrap(bytes)), equalTo(expected));
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+        assertThat(mapper.applyBuffer(direct), equalTo(expected));
+    }
+
+    @Test
+    void apply_invalidJSONByteBuffer_configurationException()
+    {
+        assertThat(() -> mapper.applyBuffer(ByteBuffer.wrap(TEST_JSON_INVALID.getBytes())),
+                throwsException(ConfigurationException.class).withCause(ParseException.class));
+    }
+
     @Test
     void apply_invalidJSON_configurationException() throws IOException
     {
@@ -21,6 +21,7 @@ import static java.util.Arrays.stream;
 import static java.util.stream.Collectors.toList;
 import static net.obvj.junit.utils.matchers.AdvancedMatchers.throwsException;
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -299,4 +300,16 @@ class PropertiesToObjectMapperTest
         assertThat(new PropertiesToObjectMapper<>(Object.class).configurationHelper(new Object()).getClass(),
                 equalTo(BeanConfigurationHelper.class));
     }
+    @Test
+    void getParseCacheKey_differentTargetTypeOrObjectFactory_differentKeys()
+    {
+        Object key = new PropertiesToObjectMapper<>(MyBeanHybrid.class, ObjectFactory.FAST).getParseCacheKey();
+        assertThat(new PropertiesToObjectMapper<>(MyBeanHybrid.class, ObjectFactory.FAST).getParseCacheKey(),
+                equalTo(key));
+        assertThat(new PropertiesToObjectMapper<>(MyBeanExplicitMapping.class, ObjectFactory.FAST)
+                .getParseCacheKey(), not(equalTo(key)));
+        assertThat(new PropertiesToObjectMapper<>(MyBeanHybrid.class, ObjectFactory.CONSTRUCTOR_BASED).getParseCacheKey(),
+                not(equalTo(key)));
+    }
+
 }
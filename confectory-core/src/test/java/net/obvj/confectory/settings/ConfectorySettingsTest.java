@@ -21,6 +21,8 @@ import static net.obvj.junit.utils.matchers.AdvancedMatchers.throwsException;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 
+import java.util.concurrent.Executor;
+
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -43,6 +45,8 @@ class ConfectorySettingsTest
     private DataFetchStrategy dataFetchStrategy;
     @Mock
     private ObjectFactory objectFactory;
+    @Mock
+    private Executor executor;
 
     private ConfectorySettings settings = ConfectorySettings.instance();
 
@@ -88,4 +92,80 @@ class ConfectorySettingsTest
         assertThat(settings.getObjectFactory(), is(objectFactory));
     }
 
+    @Test
+    void setExpressionCacheSize_negative_exceptionAndNoChangePerformed()
+    {
+        assertThat(settings.getExpressionCacheSize(), is(INITIAL_EXPRESSION_CACHE_SIZE));
+        assertThat(() -> settings.setExpressionCacheSize(-1),
+                throwsException(IllegalArgumentException.class)
+                        .withMessageContaining("must not be negative"));
+        assertThat(settings.getExpressionCacheSize(), is(INITIAL_EXPRESSION_CACHE_SIZE));
+    }
+
+    @Test
+    void setExpressionCacheSize_valid_success()
+    {
+        settings.setExpressionCacheSize(0);
+        assertThat(settings.getExpressionCacheSize(), is(0));
+    }
+
+    @Test
+    void setJsonFlatIndexEnabled_true_success()
+    {
+        assertThat(settings.isJsonFlatIndexEnabled(), is(INITIAL_JSON_FLAT_INDEX_ENABLED));
+        settings.setJsonFlatIndexEnabled(true);
+        assertThat(settings.isJsonFlatIndexEnabled(), is(true));
+    }
+
+    @Test
+    void setLoaderExecutor_null_exceptionAndNoChangePerformed()
+    {
+        assertThat(settings.getLoaderExecutor(), is(INITIAL_LOADER_EXECUTOR));
+        assertThat(() -> settings.setLoaderExecutor(null),
+                throwsException(NullPointerException.class)
+                        .withMessageContaining("Executor must not be null"));
+        assertThat(settings.getLoaderExecutor(), is(INITIAL_LOADER_EXECUTOR));
+    }
+
+    @Test
+    void setLoaderExecutor_valid_success()
+    {
+        settings.setLoaderExecutor(executor);
+        assertThat(settings.getLoaderExecutor(), is(executor));
+    }
+
+    @Test
+    void setParseCacheSize_negative_exceptionAndNoChangePerformed()
+    {
+        assertThat(settings.getParseCacheSize(), is(INITIAL_PARSE_CACHE_SIZE));
+        assertThat(() -> settings.setParseCacheSize(-1),
+                throwsException(IllegalArgumentException.class)
+                        .withMessageContaining("must not be negative"));
+        assertThat(settings.getParseCacheSize(), is(INITIAL_PARSE_CACHE_SIZE));
+    }
+
+    @Test
+    void setParseCacheSize_valid_success()
+    {
+        settings.setParseCacheSize(16);
+        assertThat(settings.getParseCacheSize(), is(16));
+    }
+
+    @Test
+    void setValueCacheSize_negative_exceptionAndNoChangePerformed()
+    {
+        assertThat(settings.getValueCacheSize(), is(INITIAL_VALUE_CACHE_SIZE));
+        assertThat(() -> settings.setValueCacheSize(-1),
+                throwsException(IllegalArgumentException.class)
+                        .withMessageContaining("must not be negative"));
+        assertThat(settings.getValueCacheSize(), is(INITIAL_VALUE_CACHE_SIZE));
+    }
+
+    @Test
+    void setValueCacheSize_valid_success()
+    {
+        settings.setValueCacheSize(16);
+        assertThat(settings.getValueCacheSize(), is(16));
+    }
+
 }
@@ -98,7 +98,7 @@ class ClasspathFileSourceTest
     @Test
     void load_mockedUrl_mapperAppliesInputStream() throws IOException
     {
-        when(url.openStream()).thenThrow(new IOException());
+        when(url.openConnection()).thenThrow(new IOException());
 
         assertThat(() -> classpathFileSource.load(url, mapper),
                 throwsException(ConfigurationSourceException.class).withCause(IOException.class));
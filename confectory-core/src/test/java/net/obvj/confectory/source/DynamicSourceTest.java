@@ -168,6 +168,88 @@ class DynamicSourceTest
         }
     }
 
+    @Test
+    void load_mockedWithPrefixTwice_sourceResolvedOnce()
+    {
+        source = new DynamicSource<>("http://myhost");
+        try (MockedStatic<SourceFactory> mocked = mockStatic(SourceFactory.class))
+        {
+            mocked.when(() -> SourceFactory.<String>urlSource("http://myhost")).thenReturn(delegateSource1);
+            when(delegateSource1.load(STRING_MAPPER)).thenReturn(OK);
+
+            assertThat(source.load(STRING_MAPPER), equalTo(OK));
+            assertThat(source.load(STRING_MAPPER), equalTo(OK));
+            mocked.verify(() -> SourceFactory.urlSource("http://myhost"), times(1));
+            verify(delegateSource1, times(2)).load(STRING_MAPPER);
+        }
+    }
+
+    @Test
+    void load_mockedWithoutPrefixNotFoundInClasspathTwice_classpathMissRemembered()
+    {
+        source = new DynamicSource<>("mockedfile");
+        try (MockedStatic<SourceFactory> mocked = mockStatic(SourceFactory.class))
+        {
+            mocked.when(() -> SourceFactory.<String>classpathFileSource("mockedfile")).thenReturn(delegateSource1);
+            mocked.when(() -> SourceFactory.<String>fileSource("mockedfile")).thenReturn(delegateSource2);
+
+            when(delegateSource1.load(STRING_MAPPER)).thenThrow(
+                    new ConfigurationSourceException(new FileNotFoundException("mocked file not found exception")));
+            when(delegateSource2.load(STRING_MAPPER)).thenReturn(OK);
+
+            assertThat(source.load(STRING_MAPPER), equalTo(OK));
+            assertThat(source.load(STRING_MAPPER), equalTo(OK));
+            verify(delegateSource1, times(1)).load(STRING_MAPPER);
+            verify(delegateSource2, times(2)).load(STRING_MAPPER);
+            assertThat(source.getResolvedSource(), equalTo(delegateSource2));
+        }
+    }
+
+    @Test
+    void load_mockedWithoutPrefixNotFoundAnywhere_fileSourceRemembered()
+    {
+        source = new DynamicSource<>("mockedfile");
+        try (MockedStatic<SourceFactory> mocked = mockStatic(SourceFactory.class))
+        {
+            mocked.when(() -> SourceFactory.<String>classpathFileSource("mockedfile")).thenReturn(delegateSource1);
+            mocked.when(() -> SourceFactory.<String>fileSource("mockedfile")).thenReturn(delegateSource2);
+
+            ConfigurationSourceException notFound = new ConfigurationSourceException(
+                    new FileNotFoundException("mocked file not found exception"));
+            when(delegateSource1.load(STRING_MAPPER)).thenThrow(notFound);
+            when(delegateSource2.load(STRING_MAPPER)).thenThrow(notFound).thenReturn(OK);
+
+            assertThat(() -> source.load(STRING_MAPPER), throwsException(ConfigurationSourceException.class));
+            assertThat(source.load(STRING_MAPPER), equalTo(OK));
+            verify(delegateSource1, times(1)).load(STRING_MAPPER);
+        }
+    }
+
+    @Test
+    void load_mockedFileWithoutPrefixExceptionDuringMapping_notResolved()
+    {
+        source = new DynamicSource<>("mockedfile");
+        try (MockedStatic<SourceFactory> mocked = mockStatic(SourceFactory.class))
+        {
+            mocked.when(() -> SourceFactory.<String>classpathFileSource("mockedfile")).thenReturn(delegateSource1);
+            when(delegateSource1.load(STRING_MAPPER))
+                    .thenThrow(new ConfigurationSourceException("file found but exception raised"));
+
+            assertThat(() -> source.load(STRING_MAPPER), throwsException(ConfigurationSourceException.class));
+            assertNull(source.getResolvedSource());
+        }
+    }
+
+    @Test
+    void load_validClasspathFileWithoutPrefixTwice_classpathSourceReused()
+    {
+        source = new DynamicSource<>("testfiles/file1.txt");
+        assertThat(source.load(STRING_MAPPER), containsAll(FILE1_CONTENT));
+        Source<String> resolved = source.getResolvedSource();
+        assertThat(resolved.getClass(), equalTo(ClasspathFileSource.class));
+        assertThat(source.load(STRING_MAPPER), containsAll(FILE1_CONTENT));
+        assertTrue(resolved == source.getResolvedSource());
+    }
 
     @Test
     void isFileNotFound_exceptionWithFileNotFoundAsCause_true()
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2021 obvj.net
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.obvj.confectory.source;
+
+import static net.obvj.junit.utils.matchers.AdvancedMatchers.containsAll;
+import static net.obvj.junit.utils.matchers.AdvancedMatchers.throwsException;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import net.minidev.json.JSONObject;
+import net.obvj.confectory.ConfigurationSourceException;
+import net.obvj.confectory.mapper.DynamicMapper;
+import net.obvj.confectory.mapper.JSONObjectMapper;
+import net.obvj.confectory.mapper.Mapper;
+import net.obvj.confectory.mapper.StringMapper;
+
+/**
+ * Unit tests for the {@link MappedFileSource} class.
+ *
+ * @author oswaldo.bapvic.jr (Oswaldo Junior)
+ * @since 2.7.0
+ */
+class MappedFileSourceTest
+{
+    private static final String FILE_NOT_FOUND_PATH = "notfound.json";
+    private static final String FILE_FILE1_TXT = "src/test/resources/testfiles/file1.txt";
+
+    @TempDir
+    Path directory;
+
+    private Path write(String fileName, String content) throws IOException
+    {
+        return Files.write(directory.resolve(fileName), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void load_file1WithStringMapper_sameContentAsFileSource()
+    {
+        assertThat(new MappedFileSource<String>(FILE_FILE1_TXT).load(new StringMapper()),
+                equalTo(new FileSource<String>(FILE_FILE1_TXT).load(new StringMapper())));
+    }
+
+    @Test
+    void load_jsonFile_success() throws IOException
+    {
+        Path file = write("test.json", "{\"server\": {\"port\": 1910}}");
+        JSONObject json = new MappedFileSource<JSONObject>(file.toString()).load(new JSONObjectMapper());
+        assertThat(((JSONObject) json.get("server")).get("port"), equalTo(1910));
+    }
+
+    @Test
+    void load_jsonFileWithNonAsciiAndEscapes_sameResultAsFileSource() throws IOException
+    {
+        Path file = write("utf8.json", "{\"a\":\"caf\u00e9\\tx\",\"b\":[\"\u00e7\u00e3o\\n\u20ac\"]}");
+        JSONObject mapped = new MappedFileSource<JSONObject>(file.toString()).load(new JSONObjectMapper());
+        assertThat(mapped.get("a"), equalTo("caf\u00e9\tx"));
+        assertThat(mapped, equalTo(new FileSource<JSONObject>(file.toString()).load(new JSONObjectMapper())));
+    }
+
+    @Test
+    void load_jsonFileWithDynamicMapper_success() throws IOException
+    {
+        Path file = write("test.cfg", "{\"server\": {\"port\": 1910}}");
+        DynamicMapper mapper = new DynamicMapper();
+        Object json = new MappedFileSource<>(file.toString()).load(mapper);
+        assertThat(mapper.configurationHelper(json).getInteger("$.server.port"), equalTo(1910));
+    }
+
+    @Test
+    void load_emptyFile_emptyString() throws IOException
+    {
+        Path file = write("empty.txt", "");
+        assertThat(new MappedFileSource<String>(file.toString()).load(new StringMapper()), equalTo(""));
+    }
+
+    @Test
+    void load_validFile_bufferPassedToMapper() throws IOException
+    {
+        Path file = write("test.txt", "content");
+        Mapper<String> mapper = mock(Mapper.class);
+        when(mapper.applyBuffer(any(ByteBuffer.class))).thenReturn("result");
+
+        assertThat(new MappedFileSource<String>(file.toString()).load(mapper), equalTo("result"));
+        verify(mapper, never()).apply(any(InputStream.class));
+    }
+
+    @Test
+    void load_fileNotFoundAndOptionalFalse_configurationSourceException()
+    {
+        MappedFileSource<String> source = new MappedFileSource<>(FILE_NOT_FOUND_PATH);
+        assertThat(() -> source.load(new StringMapper(), false),
+                throwsException(ConfigurationSourceException.class)
+                        .withMessage(containsAll(FILE_NOT_FOUND_PATH).ignoreCase())
+                        .withCause(NoSuchFileException.class));
+    }
+
+    @Test
+    void load_fileNotFoundAndOptionalTrue_null()
+    {
+        assertThat(new MappedFileSource<String>(FILE_NOT_FOUND_PATH).load(new StringMapper(), true),
+                equalTo(null));
+    }
+
+}
@@ -26,13 +26,17 @@ import static org.mockito.BDDMockito.then;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import net.obvj.confectory.ConfigurationSourceException;
 import net.obvj.confectory.mapper.Mapper;
 import net.obvj.confectory.mapper.StringMapper;
 
@@ -90,4 +94,33 @@ class StringSourceTest
                       containsNone(STRING_CONTENTS)));
     }
 
+    @Test
+    void loadAsync_validString_futureCompletedWithData()
+    {
+        assertThat(STRING_SOURCE1.loadAsync(STRING_MAPPER, Runnable::run).join(), equalTo(STRING1));
+    }
+
+    @Test
+    void loadAsync_mapperFailureAndOptionalFalse_futureCompletedExceptionally() throws IOException
+    {
+        Executor executor = Runnable::run;
+        Mockito.when(mapper.apply(Mockito.any())).thenThrow(new IOException("mapper failure"));
+        assertThat(() -> stringSource.loadAsync(mapper, executor).join(),
+                throwsException(CompletionException.class).withCause(ConfigurationSourceException.class));
+    }
+
+    @Test
+    void loadAsync_mapperFailureAndOptionalTrue_futureCompletedWithNull() throws IOException
+    {
+        Mockito.when(mapper.apply(Mockito.any())).thenThrow(new IOException("mapper failure"));
+        assertThat(stringSource.loadAsync(mapper, true, Runnable::run).join(), equalTo(null));
+    }
+
+    @Test
+    void loadAsync_nullExecutor_nullPointerException()
+    {
+        assertThat(() -> STRING_SOURCE1.loadAsync(STRING_MAPPER, null),
+                throwsException(NullPointerException.class).withMessage("the executor must not be null"));
+    }
+
 }
@@ -0,0 +1,260 @@
+/*
+ * Copyright 2021 obvj.net
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.obvj.confectory.source;
+
+import static net.obvj.junit.utils.matchers.AdvancedMatchers.throwsException;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import net.obvj.confectory.ConfigurationSourceException;
+import net.obvj.confectory.mapper.PropertiesMapper;
+
+/**
+ * Unit tests for the HTTP-aware mode of the {@link URLSource} class, with a local HTTP
+ * server stub.
+ *
+ * @author oswaldo.bapvic.jr (Oswaldo Junior)
+ * @since 2.7.0
+ */
+class URLSourceHttpCacheTest
+{
+    private static final String PATH = "/config.properties";
+    private static final String LAST_MODIFIED = "Wed, 21 Oct 2026 07:28:00 GMT";
+
+    @TempDir
+    Path cacheDirectory;
+
+    private HttpServer server;
+    private String url;
+
+    private volatile String content = "key=value1";
+    private volatile String eTag = "\"v1\"";
+    private volatile String lastModified = null;
+    private volatile int errorStatus = 0;
+    private final List<String> conditionalHeaders = new ArrayList<>();
+
+    private final PropertiesMapper mapper = new PropertiesMapper();
+
+    @BeforeEach
+    void startServer() throws IOException
+    {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext(PATH, this::handle);
+        server.start();
+        url = "http://localhost:" + server.getAddress().getPort() + PATH;
+    }
+
+    @AfterEach
+    void stopServer()
+    {
+        server.stop(0);
+    }
+
+    private synchronized void handle(HttpExchange exchange) throws IOException
+    {
+        String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+        String ifModifiedSince = exchange.getRequestHeaders().getFirst("If-Modified-Since");
+        conditionalHeaders.add(ifNoneMatch + "|" + ifModifiedSince);
+
+        if (errorStatus != 0)
+        {
+            exchange.sendResponseHeaders(errorStatus, -1);
+            exchange.close();
+            return;
+        }
+
+        if ((ifNoneMatch != null && ifNoneMatch.equals(eTag))
+                || (ifNoneMatch == null && ifModifiedSince != null && ifModifiedSince.equals(lastModified)))
+        {
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+        }
+        if (eTag != null)
+        {
+            exchange.getResponseHeaders().add("ETag", eTag);
+        }
+        if (lastModified != null)
+        {
+            exchange.getResponseHeaders().add("Last-Modified", lastModified);
+        }
+        byte[] body = content.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream outputStream = exchange.getResponseBody())
+        {
+            outputStream.write(body);
+        }
+    }
+
+    /**
+     * Simulates a crash after the cached body was replaced, but before the metadata was.
+     */
+    private void replaceCachedBodyOnly() throws IOException
+    {
+        try (Stream<Path> files = Files.list(cacheDirectory))
+        {
+            Path bodyFile = files.filter(file -> file.toString().endsWith(".body")).findFirst().orElseThrow();
+            Files.write(bodyFile, "key=corrupted".getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void load_firstRequest_bodyCachedOnDisk() throws IOException
+    {
+        URLSource<Properties> source = new URLSource<>(url, cacheDirectory);
+        assertThat(source.load(mapper).getProperty("key"), equalTo("value1"));
+        assertThat(conditionalHeaders, equalTo(List.of("null|null")));
+        try (Stream<Path> files = Files.list(cacheDirectory))
+        {
+            assertThat(files.count(), equalTo(2L));
+        }
+    }
+
+    @Test
+    void load_notModifiedWithETag_cachedBeanReused()
+    {
+        URLSource<Properties> source = new URLSource<>(url, cacheDirectory);
+        Properties first = source.load(mapper);
+        Properties second = source.load(mapper);
+        assertThat(second, sameInstance(first));
+        assertThat(conditionalHeaders, equalTo(List.of("null|null", "\"v1\"|null")));
+    }
+
+    @Test
+    void load_notModifiedWithLastModified_cachedCopyReused()
+    {
+        eTag = null;
+        lastModified = LAST_MODIFIED;
+        new URLSource<Properties>(url, cacheDirectory).load(mapper);
+
+        // A new source instance must rely on the disk cache
+        Properties properties = new URLSource<Properties>(url, cacheDirectory).load(mapper);
+        assertThat(properties.getProperty("key"), equalTo("value1"));
+        assertThat(conditionalHeaders, equalTo(List.of("null|null", "null|" + LAST_MODIFIED)));
+    }
+
+    @Test
+    void load_modified_newContentLoadedAndCached()
+    {
+        URLSource<Properties> source = new URLSource<>(url, cacheDirectory);
+        source.load(mapper);
+        content = "key=value2";
+        eTag = "\"v2\"";
+        assertThat(source.load(mapper).getProperty("key"), equalTo("value2"));
+
+        server.stop(0);
+        assertThat(new URLSource<Properties>(url, cacheDirectory).load(mapper).getProperty("key"),
+                equalTo("value2"));
+    }
+
+    @Test
+    void load_serverUnreachable_cachedCopyLoaded()
+    {
+        new URLSource<Properties>(url, cacheDirectory).load(mapper);
+        server.stop(0);
+        Properties properties = new URLSource<Properties>(url, cacheDirectory).load(mapper);
+        assertThat(properties.getProperty("key"), equalTo("value1"));
+    }
+
+    @Test
+    void load_serviceUnavailable_cachedCopyLoaded()
+    {
+        new URLSource<Properties>(url, cacheDirectory).load(mapper);
+        errorStatus = 503;
+        URLSourceOptions options = URLSourceOptions.builder().maxAttempts(1).build();
+        Properties properties = new URLSource<Properties>(url, cacheDirectory, options).load(mapper);
+        assertThat(properties.getProperty("key"), equalTo("value1"));
+    }
+
+    @Test
+    void load_notFound_configurationSourceExceptionDespiteCachedCopy()
+    {
+        new URLSource<Properties>(url, cacheDirectory).load(mapper);
+        errorStatus = 404;
+        URLSource<Properties> source = new URLSource<>(url, cacheDirectory);
+        assertThat(() -> source.load(mapper),
+                throwsException(ConfigurationSourceException.class).withCause(IOException.class));
+    }
+
+    @Test
+    void load_serverUnreachableAndNoCachedCopy_configurationSourceException()
+    {
+        server.stop(0);
+        URLSource<Properties> source = new URLSource<>(url, cacheDirectory);
+        assertThat(() -> source.load(mapper),
+                throwsException(ConfigurationSourceException.class).withCause(IOException.class));
+    }
+
+    @Test
+    void load_notModifiedAndBodyNotMatchingMetadata_reloadedUnconditionally() throws IOException
+    {
+        new URLSource<Properties>(url, cacheDirectory).load(mapper);
+
+        replaceCachedBodyOnly();
+
+        Properties properties = new URLSource<Properties>(url, cacheDirectory).load(mapper);
+        assertThat(properties.getProperty("key"), equalTo("value1"));
+        assertThat(conditionalHeaders, equalTo(List.of("null|null", "\"v1\"|null", "null|null")));
+
+        // The cache is repaired
+        server.stop(0);
+        assertThat(new URLSource<Properties>(url, cacheDirectory).load(mapper).getProperty("key"),
+                equalTo("value1"));
+    }
+
+    @Test
+    void load_serverUnreachableAndBodyNotMatchingMetadata_configurationSourceException() throws IOException
+    {
+        new URLSource<Properties>(url, cacheDirectory).load(mapper);
+        replaceCachedBodyOnly();
+        server.stop(0);
+        URLSource<Properties> source = new URLSource<>(url, cacheDirectory);
+        assertThat(() -> source.load(mapper),
+                throwsException(ConfigurationSourceException.class).withCause(IOException.class));
+    }
+
+    @Test
+    void load_noCacheDirectory_unconditionalRequests()
+    {
+        URLSource<Properties> source = new URLSource<>(url);
+        source.load(mapper);
+        source.load(mapper);
+        assertThat(conditionalHeaders, equalTo(List.of("null|null", "null|null")));
+    }
+
+}
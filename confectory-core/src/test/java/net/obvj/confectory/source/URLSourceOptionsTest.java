@@ -0,0 +1,92 @@
+/*
+ * Copyright 2021 obvj.net
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.obvj.confectory.source;
+
+import static net.obvj.junit.utils.matchers.AdvancedMatchers.throwsException;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link URLSourceOptions} class.
+ *
+ * @author oswaldo.bapvic.jr (Oswaldo Junior)
+ * @since 2.7.0
+ */
+class URLSourceOptionsTest
+{
+
+    @Test
+    void default_expectedValues()
+    {
+        URLSourceOptions options = URLSourceOptions.DEFAULT;
+        assertThat(options.getConnectTimeout(), equalTo(Duration.ofSeconds(10)));
+        assertThat(options.getReadTimeout(), equalTo(Duration.ofSeconds(30)));
+        assertThat(options.getMaxAttempts(), equalTo(3));
+        assertThat(options.getInitialBackoff(), equalTo(Duration.ofMillis(250)));
+        assertThat(options.getMaxBackoff(), equalTo(Duration.ofSeconds(5)));
+        assertThat(options.getDeadline(), equalTo(Duration.ofSeconds(60)));
+    }
+
+    @Test
+    void builder_customValues_applied()
+    {
+        URLSourceOptions options = URLSourceOptions.builder()
+                .connectTimeout(Duration.ofSeconds(1))
+                .readTimeout(Duration.ofSeconds(2))
+                .maxAttempts(5)
+                .initialBackoff(Duration.ofMillis(10))
+                .maxBackoff(Duration.ofMillis(20))
+                .deadline(Duration.ZERO)
+                .build();
+        assertThat(options.getConnectTimeout(), equalTo(Duration.ofSeconds(1)));
+        assertThat(options.getReadTimeout(), equalTo(Duration.ofSeconds(2)));
+        assertThat(options.getMaxAttempts(), equalTo(5));
+        assertThat(options.getInitialBackoff(), equalTo(Duration.ofMillis(10)));
+        assertThat(options.getMaxBackoff(), equalTo(Duration.ofMillis(20)));
+        assertThat(options.getDeadline(), equalTo(Duration.ZERO));
+    }
+
+    @Test
+    void maxAttempts_zero_illegalArgumentException()
+    {
+        URLSourceOptions.Builder builder = URLSourceOptions.builder();
+        assertThat(() -> builder.maxAttempts(0), throwsException(IllegalArgumentException.class)
+                .withMessage("the maximum number of attempts must be positive"));
+    }
+
+    @Test
+    void connectTimeout_negative_illegalArgumentException()
+    {
+        URLSourceOptions.Builder builder = URLSourceOptions.builder();
+        Duration timeout = Duration.ofSeconds(-1);
+        assertThat(() -> builder.connectTimeout(timeout), throwsException(IllegalArgumentException.class)
+                .withMessage("the connect timeout must not be negative"));
+    }
+
+    @Test
+    void deadline_null_nullPointerException()
+    {
+        URLSourceOptions.Builder builder = URLSourceOptions.builder();
+        assertThat(() -> builder.deadline(null),
+                throwsException(NullPointerException.class).withMessage("the deadline must not be null"));
+    }
+
+}
@@ -0,0 +1,252 @@
+/*
+ * Copyright 2021 obvj.net
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.obvj.confectory.source;
+
+import static net.obvj.junit.utils.matchers.AdvancedMatchers.throwsException;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import net.obvj.confectory.ConfigurationSourceException;
+import net.obvj.confectory.mapper.Mapper;
+import net.obvj.confectory.mapper.StringMapper;
+
+/**
+ * Unit tests for the timeouts, retries and deadline of the {@link URLSource} class, with
+ * a local HTTP server stub.
+ *
+ * @author oswaldo.bapvic.jr (Oswaldo Junior)
+ * @since 2.7.0
+ */
+class URLSourceRetryTest
+{
+    private static final String PATH = "/config.txt";
+    private static final String CONTENT = "content";
+
+    private static final URLSourceOptions FAST_RETRIES = URLSourceOptions.builder()
+            .maxAttempts(3)
+            .initialBackoff(Duration.ofMillis(10))
+            .maxBackoff(Duration.ofMillis(20))
+            .build();
+
+    private final StringMapper mapper = new StringMapper();
+    private final AtomicInteger requests = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private HttpServer server;
+    private String url;
+
+    /**
+     * The number of requests to fail before succeeding
+     */
+    private volatile int failures;
+    private volatile int failureStatus = 503;
+    private volatile boolean hang;
+    private volatile boolean slowBody;
+
+    @BeforeEach
+    void startServer() throws IOException
+    {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext(PATH, this::handle);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        url = "http://localhost:" + server.getAddress().getPort() + PATH;
+    }
+
+    @AfterEach
+    void stopServer()
+    {
+        release.countDown();
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException
+    {
+        int request = requests.incrementAndGet();
+        if (hang)
+        {
+            try
+            {
+                release.await();
+            }
+            catch (InterruptedException exception)
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (request <= failures)
+        {
+            exchange.sendResponseHeaders(failureStatus, -1);
+            exchange.close();
+            return;
+        }
+        if (slowBody)
+        {
+            writeSlowly(exchange);
+            return;
+        }
+        byte[] body = CONTENT.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream outputStream = exchange.getResponseBody())
+        {
+            outputStream.write(body);
+        }
+    }
+
+    /**
+     * Sends a chunked body, one byte at a time, until released or disconnected.
+     */
+    private void writeSlowly(HttpExchange exchange) throws IOException
+    {
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream outputStream = exchange.getResponseBody())
+        {
+            while (!release.await(50, TimeUnit.MILLISECONDS))
+            {
+                outputStream.write('x');
+                outputStream.flush();
+            }
+        }
+        catch (InterruptedException exception)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    void load_transientFailures_retriedUntilSuccess()
+    {
+        failures = 2;
+        assertThat(new URLSource<String>(url, FAST_RETRIES).load(mapper), equalTo(CONTENT));
+        assertThat(requests.get(), equalTo(3));
+    }
+
+    @Test
+    void load_transientFailuresExceedMaxAttempts_configurationSourceException()
+    {
+        failures = 3;
+        URLSource<String> source = new URLSource<>(url, FAST_RETRIES);
+        assertThat(() -> source.load(mapper), throwsException(ConfigurationSourceException.class)
+                .withMessageContaining("Unable to load resource").withCause(IOException.class));
+        assertThat(requests.get(), equalTo(3));
+    }
+
+    @Test
+    void load_notFound_notRetried()
+    {
+        failures = 1;
+        failureStatus = 404;
+        URLSource<String> source = new URLSource<>(url, FAST_RETRIES);
+        assertThat(() -> source.load(mapper), throwsException(ConfigurationSourceException.class));
+        assertThat(requests.get(), equalTo(1));
+    }
+
+    @Test
+    void load_malformedContent_notRetried()
+    {
+        Mapper<String> failingMapper = new StringMapper()
+        {
+            @Override
+            public String apply(InputStream input) throws IOException
+            {
+                IOUtils.toByteArray(input);
+                throw new IOException("malformed content");
+            }
+        };
+        URLSource<String> source = new URLSource<>(url, FAST_RETRIES);
+        assertThat(() -> source.load(failingMapper), throwsException(ConfigurationSourceException.class)
+                .withMessageContaining("Unable to load resource").withCause(IOException.class));
+        assertThat(requests.get(), equalTo(1));
+    }
+
+    @Test
+    void load_unresponsiveServer_readTimeout()
+    {
+        hang = true;
+        URLSourceOptions options = URLSourceOptions.builder().readTimeout(Duration.ofMillis(200)).maxAttempts(1)
+                .build();
+        URLSource<String> source = new URLSource<>(url, options);
+        long start = System.nanoTime();
+        assertThat(() -> source.load(mapper),
+                throwsException(ConfigurationSourceException.class).withCause(SocketTimeoutException.class));
+        assertThat(Duration.ofNanos(System.nanoTime() - start).toMillis(), lessThan(5_000L));
+    }
+
+    @Test
+    void load_unresponsiveServer_deadlineBoundsAllAttempts()
+    {
+        hang = true;
+        URLSourceOptions options = URLSourceOptions.builder()
+                .readTimeout(Duration.ZERO)
+                .maxAttempts(10)
+                .initialBackoff(Duration.ofMillis(10))
+                .deadline(Duration.ofMillis(500))
+                .build();
+        URLSource<String> source = new URLSource<>(url, options);
+        long start = System.nanoTime();
+        assertThat(() -> source.load(mapper), throwsException(ConfigurationSourceException.class));
+        assertThat(Duration.ofNanos(System.nanoTime() - start).toMillis(), lessThan(5_000L));
+    }
+
+    @Test
+    void load_slowBody_deadlineBoundsBodyRead()
+    {
+        slowBody = true;
+        URLSourceOptions options = URLSourceOptions.builder()
+                .readTimeout(Duration.ofSeconds(10))
+                .maxAttempts(1)
+                .deadline(Duration.ofMillis(500))
+                .build();
+        URLSource<String> source = new URLSource<>(url, options);
+        long start = System.nanoTime();
+        assertThat(() -> source.load(mapper),
+                throwsException(ConfigurationSourceException.class).withCause(SocketTimeoutException.class));
+        assertThat(Duration.ofNanos(System.nanoTime() - start).toMillis(), lessThan(5_000L));
+    }
+
+    @Test
+    void load_unresponsiveServerAndOptional_nullWithinDeadline()
+    {
+        hang = true;
+        URLSourceOptions options = URLSourceOptions.builder().deadline(Duration.ofMillis(300)).build();
+        URLSource<String> source = new URLSource<>(url, options);
+        assertThat(source.load(mapper, true), equalTo(null));
+    }
+
+}
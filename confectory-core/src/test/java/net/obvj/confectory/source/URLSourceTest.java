@@ -20,14 +20,21 @@ import static net.obvj.junit.utils.matchers.AdvancedMatchers.containsAll;
 import static net.obvj.junit.utils.matchers.AdvancedMatchers.throwsException;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -55,12 +62,15 @@ class URLSourceTest
     @Mock
     private URL url;
     @Mock
-    private InputStream inputStream;
+    private URLConnection urlConnection;
     @Mock
     private Mapper<String> mapper;
     @InjectMocks
     private URLSource<String> urlSource = new URLSource<>(VALID_URL);
 
+    @TempDir
+    Path directory;
+
     @Test
     void load_malformedURLAndOptionalFalse_configurationSourceException()
     {
@@ -78,21 +88,38 @@ class URLSourceTest
     @Test
     void load_mockedUrl_mapperAppliesInputStream() throws IOException
     {
-        when(url.openStream()).thenReturn(inputStream);
-        when(mapper.apply(inputStream)).thenReturn(URL1_CONTENT);
+        when(url.openConnection()).thenReturn(urlConnection);
+        when(urlConnection.getInputStream()).thenReturn(new ByteArrayInputStream(URL1_CONTENT.getBytes()));
 
-        assertThat(urlSource.load(url, mapper), equalTo(URL1_CONTENT));
+        assertThat(urlSource.load(url, MAPPER), equalTo(URL1_CONTENT));
     }
 
     @Test
     void load_mockedUrlAndThrowsIOException_configurationSourceException() throws IOException
     {
-        when(url.openStream()).thenThrow(new IOException());
+        when(url.openConnection()).thenThrow(new IOException());
 
         assertThat(() -> urlSource.load(url, mapper),
                 throwsException(ConfigurationSourceException.class).withCause(IOException.class));
     }
 
+    @Test
+    void load_mockedNonHttpUrlAndThrowsIOException_notRetried() throws IOException
+    {
+        when(url.openConnection()).thenThrow(new IOException());
+
+        assertThat(() -> urlSource.load(url, mapper), throwsException(ConfigurationSourceException.class));
+        verify(url, times(1)).openConnection();
+    }
+
+    @Test
+    void load_fileUrl_loadedWithDefaultOptions() throws IOException
+    {
+        Path file = Files.write(directory.resolve("file.txt"), URL1_CONTENT.getBytes(StandardCharsets.UTF_8));
+        URLSource<String> source = new URLSource<>(file.toUri().toString());
+        assertThat(source.load(MAPPER), equalTo(URL1_CONTENT));
+    }
+
     @Test
     void parseURL_validURL_success()
     {
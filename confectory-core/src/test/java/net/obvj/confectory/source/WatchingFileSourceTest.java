@@ -0,0 +1,205 @@
+/*
+ * Copyright 2021 obvj.net
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.obvj.confectory.source;
+
+import static net.obvj.junit.utils.matchers.AdvancedMatchers.throwsException;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import net.obvj.confectory.Configuration;
+import net.obvj.confectory.mapper.PropertiesMapper;
+import net.obvj.confectory.mapper.StringMapper;
+
+/**
+ * Unit tests for the {@link WatchingFileSource} class.
+ *
+ * @author oswaldo.bapvic.jr (Oswaldo Junior)
+ * @since 2.7.0
+ */
+class WatchingFileSourceTest
+{
+    private static final Duration DEBOUNCE = Duration.ofMillis(50);
+    private static final long TIMEOUT_MILLIS = 10_000L;
+
+    @TempDir
+    Path directory;
+
+    private Path write(String fileName, String content) throws IOException
+    {
+        return Files.write(directory.resolve(fileName), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void awaitValue(Configuration<Properties> configuration, String key, String expected)
+            throws InterruptedException
+    {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!expected.equals(configuration.getString(key)) && System.currentTimeMillis() < deadline)
+        {
+            Thread.sleep(20);
+        }
+        assertThat(configuration.getString(key), equalTo(expected));
+    }
+
+    @Test
+    void constructor_negativeDebounce_illegalArgumentException()
+    {
+        Duration debounce = Duration.ofMillis(-1);
+        assertThat(() -> new WatchingFileSource<String>("file.txt", debounce),
+                throwsException(IllegalArgumentException.class)
+                        .withMessage("the debounce delay must not be negative"));
+    }
+
+    @Test
+    void constructor_nullDebounce_nullPointerException()
+    {
+        assertThat(() -> new WatchingFileSource<String>("file.txt", null),
+                throwsException(NullPointerException.class).withMessage("the debounce delay must not be null"));
+    }
+
+    @Test
+    void load_existingFile_success() throws IOException
+    {
+        Path file = write("file.txt", "content1");
+        try (WatchingFileSource<String> source = new WatchingFileSource<>(file.toString()))
+        {
+            assertThat(source.load(new StringMapper()), equalTo("content1"));
+            assertThat(source.isWatching(), equalTo(false));
+        }
+    }
+
+    @Test
+    void addChangeListener_fileModified_listenerNotified() throws Exception
+    {
+        Path file = write("file.txt", "content1");
+        CountDownLatch latch = new CountDownLatch(1);
+        try (WatchingFileSource<String> source = new WatchingFileSource<>(file.toString(), DEBOUNCE))
+        {
+            source.addChangeListener(latch::countDown);
+            assertThat(source.isWatching(), equalTo(true));
+            write("file.txt", "content2");
+            assertThat(latch.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS), equalTo(true));
+        }
+    }
+
+    @Test
+    void addChangeListener_siblingFileModified_listenerNotNotified() throws Exception
+    {
+        Path file = write("file.txt", "content1");
+        CountDownLatch latch = new CountDownLatch(1);
+        try (WatchingFileSource<String> source = new WatchingFileSource<>(file.toString(), DEBOUNCE))
+        {
+            source.addChangeListener(latch::countDown);
+            write("other.txt", "content2");
+            assertThat(latch.await(500, TimeUnit.MILLISECONDS), equalTo(false));
+        }
+    }
+
+    @Test
+    void addChangeListener_fileModifiedWhileSiblingKeepsChanging_listenerNotified() throws Exception
+    {
+        Path file = write("file.txt", "content1");
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        Thread writer = new Thread(() ->
+        {
+            long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+            int count = 0;
+            while (writing.get() && System.currentTimeMillis() < deadline)
+            {
+                try
+                {
+                    write("other.txt", "content" + count++);
+                    Thread.sleep(10);
+                }
+                catch (IOException | InterruptedException exception)
+                {
+                    return;
+                }
+            }
+        });
+        try (WatchingFileSource<String> source = new WatchingFileSource<>(file.toString(), DEBOUNCE))
+        {
+            source.addChangeListener(latch::countDown);
+            writer.start();
+            write("file.txt", "content2");
+            // Changes to other files in the directory must not postpone the notification
+            assertThat(latch.await(TIMEOUT_MILLIS / 2, TimeUnit.MILLISECONDS), equalTo(true));
+        }
+        finally
+        {
+            writing.set(false);
+            writer.join();
+        }
+    }
+
+    @Test
+    void addChangeListener_closedSource_illegalStateException() throws IOException
+    {
+        Path file = write("file.txt", "content1");
+        WatchingFileSource<String> source = new WatchingFileSource<>(file.toString());
+        source.close();
+        assertThat(source.isWatching(), equalTo(false));
+        assertThat(() -> source.addChangeListener(() -> {}),
+                throwsException(IllegalStateException.class).withMessageContaining("closed"));
+    }
+
+    @Test
+    void configuration_fileModified_newDataPublished() throws Exception
+    {
+        Path file = write("my.properties", "key=value1");
+        try (WatchingFileSource<Properties> source = new WatchingFileSource<>(file.toString(), DEBOUNCE))
+        {
+            Configuration<Properties> configuration = Configuration.<Properties>builder()
+                    .source(source).mapper(new PropertiesMapper()).build();
+            assertThat(configuration.getString("key"), equalTo("value1"));
+
+            write("my.properties", "key=value2");
+            awaitValue(configuration, "key", "value2");
+        }
+    }
+
+    @Test
+    void configuration_fileDeleted_previousDataKept() throws Exception
+    {
+        Path file = write("my.properties", "key=value1");
+        CountDownLatch latch = new CountDownLatch(1);
+        try (WatchingFileSource<Properties> source = new WatchingFileSource<>(file.toString(), DEBOUNCE))
+        {
+            Configuration<Properties> configuration = Configuration.<Properties>builder()
+                    .source(source).mapper(new PropertiesMapper()).build();
+            source.addChangeListener(latch::countDown);
+
+            Files.delete(file);
+            assertThat(latch.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS), equalTo(true));
+            assertThat(configuration.getString("key"), equalTo("value1"));
+        }
+    }
+
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2026 obvj.net
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.obvj.confectory.util;
+
+import static net.obvj.junit.utils.matchers.AdvancedMatchers.throwsException;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import net.obvj.confectory.util.BeanBindingPlan.FieldBinding;
+
+/**
+ * Unit tests for the {@link BeanBindingPlan} class.
+ *
+ * @author oswaldo.bapvic.jr (Oswaldo Junior)
+ * @since 2.7.0
+ */
+class BeanBindingPlanTest
+{
+    static class MyParent
+    {
+        private String parentField;
+    }
+
+    static class MyBean extends MyParent
+    {
+        private int number;
+        @Property("custom.key")
+        private String annotated;
+        private final String finalField = "initial";
+        private transient String ignored;
+    }
+
+    public static class CountingConverter implements TypeConverter<String>
+    {
+        static final AtomicInteger INSTANCES = new AtomicInteger();
+
+        public CountingConverter()
+        {
+            INSTANCES.incrementAndGet();
+        }
+
+        @Override
+        public String convert(String value)
+        {
+            return value.toUpperCase();
+        }
+    }
+
+    static class MyConvertedBean
+    {
+        @Property(converter = CountingConverter.class)
+        private String converted;
+        private List<String> unsupported;
+    }
+
+    @Test
+    void of_sameClass_samePlan()
+    {
+        assertThat(BeanBindingPlan.of(MyBean.class), sameInstance(BeanBindingPlan.of(MyBean.class)));
+        assertThat(BeanBindingPlan.of(MyBean.class).getType(), equalTo(MyBean.class));
+    }
+
+    @Test
+    void of_null_nullPointerException()
+    {
+        assertThat(() -> BeanBindingPlan.of(null),
+                throwsException(NullPointerException.class).withMessage("the type must not be null"));
+    }
+
+    @Test
+    void getBindings_nonTransientFieldsIncludingInherited()
+    {
+        List<String> keys = BeanBindingPlan.of(MyBean.class).getBindings().stream()
+                .map(FieldBinding::getKey).collect(Collectors.toList());
+        assertThat(keys, containsInAnyOrder("number", "custom.key", "finalField", "parentField"));
+    }
+
+    @Test
+    void set_validValues_fieldsWritten() throws ReflectiveOperationException, ParseException
+    {
+        MyBean bean = new MyBean();
+        for (FieldBinding binding : BeanBindingPlan.of(MyBean.class).getBindings())
+        {
+            String value = binding.getKey().equals("number") ? "42" : binding.getKey();
+            binding.set(bean, binding.parse(value, ObjectFactory.FAST));
+        }
+        assertThat(bean.number, equalTo(42));
+        assertThat(bean.annotated, equalTo("custom.key"));
+        assertThat(((MyParent) bean).parentField, equalTo("parentField"));
+        assertThat(BeanBindingPlan.of(MyBean.class).getBindings().stream()
+                .filter(binding -> binding.getKey().equals("finalField")).findAny().get()
+                .getField().get(bean), equalTo("finalField"));
+    }
+
+    @Test
+    void parse_customConverter_instantiatedOncePerObjectFactory() throws Exception
+    {
+        FieldBinding binding = BeanBindingPlan.of(MyConvertedBean.class).findBinding("converted");
+        int instances = CountingConverter.INSTANCES.get();
+        assertThat(binding.parse("a", ObjectFactory.CONSTRUCTOR_BASED), equalTo("A"));
+        assertThat(binding.parse("b", ObjectFactory.CONSTRUCTOR_BASED), equalTo("B"));
+        assertThat(binding.parse("c", ObjectFactory.CONSTRUCTOR_BASED), equalTo("C"));
+        assertThat(CountingConverter.INSTANCES.get(), equalTo(instances + 1));
+        assertThat(binding.parse("d", ObjectFactory.FAST), equalTo("D"));
+    }
+
+    @Test
+    void parse_invalidValue_parseException()
+    {
+        FieldBinding binding = BeanBindingPlan.of(MyBean.class).findBinding("number");
+        assertThat(() -> binding.parse("abc", ObjectFactory.FAST),
+                throwsException(ParseException.class).withMessageContaining("Unparsable int"));
+    }
+
+    @Test
+    void parse_unsupportedType_unsupportedOperationException()
+    {
+        FieldBinding binding = BeanBindingPlan.of(MyConvertedBean.class).findBinding("unsupported");
+        assertThat(() -> binding.parse("value", ObjectFactory.FAST),
+                throwsException(UnsupportedOperationException.class));
+    }
+
+    @Test
+    void findBinding_propertyKey_annotatedField()
+    {
+        assertThat(BeanBindingPlan.of(MyBean.class).findBinding("custom.key").getField().getName(),
+                equalTo("annotated"));
+    }
+
+    @Test
+    void findBinding_fieldName_matchingField()
+    {
+        BeanBindingPlan plan = BeanBindingPlan.of(MyBean.class);
+        assertThat(plan.findBinding("annotated").getField().getName(), equalTo("annotated"));
+        assertThat(plan.findBinding("parentField").getField().getDeclaringClass(), equalTo(MyParent.class));
+    }
+
+    @Test
+    void findBinding_transientField_found()
+    {
+        assertThat(BeanBindingPlan.of(MyBean.class).findBinding("ignored").isTransient(), equalTo(true));
+    }
+
+    @Test
+    void findBinding_unknownName_null()
+    {
+        assertThat(BeanBindingPlan.of(MyBean.class).findBinding("unknown"), equalTo(null));
+    }
+
+    @Test
+    void findBinding_sameResultsAsPropertyUtils()
+    {
+        for (String name : new String[] { "number", "custom.key", "annotated", "finalField", "ignored",
+                "parentField", "unknown" })
+        {
+            FieldBinding binding = BeanBindingPlan.of(MyBean.class).findBinding(name);
+            assertThat(binding == null ? null : binding.getField(),
+                    equalTo(PropertyUtils.findFieldByPropertyKeyOrName(MyBean.class, name)));
+        }
+    }
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2021 obvj.net
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.obvj.confectory.util;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link BoundedCache} class.
+ *
+ * @author oswaldo.bapvic.jr (Oswaldo Junior)
+ * @since 2.7.0
+ */
+class BoundedCacheTest
+{
+
+    @Test
+    void putIfAbsent_existingKey_existingValueKept()
+    {
+        BoundedCache<String, String> cache = new BoundedCache<>();
+        assertThat(cache.putIfAbsent("key", "value1", 10), equalTo("value1"));
+        assertThat(cache.putIfAbsent("key", "value2", 10), equalTo("value1"));
+        assertThat(cache.get("key"), equalTo("value1"));
+        assertThat(cache.size(), equalTo(1));
+    }
+
+    @Test
+    void putIfAbsent_limitExceeded_unreferencedEntryEvicted()
+    {
+        BoundedCache<String, String> cache = new BoundedCache<>();
+        cache.putIfAbsent("key1", "value1", 2);
+        cache.putIfAbsent("key2", "value2", 2);
+        cache.get("key1"); // second chance for key1
+        cache.putIfAbsent("key3", "value3", 2);
+
+        assertThat(cache.size(), equalTo(2));
+        assertThat(cache.get("key1"), equalTo("value1"));
+        assertThat(cache.get("key2"), equalTo(null));
+        assertThat(cache.get("key3"), equalTo("value3"));
+    }
+
+    @Test
+    void putIfAbsent_allEntriesReferenced_sizeWithinLimit()
+    {
+        BoundedCache<Integer, Integer> cache = new BoundedCache<>();
+        for (int i = 0; i < 1000; i++)
+        {
+            cache.putIfAbsent(i, i, 10);
+            cache.get(i);
+        }
+        assertThat(cache.size(), equalTo(10));
+    }
+
+    @Test
+    void putIfAbsent_limitReduced_excessEvicted()
+    {
+        BoundedCache<Integer, Integer> cache = new BoundedCache<>();
+        for (int i = 0; i < 10; i++)
+        {
+            cache.putIfAbsent(i, i, 10);
+        }
+        cache.putIfAbsent(10, 10, 3);
+        assertThat(cache.size(), equalTo(3));
+    }
+
+    @Test
+    void remove_sameValue_removed()
+    {
+        BoundedCache<String, String> cache = new BoundedCache<>();
+        String value = new String("value");
+        cache.putIfAbsent("key", value, 10);
+        cache.remove("key", new String("value"));
+        assertThat(cache.size(), equalTo(1));
+        cache.remove("key", value);
+        assertThat(cache.size(), equalTo(0));
+
+        // The stale node left in the queue must be skipped by the eviction sweep
+        cache.putIfAbsent("key1", "value1", 1);
+        cache.putIfAbsent("key2", "value2", 1);
+        assertThat(cache.size(), equalTo(1));
+        assertThat(cache.get("key2"), equalTo("value2"));
+    }
+
+    @Test
+    void remove_manyEntriesWithinLimit_queueSizeBounded()
+    {
+        BoundedCache<String, String> cache = new BoundedCache<>();
+        cache.putIfAbsent("live1", "value", 100);
+        cache.putIfAbsent("live2", "value", 100);
+        for (int i = 0; i < 10_000; i++)
+        {
+            String value = "value" + i;
+            cache.putIfAbsent("key" + i, value, 100);
+            cache.remove("key" + i, value);
+            assertThat(cache.queueSize() <= 2 * cache.size() + 1, equalTo(true));
+        }
+        assertThat(cache.size(), equalTo(2));
+        assertThat(cache.get("live1"), equalTo("value"));
+        assertThat(cache.get("live2"), equalTo("value"));
+    }
+
+    @Test
+    void clear_populatedCache_empty()
+    {
+        BoundedCache<String, String> cache = new BoundedCache<>();
+        cache.putIfAbsent("key", "value", 10);
+        cache.clear();
+        assertThat(cache.size(), equalTo(0));
+        assertThat(cache.queueSize(), equalTo(0));
+        assertThat(cache.get("key"), equalTo(null));
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2021 obvj.net
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.obvj.confectory.util;
+
+import static net.obvj.junit.utils.matchers.AdvancedMatchers.throwsException;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link ByteBufferInputStream} class.
+ *
+ * @author oswaldo.bapvic.jr (Oswaldo Junior)
+ * @since 2.7.0
+ */
+class ByteBufferInputStreamTest
+{
+    private static final byte[] CONTENT = "abcdef".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void constructor_null_nullPointerException()
+    {
+        assertThat(() -> new ByteBufferInputStream(null),
+                throwsException(NullPointerException.class).withMessage("the buffer must not be null"));
+    }
+
+    @Test
+    void read_directBuffer_allBytes() throws IOException
+    {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(CONTENT.length).put(CONTENT).flip();
+        assertThat(IOUtils.toByteArray(new ByteBufferInputStream(buffer)), equalTo(CONTENT));
+        assertThat(buffer.hasRemaining(), equalTo(false));
+    }
+
+    @Test
+    void read_singleBytes_unsignedValuesAndEndOfStream()
+    {
+        ByteBufferInputStream stream = new ByteBufferInputStream(ByteBuffer.wrap(new byte[] { (byte) 0xFF, 1 }));
+        assertThat(stream.available(), equalTo(2));
+        assertThat(stream.read(), equalTo(255));
+        assertThat(stream.read(), equalTo(1));
+        assertThat(stream.read(), equalTo(-1));
+    }
+
+    @Test
+    void read_arrayAfterEndOfStream_minusOne()
+    {
+        ByteBufferInputStream stream = new ByteBufferInputStream(ByteBuffer.wrap(CONTENT));
+        byte[] bytes = new byte[10];
+        assertThat(stream.read(bytes, 2, 8), equalTo(6));
+        assertThat(stream.read(bytes, 0, 0), equalTo(0));
+        assertThat(stream.read(bytes, 0, 10), equalTo(-1));
+    }
+
+    @Test
+    void read_invalidRange_indexOutOfBoundsException()
+    {
+        ByteBufferInputStream stream = new ByteBufferInputStream(ByteBuffer.wrap(CONTENT));
+        assertThat(() -> stream.read(new byte[2], 1, 2), throwsException(IndexOutOfBoundsException.class));
+    }
+
+    @Test
+    void skip_moreThanAvailable_remainingSkipped()
+    {
+        ByteBufferInputStream stream = new ByteBufferInputStream(ByteBuffer.wrap(CONTENT));
+        assertThat(stream.skip(-1), equalTo(0L));
+        assertThat(stream.skip(2), equalTo(2L));
+        assertThat(stream.read(), equalTo((int) 'c'));
+        assertThat(stream.skip(10), equalTo(3L));
+        assertThat(stream.available(), equalTo(0));
+    }
+
+    @Test
+    void reset_afterMark_markedPosition() throws IOException
+    {
+        ByteBufferInputStream stream = new ByteBufferInputStream(ByteBuffer.wrap(CONTENT));
+        assertThat(stream.markSupported(), equalTo(true));
+        stream.read();
+        stream.mark(0);
+        stream.skip(3);
+        stream.reset();
+        assertThat(stream.read(), equalTo((int) 'b'));
+    }
+
+    @Test
+    void reset_withoutMark_ioException()
+    {
+        ByteBufferInputStream stream = new ByteBufferInputStream(ByteBuffer.wrap(CONTENT));
+        assertThat(() -> stream.reset(),
+                throwsException(IOException.class).withMessage("The stream has not been marked"));
+    }
+
+}
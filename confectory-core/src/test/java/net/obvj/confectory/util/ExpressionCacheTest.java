@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 obvj.net
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.obvj.confectory.util;
+
+import static net.obvj.junit.utils.matchers.AdvancedMatchers.throwsException;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.jayway.jsonpath.InvalidPathException;
+import com.jayway.jsonpath.JsonPath;
+
+/**
+ * Unit tests for the {@link ExpressionCache} class.
+ *
+ * @author oswaldo.bapvic.jr (Oswaldo Junior)
+ * @since 2.7.0
+ */
+class ExpressionCacheTest
+{
+    private static final String PATH1 = "$.path1";
+    private static final String PATH2 = "$.path2";
+    private static final String PATH3 = "$.path3";
+
+    @Test
+    void get_sameExpressionTwice_compiledOnceAndCountersUpdated()
+    {
+        ExpressionCache<JsonPath> cache = new ExpressionCache<>(JsonPath::compile, () -> 10);
+        JsonPath first = cache.get(PATH1);
+        assertThat(cache.get(PATH1), sameInstance(first));
+        assertThat(cache.getMissCount(), equalTo(1L));
+        assertThat(cache.getHitCount(), equalTo(1L));
+        assertThat(cache.size(), equalTo(1));
+    }
+
+    @Test
+    void get_maxSizeExceeded_leastRecentlyUsedEvicted()
+    {
+        ExpressionCache<JsonPath> cache = new ExpressionCache<>(JsonPath::compile, () -> 2);
+        JsonPath path1 = cache.get(PATH1);
+        JsonPath path2 = cache.get(PATH2);
+        cache.get(PATH1); // PATH2 becomes the least recently used
+        cache.get(PATH3);
+
+        assertThat(cache.size(), equalTo(2));
+        assertThat(cache.get(PATH1), sameInstance(path1));
+        assertThat(cache.get(PATH2), not(sameInstance(path2)));
+    }
+
+    @Test
+    void get_moreDistinctExpressionsThanMaxSize_sizeWithinLimit()
+    {
+        ExpressionCache<String> cache = new ExpressionCache<>(expression -> expression, () -> 16);
+        for (int i = 0; i < 1000; i++)
+        {
+            cache.get("$.path" + i);
+            cache.get("$.path" + i);
+        }
+        assertThat(cache.size(), equalTo(16));
+        assertThat(cache.getHitCount(), equalTo(1000L));
+        assertThat(cache.getMissCount(), equalTo(1000L));
+    }
+
+    @Test
+    void get_maxSizeZero_notCached()
+    {
+        AtomicInteger compilations = new AtomicInteger();
+        ExpressionCache<String> cache = new ExpressionCache<>(expression ->
+        {
+            compilations.incrementAndGet();
+            return expression;
+        }, () -> 0);
+        cache.get(PATH1);
+        cache.get(PATH1);
+
+        assertThat(cache.size(), equalTo(0));
+        assertThat(compilations.get(), equalTo(2));
+        assertThat(cache.getMissCount(), equalTo(2L));
+    }
+
+    @Test
+    void get_invalidExpression_exceptionAndNotCached()
+    {
+        ExpressionCache<JsonPath> cache = new ExpressionCache<>(JsonPath::compile, () -> 10);
+        assertThat(() -> cache.get("$.["), throwsException(InvalidPathException.class));
+        assertThat(cache.size(), equalTo(0));
+    }
+
+    @Test
+    void get_null_compilerException()
+    {
+        ExpressionCache<JsonPath> cache = new ExpressionCache<>(JsonPath::compile, () -> 10);
+        assertThat(() -> cache.get(null), throwsException(IllegalArgumentException.class));
+    }
+
+    @Test
+    void clear_populatedCache_emptyAndCountersReset()
+    {
+        ExpressionCache<JsonPath> cache = new ExpressionCache<>(JsonPath::compile, () -> 10);
+        cache.get(PATH1);
+        cache.get(PATH1);
+        cache.clear();
+
+        assertThat(cache.size(), equalTo(0));
+        assertThat(cache.getHitCount(), equalTo(0L));
+        assertThat(cache.getMissCount(), equalTo(0L));
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 obvj.net
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.obvj.confectory.util;
+
+import static net.obvj.junit.utils.matchers.AdvancedMatchers.instantiationNotAllowed;
+import static net.obvj.junit.utils.matchers.AdvancedMatchers.throwsException;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link LoaderExecutors} class.
+ *
+ * @author oswaldo.bapvic.jr (Oswaldo Junior)
+ * @since 2.7.0
+ */
+class LoaderExecutorsTest
+{
+    private static boolean isJava21OrHigher()
+    {
+        return Runtime.version().feature() >= 21;
+    }
+
+    @Test
+    void constructor_instantiationNotAllowed()
+    {
+        assertThat(LoaderExecutors.class, instantiationNotAllowed().throwing(IllegalStateException.class));
+    }
+
+    @Test
+    void isVirtualThreadSupported_matchesRuntimeVersion()
+    {
+        assertThat(LoaderExecutors.isVirtualThreadSupported(), equalTo(isJava21OrHigher()));
+    }
+
+    @Test
+    void newDefaultExecutor_runsTasks() throws Exception
+    {
+        ExecutorService executor = LoaderExecutors.newDefaultExecutor();
+        try
+        {
+            Future<Boolean> daemon = executor.submit(() -> Thread.currentThread().isDaemon());
+            assertThat(daemon.get(), equalTo(true));
+            assertThat(executor instanceof ThreadPoolExecutor, equalTo(!isJava21OrHigher()));
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void newBoundedExecutor_valid_daemonThreadsWithLoaderName() throws Exception
+    {
+        ExecutorService executor = LoaderExecutors.newBoundedExecutor(2);
+        try
+        {
+            ThreadPoolExecutor pool = (ThreadPoolExecutor) executor;
+            assertThat(pool.getMaximumPoolSize(), equalTo(2));
+            assertThat(pool.allowsCoreThreadTimeOut(), equalTo(true));
+            assertThat(executor.submit(() -> Thread.currentThread().getName()).get(),
+                    startsWith("confectory-loader-"));
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void newBoundedExecutor_zero_illegalArgumentException()
+    {
+        assertThat(() -> LoaderExecutors.newBoundedExecutor(0),
+                throwsException(IllegalArgumentException.class)
+                        .withMessage("the maximum number of threads must be positive"));
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2021 obvj.net
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package net.obvj.confectory.util;
+
+import static net.obvj.junit.utils.matchers.AdvancedMatchers.throwsException;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link ObjectPool} class.
+ *
+ * @author oswaldo.bapvic.jr (Oswaldo Junior)
+ * @since 2.7.0
+ */
+class ObjectPoolTest
+{
+
+    @Test
+    void constructor_zeroCapacity_illegalArgumentException()
+    {
+        assertThat(() -> new ObjectPool<>(0, Object::new), throwsException(IllegalArgumentException.class)
+                .withMessage("the pool capacity must be positive"));
+    }
+
+    @Test
+    void constructor_nullFactory_nullPointerException()
+    {
+        assertThat(() -> new ObjectPool<>(null),
+                throwsException(NullPointerException.class).withMessage("the factory must not be null"));
+    }
+
+    @Test
+    void borrow_emptyPool_newObject()
+    {
+        ObjectPool<Object> pool = new ObjectPool<>(Object::new);
+        assertThat(pool.borrow(), not(sameInstance(pool.borrow())));
+        assertThat(pool.size(), equalTo(0));
+    }
+
+    @Test
+    void borrow_releasedObject_reused()
+    {
+        ObjectPool<Object> pool = new ObjectPool<>(Object::new);
+        Object object = pool.borrow();
+        pool.release(object);
+        assertThat(pool.size(), equalTo(1));
+        assertThat(pool.borrow(), sameInstance(object));
+    }
+
+    @Test
+    void borrow_releasedInAnotherThread_reused() throws Exception
+    {
+        ObjectPool<Object> pool = new ObjectPool<>(Object::new);
+        Object object = CompletableFuture.supplyAsync(() -> pool.apply(o -> o)).get();
+        assertThat(pool.borrow(), sameInstance(object));
+    }
+
+    @Test
+    void release_fullPool_objectDiscarded()
+    {
+        ObjectPool<Object> pool = new ObjectPool<>(2, Object::new);
+        pool.release(new Object());
+        pool.release(new Object());
+        pool.release(new Object());
+        assertThat(pool.size(), equalTo(2));
+    }
+
+    @Test
+    void apply_success_objectReleased()
+    {
+        AtomicInteger created = new AtomicInteger();
+        ObjectPool<Integer> pool = new ObjectPool<>(created::incrementAndGet);
+        assertThat(pool.apply(i -> i * 10), equalTo(10));
+        assertThat(pool.apply(i -> i * 10), equalTo(10));
+        assertThat(created.get(), equalTo(1));
+    }
+
+    @Test
+    void apply_functionThrowsException_exceptionPropagatedAndObjectReleased()
+    {
+        ObjectPool<Object> pool = new ObjectPool<>(Object::new);
+        assertThat(() -> pool.apply(o ->
+        {
+            throw new IOException("failure");
+        }), throwsException(IOException.class).withMessage("failure"));
+        assertThat(pool.size(), equalTo(1));
+    }
+
+}
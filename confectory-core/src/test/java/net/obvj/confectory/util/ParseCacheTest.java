@@ -0,0 +1,348 @@
+/*
+ * Copyright 2021 obvj.net
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.obvj.confectory.util;
+
+import static net.obvj.junit.utils.matchers.AdvancedMatchers.throwsException;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import net.minidev.json.JSONObject;
+import net.obvj.confectory.Confectory;
+import net.obvj.confectory.Configuration;
+import net.obvj.confectory.mapper.AbstractBeanMapper;
+import net.obvj.confectory.mapper.JSONObjectMapper;
+import net.obvj.confectory.mapper.PropertiesMapper;
+import net.obvj.confectory.mapper.PropertiesToObjectMapper;
+import net.obvj.confectory.source.FileSource;
+import net.obvj.confectory.source.Source;
+import net.obvj.confectory.source.StringSource;
+
+/**
+ * Unit tests for the {@link ParseCache} class.
+ *
+ * @author oswaldo.bapvic.jr (Oswaldo Junior)
+ * @since 2.7.0
+ */
+class ParseCacheTest
+{
+    private static final Source<String> SOURCE1 = new StringSource<>("source1");
+    private static final Source<String> SOURCE2 = new StringSource<>("source2");
+
+    @TempDir
+    Path directory;
+
+    /**
+     * A mapper that produces a new string (copy of the content) on each call, counting the
+     * calls.
+     */
+    static class CountingMapper extends AbstractBeanMapper<String>
+    {
+        private final AtomicInteger calls = new AtomicInteger();
+        private final Object cacheKey;
+
+        CountingMapper(Object cacheKey)
+        {
+            this.cacheKey = cacheKey;
+        }
+
+        @Override
+        public String apply(InputStream input) throws IOException
+        {
+            calls.incrementAndGet();
+            String content = IOUtils.toString(input, StandardCharsets.UTF_8);
+            return content.isEmpty() ? null : new String(content);
+        }
+
+        @Override
+        public Object getParseCacheKey()
+        {
+            return cacheKey;
+        }
+    }
+
+    private static ByteBuffer content(String string)
+    {
+        return ByteBuffer.wrap(string.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @AfterEach
+    void reset()
+    {
+        Confectory.settings().reset();
+        ParseCache.global().clear();
+    }
+
+    @Test
+    void apply_sameKeyTwice_mappedOnceAndCountersUpdated() throws IOException
+    {
+        ParseCache cache = new ParseCache(() -> 10);
+        CountingMapper mapper = new CountingMapper("key");
+        String first = cache.apply(SOURCE1, content("content"), mapper);
+        assertThat(cache.apply(SOURCE1, content("content"), mapper), sameInstance(first));
+        assertThat(mapper.calls.get(), equalTo(1));
+        assertThat(cache.getMissCount(), equalTo(1L));
+        assertThat(cache.getHitCount(), equalTo(1L));
+        assertThat(cache.size(), equalTo(1));
+    }
+
+    @Test
+    void apply_differentMapperInstancesWithEqualKeys_sameObject() throws IOException
+    {
+        ParseCache cache = new ParseCache(() -> 10);
+        String first = cache.apply(SOURCE1, content("content"), new CountingMapper("key"));
+        assertThat(cache.apply(SOURCE1, content("content"), new CountingMapper("key")), sameInstance(first));
+    }
+
+    @Test
+    void apply_differentContentSourceOrMapperKey_mappedAgain() throws IOException
+    {
+        ParseCache cache = new ParseCache(() -> 10);
+        CountingMapper mapper = new CountingMapper("key");
+        String first = cache.apply(SOURCE1, content("content"), mapper);
+        assertThat(cache.apply(SOURCE1, content("changed"), mapper), equalTo("changed"));
+        assertThat(cache.apply(SOURCE2, content("content"), mapper), not(sameInstance(first)));
+        assertThat(cache.apply(SOURCE1, content("content"), new CountingMapper("other")),
+                not(sameInstance(first)));
+        assertThat(cache.getMissCount(), equalTo(4L));
+        assertThat(cache.size(), equalTo(4));
+    }
+
+    @Test
+    void apply_byteArrayMiss_mappedThroughInputStream() throws IOException
+    {
+        ParseCache cache = new ParseCache(() -> 10);
+        CountingMapper mapper = new CountingMapper("key")
+        {
+            @Override
+            public String applyBuffer(ByteBuffer buffer)
+            {
+                return "buffer";
+            }
+        };
+        assertThat(cache.apply(SOURCE1, "content".getBytes(StandardCharsets.UTF_8), mapper), equalTo("content"));
+        assertThat(cache.apply(SOURCE1, content("content"), mapper), equalTo("content")); // same key: hit
+        assertThat(cache.apply(SOURCE2, content("content"), mapper), equalTo("buffer"));
+    }
+
+    @Test
+    void apply_byteArrayAndCachingDisabled_mappedThroughInputStream() throws IOException
+    {
+        ParseCache cache = new ParseCache(() -> 0);
+        CountingMapper mapper = new CountingMapper("key")
+        {
+            @Override
+            public String applyBuffer(ByteBuffer buffer)
+            {
+                return "buffer";
+            }
+        };
+        assertThat(cache.apply(SOURCE1, "content".getBytes(StandardCharsets.UTF_8), mapper), equalTo("content"));
+    }
+
+    @Test
+    void apply_contentBuffer_positionNotModified() throws IOException
+    {
+        ParseCache cache = new ParseCache(() -> 10);
+        ByteBuffer buffer = content("content");
+        cache.apply(SOURCE1, buffer, new CountingMapper("key"));
+        assertThat(buffer.position(), equalTo(0));
+    }
+
+    @Test
+    void apply_maxSizeZero_notCached() throws IOException
+    {
+        ParseCache cache = new ParseCache(() -> 0);
+        CountingMapper mapper = new CountingMapper("key");
+        assertThat(cache.isEnabled(mapper), equalTo(false));
+        String first = cache.apply(SOURCE1, content("content"), mapper);
+        assertThat(cache.apply(SOURCE1, content("content"), mapper), not(sameInstance(first)));
+        assertThat(mapper.calls.get(), equalTo(2));
+        assertThat(cache.size(), equalTo(0));
+        assertThat(cache.getMissCount(), equalTo(0L));
+    }
+
+    @Test
+    void apply_nullMapperKey_notCached() throws IOException
+    {
+        ParseCache cache = new ParseCache(() -> 10);
+        CountingMapper mapper = new CountingMapper(null);
+        assertThat(cache.isEnabled(mapper), equalTo(false));
+        cache.apply(SOURCE1, content("content"), mapper);
+        cache.apply(SOURCE1, content("content"), mapper);
+        assertThat(mapper.calls.get(), equalTo(2));
+        assertThat(cache.size(), equalTo(0));
+    }
+
+    @Test
+    void isEnabled_customMapperWithoutCacheKey_false()
+    {
+        ParseCache cache = new ParseCache(() -> 10);
+        AbstractBeanMapper<String> mapper = new AbstractBeanMapper<String>()
+        {
+            @Override
+            public String apply(InputStream input) throws IOException
+            {
+                return IOUtils.toString(input, StandardCharsets.UTF_8);
+            }
+        };
+        assertThat(mapper.getParseCacheKey(), equalTo(null));
+        assertThat(cache.isEnabled(mapper), equalTo(false));
+        assertThat(cache.isEnabled(new PropertiesMapper()), equalTo(true));
+    }
+
+    @Test
+    void apply_nullObject_notCached() throws IOException
+    {
+        ParseCache cache = new ParseCache(() -> 10);
+        CountingMapper mapper = new CountingMapper("key");
+        assertThat(cache.apply(SOURCE1, content(""), mapper), equalTo(null));
+        assertThat(cache.apply(SOURCE1, content(""), mapper), equalTo(null));
+        assertThat(mapper.calls.get(), equalTo(2));
+        assertThat(cache.size(), equalTo(0));
+    }
+
+    @Test
+    void apply_maxSizeExceeded_leastRecentlyUsedEvicted() throws IOException
+    {
+        ParseCache cache = new ParseCache(() -> 2);
+        CountingMapper mapper = new CountingMapper("key");
+        String content1 = cache.apply(SOURCE1, content("content1"), mapper);
+        cache.apply(SOURCE1, content("content2"), mapper);
+        cache.apply(SOURCE1, content("content1"), mapper); // content1 is now the most recent
+        cache.apply(SOURCE1, content("content3"), mapper);
+
+        assertThat(cache.size(), equalTo(2));
+        assertThat(cache.apply(SOURCE1, content("content1"), mapper), sameInstance(content1));
+        assertThat(mapper.calls.get(), equalTo(3));
+    }
+
+    @Test
+    void apply_nullSource_nullPointerException()
+    {
+        ParseCache cache = new ParseCache(() -> 10);
+        assertThat(() -> cache.apply(null, content("content"), new CountingMapper("key")),
+                throwsException(NullPointerException.class).withMessage("the source must not be null"));
+    }
+
+    @Test
+    void clear_entriesAndCountersReset() throws IOException
+    {
+        ParseCache cache = new ParseCache(() -> 10);
+        cache.apply(SOURCE1, content("content"), new CountingMapper("key"));
+        cache.clear();
+        assertThat(cache.size(), equalTo(0));
+        assertThat(cache.getMissCount(), equalTo(0L));
+    }
+
+    @Test
+    void constructor_nullSupplier_nullPointerException()
+    {
+        assertThat(() -> new ParseCache(null),
+                throwsException(NullPointerException.class).withMessage("the maxSize supplier must not be null"));
+    }
+
+    @Test
+    void global_enabledInSettings_configurationsShareTheMappedObject() throws IOException
+    {
+        Confectory.settings().setParseCacheSize(16);
+        Path file = Files.write(directory.resolve("test.properties"), "key=value1".getBytes());
+
+        Configuration<Properties> configuration1 = Configuration.<Properties>builder()
+                .source(new FileSource<>(file.toString())).mapper(new PropertiesMapper())
+                .namespace("ns1").build();
+        Configuration<Properties> configuration2 = Configuration.<Properties>builder()
+                .source(new FileSource<>(file.toString())).mapper(new PropertiesMapper())
+                .namespace("ns2").build();
+
+        assertThat(configuration2.getBean(), sameInstance(configuration1.getBean()));
+        assertThat(ParseCache.global().getHitCount(), equalTo(1L));
+    }
+
+    @Test
+    void global_contentChanged_mappedAgain() throws IOException
+    {
+        Confectory.settings().setParseCacheSize(16);
+        Path file = Files.write(directory.resolve("test.properties"), "key=value1".getBytes());
+        FileSource<Properties> source = new FileSource<>(file.toString());
+        Properties first = source.load(new PropertiesMapper());
+
+        Files.write(file, "key=value2".getBytes());
+        Properties second = source.load(new PropertiesMapper());
+        assertThat(second.getProperty("key"), equalTo("value2"));
+        assertThat(first.getProperty("key"), equalTo("value1"));
+    }
+
+    @Test
+    void global_enabledInSettings_sameResultAsWithoutCache() throws IOException
+    {
+        Path file = Files.write(directory.resolve("test.json"),
+                "{\"a\":\"caf\u00e9\\tx\"}".getBytes(StandardCharsets.UTF_8));
+        JSONObject expected = new FileSource<JSONObject>(file.toString()).load(new JSONObjectMapper());
+
+        Confectory.settings().setParseCacheSize(16);
+        JSONObject cached = new FileSource<JSONObject>(file.toString()).load(new JSONObjectMapper());
+        assertThat(cached, equalTo(expected));
+        assertThat(cached.get("a"), equalTo("caf\u00e9\tx"));
+        assertThat(ParseCache.global().size(), equalTo(1));
+    }
+
+    @Test
+    void global_beanMappersWithDifferentTargetTypes_notShared() throws IOException
+    {
+        Confectory.settings().setParseCacheSize(16);
+        Bean1 bean1 = new StringSource<Bean1>("key=value").load(new PropertiesToObjectMapper<>(Bean1.class));
+        Bean2 bean2 = new StringSource<Bean2>("key=value").load(new PropertiesToObjectMapper<>(Bean2.class));
+        assertThat(bean1.key, equalTo("value"));
+        assertThat(bean2.key, equalTo("value"));
+        assertThat(ParseCache.global().size(), equalTo(2));
+    }
+
+    @Test
+    void global_disabledByDefault_notShared()
+    {
+        StringSource<Properties> source = new StringSource<>("key=value");
+        assertThat(source.load(new PropertiesMapper()), not(sameInstance(source.load(new PropertiesMapper()))));
+        assertThat(ParseCache.global().size(), equalTo(0));
+    }
+
+    static class Bean1
+    {
+        String key;
+    }
+
+    static class Bean2
+    {
+        String key;
+    }
+
+}
@@ -17,9 +17,20 @@
 package net.obvj.confectory.util;
 
 import static net.obvj.junit.utils.matchers.AdvancedMatchers.instantiationNotAllowed;
+import static net.obvj.junit.utils.matchers.AdvancedMatchers.throwsException;
+import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
 import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+import org.xml.sax.SAXParseException;
 
 /**
  * Unit tests for the {@link XMLUtils}.
@@ -35,4 +46,67 @@ class XMLUtilsTest
         assertThat(XMLUtils.class,
                 instantiationNotAllowed().throwing(IllegalStateException.class));
     }
+
+    private static ByteArrayInputStream toInputStream(String content)
+    {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void parse_calledSuccessively_independentDocuments() throws Exception
+    {
+        Document document1 = XMLUtils.parse(toInputStream("<a>1</a>"));
+        Document document2 = XMLUtils.parse(toInputStream("<b>2</b>"));
+        assertThat(document1.getDocumentElement().getTextContent(), equalTo("1"));
+        assertThat(document2.getDocumentElement().getTextContent(), equalTo("2"));
+    }
+
+    @Test
+    void parse_concurrentThreads_allDocumentsParsed() throws Exception
+    {
+        List<CompletableFuture<String>> futures = IntStream.range(0, 32)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() ->
+                {
+                    try
+                    {
+                        return XMLUtils.parse(toInputStream("<a>" + i + "</a>")).getDocumentElement()
+                                .getTextContent();
+                    }
+                    catch (Exception exception)
+                    {
+                        throw new IllegalStateException(exception);
+                    }
+                }))
+                .collect(Collectors.toList());
+        for (int i = 0; i < futures.size(); i++)
+        {
+            assertThat(futures.get(i).get(), equalTo(String.valueOf(i)));
+        }
+    }
+
+    @Test
+    void parse_doctypeDeclaration_saxParseException()
+    {
+        String xml = "<?xml version=\"1.0\"?><!DOCTYPE a [<!ENTITY x \"y\">]><a>&x;</a>";
+        assertThat(() -> XMLUtils.parse(toInputStream(xml)),
+                throwsException(SAXParseException.class).withMessageContaining("DOCTYPE"));
+    }
+
+    @Test
+    void parse_afterParseError_builderReusable() throws Exception
+    {
+        assertThat(() -> XMLUtils.parse(toInputStream("<a>")), throwsException(SAXParseException.class));
+        assertThat(XMLUtils.parse(toInputStream("<a>1</a>")).getDocumentElement().getTextContent(),
+                equalTo("1"));
+    }
+
+    @Test
+    void toString_calledTwice_sameResult() throws Exception
+    {
+        Document document = XMLUtils.parse(toInputStream("<a><b>1</b></a>"));
+        String first = XMLUtils.toString(document);
+        assertThat(XMLUtils.toString(document), equalTo(first));
+        assertThat(first.startsWith("<a>"), equalTo(true));
+    }
+
 }
@@ -44,6 +44,21 @@ public class GsonJsonObjectHelper extends GenericJsonConfigurationHelper<JsonObj
         super(jsonObject, new GsonJsonProvider(), new GsonMappingProvider());
     }
 
+    /**
+     * Wraps the element back into a {@code JsonElement}, since the {@link GsonJsonProvider}
+     * unwraps primitive values on access but the {@link GsonMappingProvider} expects
+     * {@code JsonElement}s.
+     *
+     * @since 2.7.0
+     */
+    @Override
+    protected Object toMappableElement(Object element)
+    {
+        Object array = jsonProvider.createArray();
+        jsonProvider.setArrayIndex(array, 0, element);
+        return jsonProvider.getArrayIndex(array, 0);
+    }
+
     @Override
     public ConfigurationMerger<JsonObject> configurationMerger()
     {
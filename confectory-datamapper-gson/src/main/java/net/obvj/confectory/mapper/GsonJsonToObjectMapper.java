@@ -16,12 +16,16 @@
 
 package net.obvj.confectory.mapper;
 
+import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
 
 import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
 
 import net.obvj.confectory.internal.helper.BeanConfigurationHelper;
 import net.obvj.confectory.internal.helper.ConfigurationHelper;
@@ -31,6 +35,10 @@ import net.obvj.confectory.internal.helper.ConfigurationHelper;
  * (e.g.: file, URL, string) into POJO (Plain Old Java Object), using Gson.
  * <p>
  * Additional details may be found at Gsons's official documentation.
+ * <p>
+ * The source is decoded as UTF-8, through a buffered reader. By default, all mappers share
+ * a single {@link Gson} instance, so that Gson's type adapters are created only once. A
+ * custom {@link Gson} or {@link GsonBuilder} may be specified in the constructor.
  *
  * @param <T> the target type to be produced by this {@code Mapper} (the target class may
  *            contain Gson annotations for due mapping -- e.g.: {@code @SerializedName})
@@ -40,7 +48,10 @@ import net.obvj.confectory.internal.helper.ConfigurationHelper;
  */
 public class GsonJsonToObjectMapper<T> implements Mapper<T>
 {
+    private static final Gson DEFAULT_GSON = new Gson();
+
     protected Class<T> targetType;
+    private final Gson gson;
 
     /**
      * Builds a new JSON mapper with the specified target type.
@@ -48,15 +59,63 @@ public class GsonJsonToObjectMapper<T> implements Mapper<T>
      * @param targetType the target type to be produced by this {@code Mapper}
      */
     public GsonJsonToObjectMapper(Class<T> targetType)
+    {
+        this(targetType, DEFAULT_GSON);
+    }
+
+    /**
+     * Builds a new JSON mapper with the specified target type and a custom {@link Gson}
+     * instance.
+     *
+     * @param targetType the target type to be produced by this {@code Mapper}
+     * @param gson       the {@link Gson} instance to be used; not null
+     * @since 2.7.0
+     */
+    public GsonJsonToObjectMapper(Class<T> targetType, Gson gson)
     {
         this.targetType = targetType;
+        this.gson = Objects.requireNonNull(gson, "the Gson instance must not be null");
+    }
+
+    /**
+     * Builds a new JSON mapper with the specified target type and a {@link Gson} instance
+     * created by the specified {@link GsonBuilder}.
+     *
+     * @param targetType  the target type to be produced by this {@code Mapper}
+     * @param gsonBuilder the {@link GsonBuilder} to create the {@link Gson} instance; not
+     *                    null
+     * @since 2.7.0
+     */
+    public GsonJsonToObjectMapper(Class<T> targetType, GsonBuilder gsonBuilder)
+    {
+        this(targetType, Objects.requireNonNull(gsonBuilder, "the GsonBuilder must not be null").create());
     }
 
     @Override
     public T apply(InputStream inputStream) throws IOException
     {
-        Reader reader = new InputStreamReader(inputStream);
-        return new Gson().fromJson(reader, targetType);
+        return gson.fromJson(new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8)),
+                targetType);
+    }
+
+    /**
+     * @return the {@link Gson} instance used by this mapper
+     * @since 2.7.0
+     */
+    public Gson getGson()
+    {
+        return gson;
+    }
+
+    /**
+     * @return a key composed of the mapper class, the target type and the {@link Gson}
+     *         instance
+     * @since 2.7.0
+     */
+    @Override
+    public Object getParseCacheKey()
+    {
+        return Arrays.asList(getClass(), targetType, gson);
     }
 
     @Override
@@ -28,6 +28,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.google.gson.JsonObject;
 
+import net.obvj.confectory.Confectory;
 import net.obvj.confectory.ConfigurationBuilder;
 import net.obvj.confectory.ConfigurationException;
 import net.obvj.confectory.mapper.GsonJsonObjectMapper;
@@ -164,4 +165,22 @@ class GsonJsonObjectHelperTest
     {
         assertThat(HELPER.configurationMerger().getClass(), equalTo(GsonJsonObjectConfigurationMerger.class));
     }
+    @Test
+    void getValue_flatIndexEnabled_sameResults()
+    {
+        Confectory.settings().setJsonFlatIndexEnabled(true);
+        try
+        {
+            GsonJsonObjectHelper helper = new GsonJsonObjectHelper(TEST_JSON_SAMPLE1);
+            assertThat(helper.getInteger("$.intValue"), equalTo(9));
+            assertThat(helper.getDouble("$.store.books[1].price"), equalTo(22.99));
+            assertThat(helper.getString("store.attributes.color"), equalTo("yellow"));
+            assertThat(helper.getString("$.store.unknown"), equalTo(null));
+        }
+        finally
+        {
+            Confectory.settings().reset();
+        }
+    }
+
 }
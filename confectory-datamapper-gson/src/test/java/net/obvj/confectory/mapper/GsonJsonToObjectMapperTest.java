@@ -16,16 +16,24 @@
 
 package net.obvj.confectory.mapper;
 
+import static net.obvj.junit.utils.matchers.AdvancedMatchers.throwsException;
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonSyntaxException;
+
 import net.obvj.confectory.internal.helper.BeanConfigurationHelper;
 import net.obvj.confectory.mapper.model.MyBean;
 
@@ -69,4 +77,52 @@ class GsonJsonToObjectMapperTest
     {
         assertThat(mapper.configurationHelper(new MyBean()).getClass(), equalTo(BeanConfigurationHelper.class));
     }
+
+    @Test
+    void getGson_defaultConstructor_sharedInstance()
+    {
+        assertThat(new GsonJsonToObjectMapper<>(MyBean.class).getGson(),
+                sameInstance(new GsonJsonToObjectMapper<>(String.class).getGson()));
+    }
+
+    @Test
+    void apply_customGson_customGsonUsed() throws IOException
+    {
+        Gson gson = new GsonBuilder().setFieldNamingPolicy(FieldNamingPolicy.UPPER_CAMEL_CASE).create();
+        GsonJsonToObjectMapper<MyBean> mapper = new GsonJsonToObjectMapper<>(MyBean.class, gson);
+        assertThat(mapper.getGson(), sameInstance(gson));
+        MyBean result = mapper.apply(toInputStream("{\"IntValue\": 7}"));
+        assertThat(result.intValue, equalTo(7));
+    }
+
+    @Test
+    void apply_customGsonBuilder_validObject() throws IOException
+    {
+        GsonBuilder builder = new GsonBuilder().setFieldNamingPolicy(FieldNamingPolicy.UPPER_CAMEL_CASE);
+        MyBean result = new GsonJsonToObjectMapper<>(MyBean.class, builder)
+                .apply(toInputStream("{\"BooleanValue\": true}"));
+        assertThat(result.booleanValue, equalTo(true));
+    }
+
+    @Test
+    void apply_utf8Content_decodedAsUtf8() throws IOException
+    {
+        Mapper<String> stringMapper = new GsonJsonToObjectMapper<>(String.class);
+        String result = stringMapper.apply(new ByteArrayInputStream("\"ação\"".getBytes(StandardCharsets.UTF_8)));
+        assertThat(result, equalTo("ação"));
+    }
+
+    @Test
+    void apply_trailingContent_jsonSyntaxException()
+    {
+        assertThat(() -> mapper.apply(toInputStream(TEST_JSON_SAMPLE1 + " {}")),
+                throwsException(JsonSyntaxException.class));
+    }
+
+    @Test
+    void constructor_nullGson_nullPointerException()
+    {
+        assertThat(() -> new GsonJsonToObjectMapper<>(MyBean.class, (Gson) null),
+                throwsException(NullPointerException.class).withMessage("the Gson instance must not be null"));
+    }
 }
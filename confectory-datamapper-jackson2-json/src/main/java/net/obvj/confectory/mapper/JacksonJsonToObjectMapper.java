@@ -18,11 +18,17 @@ package net.obvj.confectory.mapper;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 
 import net.obvj.confectory.internal.helper.BeanConfigurationHelper;
 import net.obvj.confectory.internal.helper.ConfigurationHelper;
@@ -43,6 +49,12 @@ import net.obvj.confectory.internal.helper.ConfigurationHelper;
  * <b>Note:</b> To avoid a performance overhead, Jackson modules lookup happens
  * automatically at the first instantiation of a {@code JacksonJsonToObjectMapper} with
  * enable support for modules.
+ * <p>
+ * Since version 2.7.0, all mappers of the same class (and with the same setting for
+ * modules) share a single, thread-safe {@link ObjectMapper}, so that Jackson's
+ * deserializer caches stay warm across loads. Alternatively, a preconfigured
+ * {@link ObjectMapper} may be specified in the constructor:
+ * <blockquote>{@code new JacksonJsonToObjectMapper(Class<?>, ObjectMapper)}</blockquote>
  *
  * @param <T> the target type to be produced by this {@code Mapper} (the target class may
  *            contain Jackson annotations for due mapping -- e.g.:
@@ -53,10 +65,14 @@ import net.obvj.confectory.internal.helper.ConfigurationHelper;
  */
 public class JacksonJsonToObjectMapper<T> implements Mapper<T>
 {
-    private static List<com.fasterxml.jackson.databind.Module> cachedModules;
+    private static volatile List<com.fasterxml.jackson.databind.Module> cachedModules;
+
+    private static final Map<Class<?>, ObjectMapper> SHARED_MAPPERS_WITH_MODULES = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, ObjectMapper> SHARED_MAPPERS_WITHOUT_MODULES = new ConcurrentHashMap<>();
 
     protected Class<T> targetType;
     private boolean disableModules;
+    private final ObjectMapper objectMapper;
 
     /**
      * Builds a new {@code JacksonJsonToObjectMapper} instance with the specified target type
@@ -81,12 +97,89 @@ public class JacksonJsonToObjectMapper<T> implements Mapper<T>
     {
         this.targetType = targetType;
         this.disableModules = disableModules;
+        this.objectMapper = null;
+    }
+
+    /**
+     * Builds a new {@code JacksonJsonToObjectMapper} instance with the specified target type
+     * and a preconfigured {@link ObjectMapper}.
+     * <p>
+     * The specified {@link ObjectMapper} is used as is, i.e., no Jackson modules are
+     * registered by this class, and it should not be reconfigured after the first use.
+     *
+     * @param targetType   the target type to be produced by this {@code Mapper}
+     * @param objectMapper the {@link ObjectMapper} to be used; not null
+     * @since 2.7.0
+     */
+    public JacksonJsonToObjectMapper(Class<T> targetType, ObjectMapper objectMapper)
+    {
+        this.targetType = targetType;
+        this.disableModules = true;
+        this.objectMapper = Objects.requireNonNull(objectMapper, "the ObjectMapper must not be null");
     }
 
     @Override
     public T apply(InputStream inputStream) throws IOException
     {
-        return apply(inputStream, new JsonMapper());
+        return getObjectMapper().readValue(inputStream, targetType);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If the buffer is backed by an accessible array, the content is parsed directly from
+     * that array; otherwise (e.g.: a memory-mapped file), it is read through an unbuffered
+     * stream over the buffer, with no intermediate copies.
+     *
+     * @since 2.7.0
+     */
+    @Override
+    public T applyBuffer(ByteBuffer buffer) throws IOException
+    {
+        if (buffer.hasArray())
+        {
+            return getObjectMapper().readValue(buffer.array(), buffer.arrayOffset() + buffer.position(),
+                    buffer.remaining(), targetType);
+        }
+        return getObjectMapper().readValue(new ByteBufferBackedInputStream(buffer.duplicate()), targetType);
+    }
+
+    /**
+     * Returns the {@link ObjectMapper} used by this instance, which is either the one
+     * specified in the constructor, or a mapper shared by all instances of the same class
+     * (and with the same setting for Jackson modules).
+     * <p>
+     * <strong>Note:</strong> Shared mappers must not be reconfigured.
+     *
+     * @return the {@link ObjectMapper} used by this instance
+     * @since 2.7.0
+     */
+    public ObjectMapper getObjectMapper()
+    {
+        if (objectMapper != null)
+        {
+            return objectMapper;
+        }
+        if (disableModules)
+        {
+            return SHARED_MAPPERS_WITHOUT_MODULES.computeIfAbsent(getClass(), type -> newObjectMapper());
+        }
+        // Modules are resolved beforehand, since a reload clears the map being computed
+        List<com.fasterxml.jackson.databind.Module> modules = reloadModulesIfNull();
+        return SHARED_MAPPERS_WITH_MODULES.computeIfAbsent(getClass(),
+                type -> newObjectMapper().registerModules(modules));
+    }
+
+    /**
+     * Creates a new {@link ObjectMapper} for the data format supported by this class. This
+     * is called once per class (and setting for Jackson modules) to create a shared mapper.
+     *
+     * @return a new {@link ObjectMapper}
+     * @since 2.7.0
+     */
+    protected ObjectMapper newObjectMapper()
+    {
+        return new JsonMapper();
     }
 
     /**
@@ -105,7 +198,12 @@ public class JacksonJsonToObjectMapper<T> implements Mapper<T>
      * @throws IOException if a low-level I/O problem (such and unexpected end-of-input, or
      *                     network error) occurs
      * @since 2.4.0
+     * @deprecated since 2.7.0, as modules are registered on every call; use
+     *             {@link #apply(InputStream)}, which reuses a preconfigured, shared
+     *             {@link ObjectMapper}, or specify a custom {@link ObjectMapper} in the
+     *             constructor
      */
+    @Deprecated
     protected T apply(InputStream inputStream, ObjectMapper mapper) throws IOException
     {
         if (!disableModules)
@@ -117,11 +215,23 @@ public class JacksonJsonToObjectMapper<T> implements Mapper<T>
 
     private static List<com.fasterxml.jackson.databind.Module> reloadModulesIfNull()
     {
-        if (cachedModules == null)
-        {
-            reloadModulesCache();
-        }
-        return cachedModules;
+        List<com.fasterxml.jackson.databind.Module> modules = cachedModules;
+        return modules != null ? modules : findModules();
+    }
+
+    /**
+     * Looks up the available Jackson modules, caches them, and discards the shared mappers
+     * configured with the previous modules.
+     *
+     * @return the modules found
+     */
+    private static List<com.fasterxml.jackson.databind.Module> findModules()
+    {
+        List<com.fasterxml.jackson.databind.Module> modules = Collections
+                .unmodifiableList(ObjectMapper.findModules());
+        cachedModules = modules;
+        SHARED_MAPPERS_WITH_MODULES.clear();
+        return modules;
     }
 
     /**
@@ -137,7 +247,7 @@ public class JacksonJsonToObjectMapper<T> implements Mapper<T>
      */
     public static void reloadModulesCache()
     {
-        cachedModules = Collections.unmodifiableList(ObjectMapper.findModules());
+        findModules();
     }
 
     /**
@@ -149,6 +259,7 @@ public class JacksonJsonToObjectMapper<T> implements Mapper<T>
     public static void resetModulesCache()
     {
         cachedModules = null;
+        SHARED_MAPPERS_WITH_MODULES.clear();
     }
 
     /**
@@ -160,6 +271,17 @@ public class JacksonJsonToObjectMapper<T> implements Mapper<T>
         return cachedModules;
     }
 
+    /**
+     * @return a key composed of the mapper class, the target type, the setting for Jackson
+     *         modules and the preconfigured {@link ObjectMapper}, if any
+     * @since 2.7.0
+     */
+    @Override
+    public Object getParseCacheKey()
+    {
+        return Arrays.asList(getClass(), targetType, disableModules, objectMapper);
+    }
+
     @Override
     public ConfigurationHelper<T> configurationHelper(T object)
     {
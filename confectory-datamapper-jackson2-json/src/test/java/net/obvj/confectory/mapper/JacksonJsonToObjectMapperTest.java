@@ -18,15 +18,24 @@ package net.obvj.confectory.mapper;
 
 import static java.util.Collections.singletonList;
 import static net.obvj.junit.utils.matchers.AdvancedMatchers.containsAll;
+import static net.obvj.junit.utils.matchers.AdvancedMatchers.throwsException;
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.List;
 
@@ -38,6 +47,7 @@ import com.fasterxml.jackson.core.Version;
 import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.exc.InvalidDefinitionException;
+import com.fasterxml.jackson.databind.json.JsonMapper;
 
 import net.obvj.confectory.internal.helper.BeanConfigurationHelper;
 import net.obvj.confectory.mapper.model.MyBean;
@@ -92,6 +102,41 @@ class JacksonJsonToObjectMapperTest
         assertThat(array.containsAll(Arrays.asList("string1", "string2")), equalTo(true));
     }
 
+    @Test
+    void apply_heapByteBufferSlice_validObjectAndBufferUnchanged() throws IOException
+    {
+        byte[] bytes = ("xx" + TEST_JSON_SAMPLE1 + "yy").getBytes();
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 2, TEST_JSON_SAMPLE1.length()).slice();
+        MyBean result = mapper.applyBuffer(buffer);
+        assertThat(result.intValue, equalTo(9));
+        assertThat(result.array, equalTo(Arrays.asList("string1", "string2")));
+        assertThat(buffer.position(), equalTo(0));
+    }
+
+    @Test
+    void apply_directByteBuffer_validObjectAndBufferUnchanged() throws IOException
+    {
+        byte[] bytes = TEST_JSON_SAMPLE1.getBytes();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+        MyBean result = mapper.applyBuffer(buffer);
+        assertThat(result.intValue, equalTo(9));
+        assertThat(result.booleanValue, equalTo(true));
+        assertThat(buffer.remaining(), equalTo(bytes.length));
+    }
+
+    @Test
+    void getParseCacheKey_sameSettings_equalKeys()
+    {
+        assertThat(new JacksonJsonToObjectMapper<>(MyBean.class).getParseCacheKey(),
+                equalTo(mapper.getParseCacheKey()));
+        assertThat(new JacksonJsonToObjectMapper<>(MyBeanWithMoney.class).getParseCacheKey(),
+                not(equalTo(mapper.getParseCacheKey())));
+        assertThat(new JacksonJsonToObjectMapper<>(MyBean.class, true).getParseCacheKey(),
+                not(equalTo(mapper.getParseCacheKey())));
+        assertThat(new JacksonJsonToObjectMapper<>(MyBean.class, new JsonMapper()).getParseCacheKey(),
+                not(equalTo(mapper.getParseCacheKey())));
+    }
+
     @Test
     void apply_jsonSample2WithModuleSupport_validObject() throws IOException
     {
@@ -146,4 +191,57 @@ class JacksonJsonToObjectMapperTest
     {
         assertThat(mapper.configurationHelper(new MyBean()).getClass(), equalTo(BeanConfigurationHelper.class));
     }
+
+    @Test
+    void getObjectMapper_sameSettings_sharedInstance()
+    {
+        assertThat(new JacksonJsonToObjectMapper<>(MyBean.class).getObjectMapper(),
+                sameInstance(new JacksonJsonToObjectMapper<>(MyBeanWithMoney.class).getObjectMapper()));
+        assertThat(new JacksonJsonToObjectMapper<>(MyBean.class, true).getObjectMapper(),
+                sameInstance(new JacksonJsonToObjectMapper<>(MyBeanWithMoney.class, true).getObjectMapper()));
+    }
+
+    @Test
+    void getObjectMapper_differentModuleSettings_differentInstances()
+    {
+        assertThat(new JacksonJsonToObjectMapper<>(MyBean.class).getObjectMapper(),
+                not(sameInstance(new JacksonJsonToObjectMapper<>(MyBean.class, true).getObjectMapper())));
+    }
+
+    @Test
+    void getObjectMapper_afterResetModulesCache_newInstance()
+    {
+        ObjectMapper objectMapper = new JacksonJsonToObjectMapper<>(MyBean.class).getObjectMapper();
+        JacksonJsonToObjectMapper.resetModulesCache();
+        assertThat(new JacksonJsonToObjectMapper<>(MyBean.class).getObjectMapper(),
+                not(sameInstance(objectMapper)));
+    }
+
+    @Test
+    void getObjectMapper_afterResetModulesCache_newInstanceSharedWithModules()
+    {
+        JacksonJsonToObjectMapper.resetModulesCache();
+        ObjectMapper objectMapper = new JacksonJsonToObjectMapper<>(MyBean.class).getObjectMapper();
+        assertThat(JacksonJsonToObjectMapper.getCachedModules() != null, equalTo(true));
+        assertThat(new JacksonJsonToObjectMapper<>(MyBeanWithMoney.class).getObjectMapper(),
+                sameInstance(objectMapper));
+    }
+
+    @Test
+    void apply_customObjectMapper_customObjectMapperUsed() throws IOException
+    {
+        ObjectMapper objectMapper = spy(new JsonMapper());
+        JacksonJsonToObjectMapper<MyBean> mapper = new JacksonJsonToObjectMapper<>(MyBean.class, objectMapper);
+        assertThat(mapper.getObjectMapper(), sameInstance(objectMapper));
+        assertThat(mapper.apply(toInputStream(TEST_JSON_SAMPLE1)).intValue, equalTo(9));
+        verify(objectMapper).readValue(any(InputStream.class), eq(MyBean.class));
+    }
+
+    @Test
+    void constructor_nullObjectMapper_nullPointerException()
+    {
+        assertThat(() -> new JacksonJsonToObjectMapper<>(MyBean.class, (ObjectMapper) null),
+                throwsException(NullPointerException.class).withMessage("the ObjectMapper must not be null"));
+    }
+
 }
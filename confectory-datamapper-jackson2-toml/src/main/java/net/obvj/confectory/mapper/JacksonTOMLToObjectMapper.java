@@ -16,9 +16,7 @@
 
 package net.obvj.confectory.mapper;
 
-import java.io.IOException;
-import java.io.InputStream;
-
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.toml.TomlMapper;
 
 /**
@@ -72,10 +70,26 @@ public class JacksonTOMLToObjectMapper<T> extends JacksonJsonToObjectMapper<T> i
         super(targetType, disableModules);
     }
 
+    /**
+     * Builds a new TOML mapper with the specified target type and a preconfigured
+     * {@link TomlMapper}.
+     * <p>
+     * The specified {@link TomlMapper} is used as is, i.e., no Jackson modules are registered
+     * by this class, and it should not be reconfigured after the first use.
+     *
+     * @param targetType   the target type to be produced by this {@code Mapper}
+     * @param objectMapper the {@link TomlMapper} to be used; not null
+     * @since 2.7.0
+     */
+    public JacksonTOMLToObjectMapper(Class<T> targetType, TomlMapper objectMapper)
+    {
+        super(targetType, objectMapper);
+    }
+
     @Override
-    public T apply(InputStream inputStream) throws IOException
+    protected ObjectMapper newObjectMapper()
     {
-        return super.apply(inputStream, new TomlMapper());
+        return new TomlMapper();
     }
 
 }
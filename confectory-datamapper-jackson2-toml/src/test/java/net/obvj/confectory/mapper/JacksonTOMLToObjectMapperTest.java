@@ -18,6 +18,7 @@ package net.obvj.confectory.mapper;
 
 import static net.obvj.junit.utils.matchers.AdvancedMatchers.containsAll;
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 import java.io.ByteArrayInputStream;
@@ -29,7 +30,9 @@ import java.util.List;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.exc.InvalidDefinitionException;
+import com.fasterxml.jackson.dataformat.toml.TomlMapper;
 
 import net.obvj.confectory.internal.helper.BeanConfigurationHelper;
 import net.obvj.confectory.mapper.model.Bean;
@@ -114,4 +117,22 @@ class JacksonTOMLToObjectMapperTest
     {
         assertThat(mapper.configurationHelper(new Bean()).getClass(), equalTo(BeanConfigurationHelper.class));
     }
+
+    @Test
+    void getObjectMapper_default_sharedTomlMapper()
+    {
+        ObjectMapper objectMapper = new JacksonTOMLToObjectMapper<>(Bean.class).getObjectMapper();
+        assertThat(objectMapper.getClass(), equalTo(TomlMapper.class));
+        assertThat(new JacksonTOMLToObjectMapper<>(MyBeanWithDate.class).getObjectMapper(),
+                sameInstance(objectMapper));
+    }
+
+    @Test
+    void getObjectMapper_customTomlMapper_customTomlMapperUsed()
+    {
+        TomlMapper objectMapper = new TomlMapper();
+        assertThat(new JacksonTOMLToObjectMapper<>(Bean.class, objectMapper).getObjectMapper(),
+                sameInstance(objectMapper));
+    }
+
 }
@@ -16,9 +16,7 @@
 
 package net.obvj.confectory.mapper;
 
-import java.io.IOException;
-import java.io.InputStream;
-
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.xml.XmlMapper;
 
 /**
@@ -72,10 +70,26 @@ public class JacksonXMLToObjectMapper<T> extends JacksonJsonToObjectMapper<T> im
         super(targetType, disableModules);
     }
 
+    /**
+     * Builds a new XML mapper with the specified target type and a preconfigured
+     * {@link XmlMapper}.
+     * <p>
+     * The specified {@link XmlMapper} is used as is, i.e., no Jackson modules are registered
+     * by this class, and it should not be reconfigured after the first use.
+     *
+     * @param targetType   the target type to be produced by this {@code Mapper}
+     * @param objectMapper the {@link XmlMapper} to be used; not null
+     * @since 2.7.0
+     */
+    public JacksonXMLToObjectMapper(Class<T> targetType, XmlMapper objectMapper)
+    {
+        super(targetType, objectMapper);
+    }
+
     @Override
-    public T apply(InputStream inputStream) throws IOException
+    protected ObjectMapper newObjectMapper()
     {
-        return super.apply(inputStream, new XmlMapper());
+        return new XmlMapper();
     }
 
 }
@@ -18,6 +18,7 @@ package net.obvj.confectory.mapper;
 
 import static net.obvj.junit.utils.matchers.AdvancedMatchers.containsAll;
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 import java.io.ByteArrayInputStream;
@@ -28,7 +29,9 @@ import java.util.List;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.exc.InvalidDefinitionException;
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
 
 import net.obvj.confectory.internal.helper.BeanConfigurationHelper;
 import net.obvj.confectory.mapper.model.MyBean;
@@ -115,4 +118,22 @@ class JacksonXMLToObjectMapperTest
     {
         assertThat(mapper.configurationHelper(new MyBean()).getClass(), equalTo(BeanConfigurationHelper.class));
     }
+
+    @Test
+    void getObjectMapper_default_sharedXmlMapper()
+    {
+        ObjectMapper objectMapper = new JacksonXMLToObjectMapper<>(MyBean.class).getObjectMapper();
+        assertThat(objectMapper.getClass(), equalTo(XmlMapper.class));
+        assertThat(new JacksonXMLToObjectMapper<>(MyBeanWithMoney.class).getObjectMapper(),
+                sameInstance(objectMapper));
+    }
+
+    @Test
+    void getObjectMapper_customXmlMapper_customXmlMapperUsed()
+    {
+        XmlMapper objectMapper = new XmlMapper();
+        assertThat(new JacksonXMLToObjectMapper<>(MyBean.class, objectMapper).getObjectMapper(),
+                sameInstance(objectMapper));
+    }
+
 }
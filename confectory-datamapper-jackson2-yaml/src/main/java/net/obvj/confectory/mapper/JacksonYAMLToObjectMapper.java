@@ -16,9 +16,7 @@
 
 package net.obvj.confectory.mapper;
 
-import java.io.IOException;
-import java.io.InputStream;
-
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
 
 /**
@@ -72,10 +70,26 @@ public class JacksonYAMLToObjectMapper<T> extends JacksonJsonToObjectMapper<T> i
         super(targetType, disableModules);
     }
 
+    /**
+     * Builds a new YAML mapper with the specified target type and a preconfigured
+     * {@link YAMLMapper}.
+     * <p>
+     * The specified {@link YAMLMapper} is used as is, i.e., no Jackson modules are registered
+     * by this class, and it should not be reconfigured after the first use.
+     *
+     * @param targetType   the target type to be produced by this {@code Mapper}
+     * @param objectMapper the {@link YAMLMapper} to be used; not null
+     * @since 2.7.0
+     */
+    public JacksonYAMLToObjectMapper(Class<T> targetType, YAMLMapper objectMapper)
+    {
+        super(targetType, objectMapper);
+    }
+
     @Override
-    public T apply(InputStream inputStream) throws IOException
+    protected ObjectMapper newObjectMapper()
     {
-        return super.apply(inputStream, new YAMLMapper());
+        return new YAMLMapper();
     }
 
 }
@@ -18,6 +18,7 @@ package net.obvj.confectory.mapper;
 
 import static net.obvj.junit.utils.matchers.AdvancedMatchers.containsAll;
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 import java.io.ByteArrayInputStream;
@@ -28,7 +29,9 @@ import java.util.List;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.exc.InvalidDefinitionException;
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
 
 import net.obvj.confectory.internal.helper.BeanConfigurationHelper;
 import net.obvj.confectory.mapper.model.MyBean;
@@ -112,4 +115,22 @@ class JacksonYAMLToObjectMapperTest
     {
         assertThat(mapper.configurationHelper(new MyBean()).getClass(), equalTo(BeanConfigurationHelper.class));
     }
+
+    @Test
+    void getObjectMapper_default_sharedYAMLMapper()
+    {
+        ObjectMapper objectMapper = new JacksonYAMLToObjectMapper<>(MyBean.class).getObjectMapper();
+        assertThat(objectMapper.getClass(), equalTo(YAMLMapper.class));
+        assertThat(new JacksonYAMLToObjectMapper<>(MyBeanWithMoney.class).getObjectMapper(),
+                sameInstance(objectMapper));
+    }
+
+    @Test
+    void getObjectMapper_customYAMLMapper_customYAMLMapperUsed()
+    {
+        YAMLMapper objectMapper = new YAMLMapper();
+        assertThat(new JacksonYAMLToObjectMapper<>(MyBean.class, objectMapper).getObjectMapper(),
+                sameInstance(objectMapper));
+    }
+
 }
@@ -44,6 +44,16 @@ public class JsonOrgJSONObjectMapper implements Mapper<JSONObject>
         return new JSONObject(tokener);
     }
 
+    /**
+     * @return the class of this mapper, which has no configurable state
+     * @since 2.7.0
+     */
+    @Override
+    public Object getParseCacheKey()
+    {
+        return getClass();
+    }
+
     @Override
     public ConfigurationHelper<JSONObject> configurationHelper(JSONObject jsonObject)
     {
@@ -16,9 +16,12 @@
 
 package net.obvj.confectory;
 
+import net.obvj.confectory.util.ExpressionCache;
 import net.sf.saxon.s9api.Processor;
+import net.sf.saxon.s9api.SaxonApiException;
 import net.sf.saxon.s9api.UnprefixedElementMatchingPolicy;
 import net.sf.saxon.s9api.XPathCompiler;
+import net.sf.saxon.s9api.XPathExecutable;
 
 /**
  * Holds a global {@link Processor} and common methods for use in operations involving the
@@ -30,6 +33,9 @@ import net.sf.saxon.s9api.XPathCompiler;
 public class SaxonProvider
 {
     private static final Processor PROCESSOR = new Processor(false);
+    private static final XPathCompiler XPATH_COMPILER = newXPathCompiler();
+    private static final ExpressionCache<XPathExecutable> XPATH_CACHE = new ExpressionCache<>(
+            SaxonProvider::compileUnchecked, () -> Confectory.settings().getExpressionCacheSize());
 
     private SaxonProvider()
     {
@@ -60,4 +66,80 @@ public class SaxonProvider
         return compiler;
     }
 
+    /**
+     * Returns the compiled form of the specified XPath expression, using a shared,
+     * custom {@link XPathCompiler} (see {@link #newXPathCompiler()}).
+     * <p>
+     * Compiled expressions are cached and reused. An {@link XPathExecutable} is immutable
+     * and can be shared by multiple threads, but each evaluation must use its own
+     * {@code XPathSelector}, obtained with {@link XPathExecutable#load()}.
+     *
+     * @param expression the XPath expression to be compiled
+     * @return an {@link XPathExecutable} for the specified expression
+     * @throws SaxonApiException if the expression cannot be compiled
+     * @since 2.7.0
+     */
+    public static XPathExecutable compileXPath(String expression) throws SaxonApiException
+    {
+        try
+        {
+            return XPATH_CACHE.get(expression);
+        }
+        catch (UncheckedSaxonApiException exception)
+        {
+            throw exception.getCause();
+        }
+    }
+
+    /**
+     * Returns the cache of compiled XPath expressions shared by all Saxon-HE helpers,
+     * mainly for monitoring purposes (e.g., hit and miss counts).
+     * <p>
+     * The maximum cache size is defined by
+     * {@link net.obvj.confectory.settings.ConfectorySettings#setExpressionCacheSize(int)}.
+     *
+     * @return the shared {@link ExpressionCache} of compiled XPath expressions
+     * @since 2.7.0
+     */
+    public static ExpressionCache<XPathExecutable> xpathCache()
+    {
+        return XPATH_CACHE;
+    }
+
+    private static XPathExecutable compileUnchecked(String expression)
+    {
+        // The XPathCompiler is not meant for concurrent use
+        synchronized (XPATH_COMPILER)
+        {
+            try
+            {
+                return XPATH_COMPILER.compile(expression);
+            }
+            catch (SaxonApiException exception)
+            {
+                throw new UncheckedSaxonApiException(exception);
+            }
+        }
+    }
+
+    /**
+     * Wraps a {@link SaxonApiException} thrown during the compilation of a cached
+     * expression.
+     */
+    private static class UncheckedSaxonApiException extends RuntimeException
+    {
+        private static final long serialVersionUID = 1L;
+
+        UncheckedSaxonApiException(SaxonApiException cause)
+        {
+            super(cause);
+        }
+
+        @Override
+        public synchronized SaxonApiException getCause()
+        {
+            return (SaxonApiException) super.getCause();
+        }
+    }
+
 }
@@ -34,7 +34,6 @@ public class SaxonXdmNodeConfigurationHelper extends AbstractConfigurationHelper
 {
 
     private final XdmNode document;
-    private final XPathCompiler compiler = SaxonProvider.newXPathCompiler();
 
     /**
      * Creates a new helper for the given {@link XdmNode}.
@@ -122,7 +121,7 @@ public class SaxonXdmNodeConfigurationHelper extends AbstractConfigurationHelper
     {
         try
         {
-            XPathSelector selector = compiler.compile(xpath).load();
+            XPathSelector selector = SaxonProvider.compileXPath(xpath).load();
             selector.setContextItem(document);
             return selector.evaluate();
         }
@@ -55,6 +55,16 @@ public class SaxonXdmNodeMapper implements Mapper<XdmNode>
         }
     }
 
+    /**
+     * @return the class of this mapper, which has no configurable state
+     * @since 2.7.0
+     */
+    @Override
+    public Object getParseCacheKey()
+    {
+        return getClass();
+    }
+
     @Override
     public ConfigurationHelper<XdmNode> configurationHelper(XdmNode node)
     {
@@ -16,10 +16,13 @@
 
 package net.obvj.confectory;
 
+import static org.hamcrest.CoreMatchers.sameInstance;
+
 import org.hamcrest.MatcherAssert;
 import org.junit.jupiter.api.Test;
 
 import net.obvj.junit.utils.matchers.AdvancedMatchers;
+import net.sf.saxon.s9api.SaxonApiException;
 
 /**
  * Unit tests for the {@link SaxonProvider} class.
@@ -35,4 +38,19 @@ class SaxonProviderTest
         MatcherAssert.assertThat(SaxonProvider.class, AdvancedMatchers.instantiationNotAllowed());
     }
 
+    @Test
+    void compileXPath_sameExpression_sameExecutable() throws SaxonApiException
+    {
+        String expression = "/root/element[@id='compileXPath']";
+        MatcherAssert.assertThat(SaxonProvider.compileXPath(expression),
+                sameInstance(SaxonProvider.compileXPath(expression)));
+    }
+
+    @Test
+    void compileXPath_invalidExpression_saxonApiException()
+    {
+        MatcherAssert.assertThat(() -> SaxonProvider.compileXPath("?"),
+                AdvancedMatchers.throwsException(SaxonApiException.class));
+    }
+
 }
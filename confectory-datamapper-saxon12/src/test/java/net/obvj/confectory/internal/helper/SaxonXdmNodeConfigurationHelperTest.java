@@ -28,6 +28,7 @@ import org.hamcrest.Matcher;
 import org.junit.jupiter.api.Test;
 
 import net.obvj.confectory.ConfigurationException;
+import net.obvj.confectory.SaxonProvider;
 import net.obvj.confectory.mapper.SaxonXdmNodeMapper;
 import net.obvj.confectory.source.StringSource;
 import net.obvj.confectory.util.ParseException;
@@ -364,5 +365,14 @@ class SaxonXdmNodeConfigurationHelperTest
         assertThat(elementsAsStringLines, equalTo(expectedElementsAsStringLines));
     }
 
+    @Test
+    void get_samePathTwice_compiledExpressionReused()
+    {
+        String path = "/bookstore/book[@category='cooking']/year";
+        long misses = SaxonProvider.xpathCache().getMissCount();
+        HELPER.get(path);
+        HELPER.get(path);
+        assertThat(SaxonProvider.xpathCache().getMissCount(), equalTo(misses + 1));
+    }
 
 }
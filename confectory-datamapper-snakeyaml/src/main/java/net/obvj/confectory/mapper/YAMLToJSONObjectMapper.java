@@ -16,6 +16,8 @@
 
 package net.obvj.confectory.mapper;
 
+import org.yaml.snakeyaml.LoaderOptions;
+
 import net.minidev.json.JSONObject;
 import net.obvj.confectory.internal.helper.ConfigurationHelper;
 import net.obvj.confectory.internal.helper.JsonSmartConfigurationHelper;
@@ -38,6 +40,17 @@ public class YAMLToJSONObjectMapper extends YAMLToObjectMapper<JSONObject> imple
         super(JSONObject.class);
     }
 
+    /**
+     * Builds a new YAML mapper with custom {@link LoaderOptions}.
+     *
+     * @param loaderOptions the {@link LoaderOptions} to be applied; not null
+     * @since 2.7.0
+     */
+    public YAMLToJSONObjectMapper(LoaderOptions loaderOptions)
+    {
+        super(JSONObject.class, loaderOptions);
+    }
+
     @Override
     public ConfigurationHelper<JSONObject> configurationHelper(JSONObject jsonObject)
     {
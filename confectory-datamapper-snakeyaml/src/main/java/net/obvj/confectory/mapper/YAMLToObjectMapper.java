@@ -18,17 +18,26 @@ package net.obvj.confectory.mapper;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Objects;
 
+import org.yaml.snakeyaml.LoaderOptions;
 import org.yaml.snakeyaml.Yaml;
 
 import net.obvj.confectory.internal.helper.BeanConfigurationHelper;
 import net.obvj.confectory.internal.helper.ConfigurationHelper;
+import net.obvj.confectory.util.ObjectPool;
 
 /**
  * A specialized {@code Mapper} that loads the contents of a valid YAML {@code Source}
  * (e.g.: file, URL, string) into POJO (Plain Old Java Object), using SnakeYAML.
  * <p>
  * This allows fetching the contents using <b>JSONPath</b> expressions.
+ * <p>
+ * Since {@link Yaml} objects are not thread-safe, instances are kept in a small
+ * {@link ObjectPool}, and each load borrows one for exclusive use. Mappers created without
+ * custom {@link LoaderOptions} share the same pool. Custom {@link LoaderOptions} (e.g.,
+ * code point limit, aliases limit, merge keys) may be specified in the constructor.
  *
  * @param <T> the target type to be produced by this {@code Mapper}
  *
@@ -37,7 +46,11 @@ import net.obvj.confectory.internal.helper.ConfigurationHelper;
  */
 public class YAMLToObjectMapper<T> implements Mapper<T>
 {
+    private static final ObjectPool<Yaml> DEFAULT_YAML = new ObjectPool<>(Yaml::new);
+
     private final Class<T> targetType;
+    private final LoaderOptions loaderOptions;
+    private final ObjectPool<Yaml> yaml;
 
     /**
      * Builds a new YAML mapper with the specified target type.
@@ -47,13 +60,53 @@ public class YAMLToObjectMapper<T> implements Mapper<T>
     public YAMLToObjectMapper(Class<T> targetType)
     {
         this.targetType = targetType;
+        this.loaderOptions = null;
+        this.yaml = DEFAULT_YAML;
+    }
+
+    /**
+     * Builds a new YAML mapper with the specified target type and custom
+     * {@link LoaderOptions}.
+     * <p>
+     * <strong>Note:</strong> The {@link LoaderOptions} must not be modified after this
+     * mapper is created.
+     *
+     * @param targetType    the target type to be produced by this {@code Mapper}
+     * @param loaderOptions the {@link LoaderOptions} to be applied; not null
+     * @since 2.7.0
+     */
+    public YAMLToObjectMapper(Class<T> targetType, LoaderOptions loaderOptions)
+    {
+        this.targetType = targetType;
+        this.loaderOptions = Objects.requireNonNull(loaderOptions, "the LoaderOptions must not be null");
+        this.yaml = new ObjectPool<>(() -> new Yaml(loaderOptions));
     }
 
     @Override
     public T apply(InputStream input) throws IOException
     {
-        Yaml yaml = new Yaml();
-        return yaml.loadAs(input, targetType);
+        return yaml.apply(instance -> instance.loadAs(input, targetType));
+    }
+
+    /**
+     * @return the custom {@link LoaderOptions} of this mapper, or {@code null} if the
+     *         default options apply
+     * @since 2.7.0
+     */
+    public LoaderOptions getLoaderOptions()
+    {
+        return loaderOptions;
+    }
+
+    /**
+     * @return a key composed of the mapper class, the target type and the
+     *         {@link LoaderOptions}
+     * @since 2.7.0
+     */
+    @Override
+    public Object getParseCacheKey()
+    {
+        return Arrays.asList(getClass(), targetType, loaderOptions);
     }
 
     @Override
@@ -16,16 +16,26 @@
 
 package net.obvj.confectory.mapper;
 
+import static net.obvj.junit.utils.matchers.AdvancedMatchers.throwsException;
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.error.YAMLException;
 
 import net.obvj.confectory.internal.helper.BeanConfigurationHelper;
+import net.obvj.confectory.testdrive.model.Address;
 import net.obvj.confectory.testdrive.model.Customer;
 
 /**
@@ -66,4 +76,66 @@ class YAMLToObjectMapperTest
     {
         assertThat(mapper.configurationHelper(new Customer()).getClass(), equalTo(BeanConfigurationHelper.class));
     }
+
+    @Test
+    void apply_concurrentThreads_allLoaded() throws Exception
+    {
+        List<CompletableFuture<String>> futures = IntStream.range(0, 32)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() ->
+                {
+                    try
+                    {
+                        return mapper.apply(toInputStream("firstName: name" + i + "\n")).getFirstName();
+                    }
+                    catch (IOException exception)
+                    {
+                        throw new UncheckedIOException(exception);
+                    }
+                }))
+                .collect(Collectors.toList());
+        for (int i = 0; i < futures.size(); i++)
+        {
+            assertThat(futures.get(i).get(), equalTo("name" + i));
+        }
+    }
+
+    @Test
+    void apply_afterFailure_yamlReusable() throws IOException
+    {
+        assertThat(() -> mapper.apply(toInputStream("firstName: [")), throwsException(YAMLException.class));
+        assertThat(mapper.apply(toInputStream(TEST_YAML_SAMPLE1)).getFirstName(), equalTo("John"));
+    }
+
+    @Test
+    void apply_yamlReused() throws IOException
+    {
+        assertThat(mapper.apply(toInputStream(TEST_YAML_SAMPLE1)).getFirstName(), equalTo("John"));
+        assertThat(mapper.apply(toInputStream("firstName: Mary\n")).getFirstName(), equalTo("Mary"));
+        assertThat(new YAMLToObjectMapper<>(Address.class).apply(toInputStream("line: line 2\n")).getLine(),
+                equalTo("line 2"));
+    }
+
+    @Test
+    void apply_customLoaderOptionsCodePointLimitExceeded_yamlException()
+    {
+        LoaderOptions options = new LoaderOptions();
+        options.setCodePointLimit(10);
+        YAMLToObjectMapper<Customer> mapper = new YAMLToObjectMapper<>(Customer.class, options);
+        assertThat(mapper.getLoaderOptions(), sameInstance(options));
+        assertThat(() -> mapper.apply(toInputStream(TEST_YAML_SAMPLE1)),
+                throwsException(YAMLException.class).withMessageContaining("code point"));
+    }
+
+    @Test
+    void getLoaderOptions_defaultConstructor_null()
+    {
+        assertThat(new YAMLToObjectMapper<>(Customer.class).getLoaderOptions(), equalTo(null));
+    }
+
+    @Test
+    void constructor_nullLoaderOptions_nullPointerException()
+    {
+        assertThat(() -> new YAMLToObjectMapper<>(Customer.class, null),
+                throwsException(NullPointerException.class).withMessage("the LoaderOptions must not be null"));
+    }
 }